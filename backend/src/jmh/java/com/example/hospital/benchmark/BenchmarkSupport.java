@@ -0,0 +1,119 @@
+package com.example.hospital.benchmark;
+
+import com.example.hospital.HospitalApplication;
+import com.example.hospital.service.HospitalGeoIndex;
+import com.example.hospital.service.HospitalSearchIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 공통 도구
+ * - @Value 필드 주입 대신 리플렉션으로 설정값 지정
+ * - 내장 H2(MySQL 호환 모드)로 애플리케이션을 띄우고 합성 병원 카탈로그 적재
+ */
+final class BenchmarkSupport {
+
+    static final String[] DEPARTMENTS = {
+            "내과", "외과", "정형외과", "신경과", "피부과", "안과", "이비인후과", "소아청소년과",
+            "산부인과", "비뇨의학과", "정신건강의학과", "재활의학과", "가정의학과", "치과", "한방과", "영상의학과"
+    };
+
+    static final String[] REGIONS = {
+            "서울특별시 강남구", "서울특별시 마포구", "서울특별시 송파구", "부산광역시 해운대구",
+            "대구광역시 수성구", "인천광역시 남동구", "광주광역시 서구", "대전광역시 유성구",
+            "경기도 성남시 분당구", "경기도 수원시 영통구"
+    };
+
+    static final String[] NAME_SUFFIXES = {"내과의원", "정형외과", "연합병원", "365의원", "튼튼병원", "메디컬센터"};
+
+    static final int DEPARTMENTS_PER_HOSPITAL = 3;
+
+    private BenchmarkSupport() {
+    }
+
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set field " + name, e);
+        }
+    }
+
+    /**
+     * H2로 애플리케이션 컨텍스트를 띄우고 병원 hospitals개를 적재한 뒤 검색/위치 색인을 다시 구성
+     * extraArgs는 벤치마크별 설정 (--이름=값)
+     */
+    static ConfigurableApplicationContext startWithCatalog(int hospitals, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:bench" + hospitals
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--hospital.notification.enabled=false",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(extraArgs));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HospitalApplication.class)
+                .run(args.toArray(new String[0]));
+
+        seedCatalog(context.getBean(JdbcTemplate.class), hospitals);
+        context.getBean(HospitalSearchIndex.class).rebuild();
+        context.getBean(HospitalGeoIndex.class).rebuild();
+        return context;
+    }
+
+    /**
+     * 합성 병원 카탈로그 (병원마다 진료과 DEPARTMENTS_PER_HOSPITAL개, 좌표는 국내 범위, 시드 고정)
+     */
+    static void seedCatalog(JdbcTemplate jdbcTemplate, int hospitals) {
+        Random random = new Random(42);
+
+        List<Object[]> departmentRows = new ArrayList<>();
+        for (String department : DEPARTMENTS) {
+            departmentRows.add(new Object[]{department});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO departments (name) VALUES (?)", departmentRows);
+
+        List<Object[]> hospitalRows = new ArrayList<>(hospitals);
+        for (int i = 1; i <= hospitals; i++) {
+            String region = REGIONS[random.nextInt(REGIONS.length)];
+            String name = region.substring(region.lastIndexOf(' ') + 1) + " "
+                    + NAME_SUFFIXES[random.nextInt(NAME_SUFFIXES.length)] + " " + i;
+            hospitalRows.add(new Object[]{
+                    i, name, region + " " + (i % 300 + 1) + "번길", "02-" + (1000 + i % 9000) + "-" + (1000 + i % 7919),
+                    randomLatitude(random), randomLongitude(random)
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO hospitals (id, name, address, phone, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?)",
+                hospitalRows);
+
+        List<Object[]> linkRows = new ArrayList<>(hospitals * DEPARTMENTS_PER_HOSPITAL);
+        for (int i = 1; i <= hospitals; i++) {
+            int first = random.nextInt(DEPARTMENTS.length);
+            for (int d = 0; d < DEPARTMENTS_PER_HOSPITAL; d++) {
+                linkRows.add(new Object[]{i, (first + d) % DEPARTMENTS.length + 1});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO hospital_departments (hospital_id, department_id) VALUES (?, ?)",
+                linkRows);
+    }
+
+    static double randomLatitude(Random random) {
+        return 34.8 + random.nextDouble() * 3.0;
+    }
+
+    static double randomLongitude(Random random) {
+        return 126.5 + random.nextDouble() * 3.0;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.hospital.benchmark;
+
+import com.example.hospital.event.HospitalChangedEvent;
+import com.example.hospital.service.HospitalGeoIndex;
+import com.example.hospital.service.HospitalGeoIndex.GeoMatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가까운 병원 검색 비용
+ * - indexed: 격자 색인 고리 확장 (현재 방식)
+ * - linearScan: 전체 병원 거리 계산 후 상위 limit개 (비교 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoBenchmark {
+
+    private static final int LIMIT = 20;
+    private static final double RADIUS_KM = 10;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    private int hospitals;
+
+    private HospitalGeoIndex index;
+    private double[] latitudes;
+    private double[] longitudes;
+    private double[] queryLatitudes;
+    private double[] queryLongitudes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        index = new HospitalGeoIndex();
+        BenchmarkSupport.setField(index, "enabled", true);
+        BenchmarkSupport.setField(index, "cellDegrees", 0.05);
+        BenchmarkSupport.setField(index, "ready", true);
+
+        Random random = new Random(42);
+        latitudes = new double[hospitals];
+        longitudes = new double[hospitals];
+        for (int i = 0; i < hospitals; i++) {
+            latitudes[i] = BenchmarkSupport.randomLatitude(random);
+            longitudes[i] = BenchmarkSupport.randomLongitude(random);
+            index.onHospitalChanged(new HospitalChangedEvent((long) i + 1, null, null, latitudes[i],
+                    longitudes[i], false));
+        }
+
+        queryLatitudes = new double[QUERY_COUNT];
+        queryLongitudes = new double[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryLatitudes[i] = BenchmarkSupport.randomLatitude(random);
+            queryLongitudes[i] = BenchmarkSupport.randomLongitude(random);
+        }
+    }
+
+    @Benchmark
+    public List<GeoMatch> indexed() {
+        int q = next++ & (QUERY_COUNT - 1);
+        return index.nearest(queryLatitudes[q], queryLongitudes[q], LIMIT, RADIUS_KM, null);
+    }
+
+    @Benchmark
+    public List<GeoMatch> linearScan() {
+        int q = next++ & (QUERY_COUNT - 1);
+        PriorityQueue<GeoMatch> best = new PriorityQueue<>(LIMIT + 1,
+                Comparator.comparingDouble(GeoMatch::distanceKm).reversed());
+        for (int i = 0; i < hospitals; i++) {
+            double distance = HospitalGeoIndex.distanceKm(queryLatitudes[q], queryLongitudes[q], latitudes[i],
+                    longitudes[i]);
+            if (distance <= RADIUS_KM) {
+                best.add(new GeoMatch((long) i + 1, distance));
+                if (best.size() > LIMIT) {
+                    best.poll();
+                }
+            }
+        }
+        List<GeoMatch> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(GeoMatch::distanceKm));
+        return result;
+    }
+}
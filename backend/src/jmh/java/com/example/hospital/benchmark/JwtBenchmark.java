@@ -0,0 +1,91 @@
+package com.example.hospital.benchmark;
+
+import com.example.hospital.domain.User;
+import com.example.hospital.security.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 비용
+ * - validateCached: 검증 캐시를 거치는 현재 필터 경로
+ * - validateSinglePass: 캐시 없이 미리 만든 파서로 한 번만 검증 (캐시 미스 비용)
+ * - validateUncached: 이전 필터 경로 그대로 (validateJwtToken 후 getUserNameFromJwtToken,
+ *   호출마다 키와 파서를 새로 만들어 서명을 두 번 검증)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "hospitalSecretKey2023ForSecurityJwtTokenGenerationAndValidation";
+
+    private JwtUtils jwtUtils;
+    private JwtParser uncachedParser;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        BenchmarkSupport.setField(jwtUtils, "jwtSecret", SECRET);
+        BenchmarkSupport.setField(jwtUtils, "jwtExpirationMs", 86400000);
+        BenchmarkSupport.setField(jwtUtils, "jwtCacheSize", 10000);
+        jwtUtils.init();
+
+        uncachedParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build();
+
+        user = User.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .password("unused")
+                .name("벤치마크")
+                .role(User.UserRole.PATIENT)
+                .build();
+        token = jwtUtils.generateJwtToken(user);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateJwtToken(user);
+    }
+
+    @Benchmark
+    public Claims validateCached() {
+        return jwtUtils.parseJwtClaims(token);
+    }
+
+    @Benchmark
+    public Claims validateSinglePass() {
+        return uncachedParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public String validateUncached() {
+        // validateJwtToken()
+        Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token);
+        // getUserNameFromJwtToken()
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.hospital.benchmark;
+
+import com.example.hospital.domain.Department;
+import com.example.hospital.domain.Doctor;
+import com.example.hospital.domain.Hospital;
+import com.example.hospital.domain.HospitalDepartment;
+import com.example.hospital.domain.Reservation;
+import com.example.hospital.domain.User;
+import com.example.hospital.dto.HospitalDto.HospitalListResponse;
+import com.example.hospital.dto.ReservationDto.ReservationListResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환과 JSON 직렬화 비용 (한 페이지 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappingBenchmark {
+
+    @Param({"20", "200"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<Reservation> reservations;
+    private List<Hospital> hospitals;
+
+    @Setup
+    public void setUp() {
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < BenchmarkSupport.DEPARTMENTS.length; i++) {
+            departments.add(Department.builder().id((long) i + 1).name(BenchmarkSupport.DEPARTMENTS[i]).build());
+        }
+
+        hospitals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            List<HospitalDepartment> links = new ArrayList<>();
+            Hospital hospital = Hospital.builder()
+                    .id((long) i + 1)
+                    .name("강남구 연합병원 " + i)
+                    .address("서울특별시 강남구 " + i + "번길")
+                    .phone("02-1234-5678")
+                    .latitude(37.5)
+                    .longitude(127.0)
+                    .hospitalDepartments(links)
+                    .build();
+            for (int d = 0; d < BenchmarkSupport.DEPARTMENTS_PER_HOSPITAL; d++) {
+                links.add(HospitalDepartment.builder()
+                        .hospital(hospital)
+                        .department(departments.get((i + d) % departments.size()))
+                        .build());
+            }
+            hospitals.add(hospital);
+        }
+
+        User user = User.builder().id(1L).email("bench@example.com").password("unused").name("벤치마크")
+                .role(User.UserRole.PATIENT).build();
+        LocalDate today = LocalDate.now();
+
+        reservations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Hospital hospital = hospitals.get(i);
+            Department department = hospital.getHospitalDepartments().get(0).getDepartment();
+            reservations.add(Reservation.builder()
+                    .id((long) i + 1)
+                    .user(user)
+                    .hospital(hospital)
+                    .department(department)
+                    .doctor(Doctor.builder().id((long) i + 1).name("의사" + i).hospital(hospital)
+                            .department(department).build())
+                    .reservationDate(today.plusDays(i % 30))
+                    .reservationTime(LocalTime.of(9 + i % 9, (i % 2) * 30))
+                    .reason("정기 검진")
+                    .status(Reservation.ReservationStatus.REQUESTED)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public ReservationListResponse reservationMapping() {
+        return ReservationListResponse.fromEntities(reservations);
+    }
+
+    @Benchmark
+    public byte[] reservationMappingAndJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ReservationListResponse.fromEntities(reservations));
+    }
+
+    @Benchmark
+    public HospitalListResponse hospitalMapping() {
+        return HospitalListResponse.fromEntities(hospitals);
+    }
+
+    @Benchmark
+    public byte[] hospitalMappingAndJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(HospitalListResponse.fromEntities(hospitals));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.hospital.benchmark;
+
+import com.example.hospital.repository.HospitalRepository;
+import com.example.hospital.repository.HospitalRepository.HospitalDepartmentView;
+import com.example.hospital.service.HospitalService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 메트릭 수집 오버헤드 비교 (같은 조회를 메트릭 설정만 바꿔 측정)
+ * - off: hospital.* 타이머 비활성 (TimedAspect는 그대로 거치지만 no-op 미터에 기록), Hibernate 통계 끔
+ * - timers: @Timed 서비스 타이머(히스토그램 포함) 기록, Hibernate 통계 끔 (운영 기본값)
+ * - statistics: timers + hibernate.generate_statistics=true
+ * listPage는 @Timed 서비스 경로(쿼리 3개), departmentViews는 타이머 없이 쿼리 1개만 실행해 통계 비용만 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MetricsOverheadBenchmark {
+
+    private static final int HOSPITALS = 10000;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"off", "timers", "statistics"})
+    private String metrics;
+
+    private ConfigurableApplicationContext context;
+    private HospitalService hospitalService;
+    private HospitalRepository hospitalRepository;
+    private List<Long> pageIds;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkSupport.startWithCatalog(HOSPITALS,
+                "--management.metrics.enable.hospital=" + !"off".equals(metrics),
+                "--spring.jpa.properties.hibernate.generate_statistics=" + "statistics".equals(metrics));
+        hospitalService = context.getBean(HospitalService.class);
+        hospitalRepository = context.getBean(HospitalRepository.class);
+        pageIds = LongStream.rangeClosed(1, PAGE_SIZE).boxed().collect(Collectors.toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object listPage() {
+        return hospitalService.getAllHospitals(null, PAGE_SIZE, false, null);
+    }
+
+    @Benchmark
+    public List<HospitalDepartmentView> departmentViews() {
+        return hospitalRepository.findDepartmentViewsByHospitalIds(pageIds);
+    }
+}
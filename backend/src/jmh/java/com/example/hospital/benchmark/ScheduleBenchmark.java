@@ -0,0 +1,114 @@
+package com.example.hospital.benchmark;
+
+import com.example.hospital.dto.ScheduleDto.OverrideRequest;
+import com.example.hospital.dto.ScheduleDto.TimeRange;
+import com.example.hospital.dto.ScheduleDto.WeeklyScheduleRequest;
+import com.example.hospital.dto.ScheduleDto.WorkingHours;
+import com.example.hospital.service.AvailabilityService;
+import com.example.hospital.service.DoctorScheduleService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 병원 소속 의사 전체의 한 달치 예약 슬롯 조회 비용 (AvailabilityService.getDoctorSlots를 의사마다 호출)
+ * - scheduled=true: 의사마다 주간 시간표와 예외일(휴진 2일, 단축 진료 2일)이 있어 DoctorSlotSchedule로 펼침
+ * - scheduled=false: 시간표가 없어 기본 진료 시간(09:00~18:00)으로 펼침 (시간표 도입 전과 같은 경로, 비교 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleBenchmark {
+
+    private static final long HOSPITAL_ID = 1L;
+    private static final long DEPARTMENT_ID = 1L;
+    private static final LocalDate FROM = LocalDate.of(2030, 1, 1);
+    private static final LocalDate TO = FROM.plusMonths(1).minusDays(1);
+
+    @Param({"10", "50"})
+    private int doctors;
+
+    @Param({"true", "false"})
+    private boolean scheduled;
+
+    private ConfigurableApplicationContext context;
+    private AvailabilityService availabilityService;
+    private List<Long> doctorIds;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkSupport.startWithCatalog(100);
+        availabilityService = context.getBean(AvailabilityService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        DoctorScheduleService doctorScheduleService = context.getBean(DoctorScheduleService.class);
+
+        doctorIds = new ArrayList<>(doctors);
+        for (int i = 0; i < doctors; i++) {
+            jdbcTemplate.update("INSERT INTO doctors (hospital_id, department_id, name) VALUES (?, ?, ?)",
+                    HOSPITAL_ID, DEPARTMENT_ID, "의사" + i);
+            Long doctorId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM doctors", Long.class);
+            doctorIds.add(doctorId);
+            if (scheduled) {
+                doctorScheduleService.saveSchedule(doctorId, weeklySchedule());
+                for (int d = 0; d < 4; d++) {
+                    doctorScheduleService.saveOverride(doctorId, OverrideRequest.builder()
+                            .date(FROM.plusDays(3 + i % 5 + d * 7).toString())
+                            .hours(d % 2 == 0 ? List.of() : List.of(range("09:00", "13:00")))
+                            .reason("학회")
+                            .build());
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void hospitalMonth(Blackhole blackhole) {
+        String from = FROM.toString();
+        String to = TO.toString();
+        for (Long doctorId : doctorIds) {
+            blackhole.consume(availabilityService.getDoctorSlots(HOSPITAL_ID, DEPARTMENT_ID, doctorId, from, to));
+        }
+    }
+
+    // 평일 09:00~12:00, 13:00~18:00, 토요일 09:00~13:00 (30분 슬롯)
+    private WeeklyScheduleRequest weeklySchedule() {
+        List<WorkingHours> hours = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.getValue() <= 5) {
+                hours.add(hours(day, "09:00", "12:00"));
+                hours.add(hours(day, "13:00", "18:00"));
+            } else if (day == DayOfWeek.SATURDAY) {
+                hours.add(hours(day, "09:00", "13:00"));
+            }
+        }
+        return WeeklyScheduleRequest.builder().slotMinutes(30).hours(hours).build();
+    }
+
+    private WorkingHours hours(DayOfWeek day, String start, String end) {
+        return WorkingHours.builder().dayOfWeek(day.name()).start(start).end(end).build();
+    }
+
+    private TimeRange range(String start, String end) {
+        return TimeRange.builder().start(start).end(end).build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.hospital.benchmark;
+
+import com.example.hospital.dto.HospitalDto.HospitalListResponse;
+import com.example.hospital.dto.HospitalDto.SearchRequest;
+import com.example.hospital.service.HospitalService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HospitalService.searchHospitals 종단 비용 (색인 + 내장 DB 조회 + DTO 변환)
+ * 카탈로그 크기별로 애플리케이션을 한 번씩 띄워 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int hospitals;
+
+    private ConfigurableApplicationContext context;
+    private HospitalService hospitalService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkSupport.startWithCatalog(hospitals);
+        hospitalService = context.getBean(HospitalService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public HospitalListResponse firstPage() {
+        return hospitalService.searchHospitals(SearchRequest.builder().build());
+    }
+
+    @Benchmark
+    public HospitalListResponse byName() {
+        return hospitalService.searchHospitals(SearchRequest.builder().name("연합").build());
+    }
+
+    @Benchmark
+    public HospitalListResponse byAddress() {
+        return hospitalService.searchHospitals(SearchRequest.builder().address("강남구").build());
+    }
+
+    @Benchmark
+    public HospitalListResponse byNameAndDepartment() {
+        return hospitalService.searchHospitals(SearchRequest.builder().name("병원").departmentName("정형외과").build());
+    }
+
+    @Benchmark
+    public HospitalListResponse byNameWithCount() {
+        return hospitalService.searchHospitals(SearchRequest.builder().name("의원").includeCount(true).build());
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.hospital.benchmark;
+
+import com.example.hospital.domain.Hospital;
+import com.example.hospital.repository.HospitalRepository;
+import com.example.hospital.repository.HospitalSpecifications;
+import com.example.hospital.service.RatingAggregateService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 병원 DB 검색 쿼리 비교 (검색 색인을 거치지 않는 저장소 경로)
+ * - criteria: HospitalSpecifications 조합 + Criteria 쿼리 (현재 구현)
+ * - fixed: 조건 조합별 고정 JPQL (조건 조합 검색 도입 전 HospitalRepository 메서드와 같은 쿼리),
+ *   평점순은 null 조건을 쿼리 안에서 거르는 이전 findOrderByRating/countForRatingSearch JPQL
+ * 두 경로 모두 서비스와 같이 호출마다 읽기 전용 트랜잭션 하나에서 Spring 공유 EntityManager로 실행
+ * 모든 조건 조합(filter)과 정렬(sort)에 대해 첫 페이지(+1건) 조회와, withCount이면 전체 건수 조회까지 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchQueryBenchmark {
+
+    private static final String NAME = "연합";
+    private static final String ADDRESS = "강남구";
+    private static final String DEPARTMENT = "정형외과";
+    private static final int PAGE_SIZE = 50;
+
+    private static final String FIXED_RATING_CONDITION = "(:name IS NULL OR h.name LIKE CONCAT('%', :name, '%')) " +
+            "AND (:address IS NULL OR h.address LIKE CONCAT('%', :address, '%')) " +
+            "AND (:departmentName IS NULL OR EXISTS (SELECT hd.id FROM HospitalDepartment hd " +
+            "WHERE hd.hospital = h AND hd.department.name = :departmentName)) ";
+
+    @Param({"10000", "50000"})
+    private int hospitals;
+
+    // 조건 조합: n(병원명), a(주소), d(진료과목)
+    @Param({"none", "n", "a", "d", "na", "nd", "ad", "nad"})
+    private String filter;
+
+    @Param({"id", "rating"})
+    private String sort;
+
+    @Param({"false", "true"})
+    private boolean withCount;
+
+    private ConfigurableApplicationContext context;
+    private HospitalRepository hospitalRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+
+    private String name;
+    private String address;
+    private String departmentName;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkSupport.startWithCatalog(hospitals);
+        seedRatings(context.getBean(JdbcTemplate.class), hospitals);
+        context.getBean(RatingAggregateService.class).createMissingSummaries();
+        hospitalRepository = context.getBean(HospitalRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        name = filter.contains("n") ? NAME : null;
+        address = filter.contains("a") ? ADDRESS : null;
+        departmentName = filter.contains("d") ? DEPARTMENT : null;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void criteria(Blackhole blackhole) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            Specification<Hospital> spec = Specification.where(null);
+            if (name != null) {
+                spec = spec.and(HospitalSpecifications.nameContains(name));
+            }
+            if (address != null) {
+                spec = spec.and(HospitalSpecifications.addressContains(address));
+            }
+            if (departmentName != null) {
+                spec = spec.and(HospitalSpecifications.hasDepartment(departmentName));
+            }
+
+            if ("rating".equals(sort)) {
+                blackhole.consume(hospitalRepository.searchOrderByRating(spec, Double.MAX_VALUE, Long.MAX_VALUE,
+                        PAGE_SIZE + 1));
+            } else {
+                blackhole.consume(hospitalRepository.searchOrderById(
+                        spec.and(HospitalSpecifications.idGreaterThan(0L)), PAGE_SIZE + 1));
+            }
+            if (withCount) {
+                blackhole.consume(hospitalRepository.countMatching(spec));
+            }
+        });
+    }
+
+    @Benchmark
+    public void fixed(Blackhole blackhole) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            if ("rating".equals(sort)) {
+                fixedRating(blackhole);
+            } else {
+                fixedById(blackhole);
+            }
+        });
+    }
+
+    private void fixedById(Blackhole blackhole) {
+        String from = departmentName != null
+                ? "FROM Hospital h JOIN h.hospitalDepartments hd JOIN hd.department d WHERE d.name = :departmentName"
+                : "FROM Hospital h WHERE 1 = 1";
+        StringBuilder where = new StringBuilder();
+        if (name != null) {
+            where.append(" AND h.name LIKE :name");
+        }
+        if (address != null) {
+            where.append(" AND h.address LIKE :address");
+        }
+        String select = departmentName != null ? "SELECT DISTINCT h " : "SELECT h ";
+        String count = departmentName != null ? "SELECT COUNT(DISTINCT h) " : "SELECT COUNT(h) ";
+
+        TypedQuery<Hospital> page = entityManager.createQuery(
+                select + from + where + " AND h.id > :afterId ORDER BY h.id", Hospital.class);
+        bind(page, 0L);
+        blackhole.consume(page.setMaxResults(PAGE_SIZE + 1).getResultList());
+
+        if (withCount) {
+            TypedQuery<Long> total = entityManager.createQuery(count + from + where, Long.class);
+            bind(total, null);
+            blackhole.consume(total.getSingleResult());
+        }
+    }
+
+    private void fixedRating(Blackhole blackhole) {
+        TypedQuery<Hospital> page = entityManager.createQuery("SELECT h FROM Hospital h " +
+                "JOIN HospitalRatingSummary s ON s.hospitalId = h.id WHERE " + FIXED_RATING_CONDITION +
+                "AND (s.averageRating < :afterRating OR " +
+                "(s.averageRating = :afterRating AND s.hospitalId < :afterId)) " +
+                "ORDER BY s.averageRating DESC, s.hospitalId DESC", Hospital.class);
+        bindNullable(page);
+        page.setParameter("afterRating", Double.MAX_VALUE);
+        page.setParameter("afterId", Long.MAX_VALUE);
+        blackhole.consume(page.setMaxResults(PAGE_SIZE + 1).getResultList());
+
+        if (withCount) {
+            TypedQuery<Long> total = entityManager.createQuery(
+                    "SELECT COUNT(h) FROM Hospital h WHERE " + FIXED_RATING_CONDITION, Long.class);
+            bindNullable(total);
+            blackhole.consume(total.getSingleResult());
+        }
+    }
+
+    private void bind(TypedQuery<?> query, Long afterId) {
+        if (departmentName != null) {
+            query.setParameter("departmentName", departmentName);
+        }
+        if (name != null) {
+            query.setParameter("name", "%" + name + "%");
+        }
+        if (address != null) {
+            query.setParameter("address", "%" + address + "%");
+        }
+        if (afterId != null) {
+            query.setParameter("afterId", afterId);
+        }
+    }
+
+    private void bindNullable(TypedQuery<?> query) {
+        query.setParameter("name", name);
+        query.setParameter("address", address);
+        query.setParameter("departmentName", departmentName);
+    }
+
+    // 병원 절반에 리뷰 평점 집계 (나머지는 리뷰 없음, 0건 집계 행은 서비스가 채움, 시드 고정)
+    private static void seedRatings(JdbcTemplate jdbcTemplate, int hospitals) {
+        Random random = new Random(7);
+        List<Object[]> rows = new ArrayList<>(hospitals / 2);
+        for (int i = 1; i <= hospitals; i += 2) {
+            long[] counts = new long[5];
+            int reviews = 1 + random.nextInt(40);
+            long sum = 0;
+            for (int r = 0; r < reviews; r++) {
+                int rating = 1 + random.nextInt(5);
+                counts[rating - 1]++;
+                sum += rating;
+            }
+            rows.add(new Object[]{i, reviews, sum, counts[0], counts[1], counts[2], counts[3], counts[4],
+                    (double) sum / reviews});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO hospital_rating_summaries (hospital_id, review_count, rating_sum, " +
+                "rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, average_rating) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+}
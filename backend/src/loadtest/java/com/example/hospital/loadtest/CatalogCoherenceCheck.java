@@ -0,0 +1,99 @@
+package com.example.hospital.loadtest;
+
+import com.example.hospital.domain.Hospital;
+import com.example.hospital.repository.HospitalRepository;
+import com.example.hospital.service.CatalogCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트래픽 도중 병원 정보를 DB에서 직접 수정하고 캐시 무효화 후 최신 값이 읽히는지 확인
+ * - 수정 전 조회로 캐시를 채운 뒤 수정 -> 무효화 -> 재조회하여 이전 값이 보이면 stale로 집계
+ */
+final class CatalogCoherenceCheck implements Runnable {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCoherenceCheck.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final HospitalRepository hospitalRepository;
+    private final CatalogCacheService catalogCacheService;
+    private final LoadTestConfig config;
+
+    private final AtomicLong edits = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+
+    private volatile boolean running = true;
+    private Thread thread;
+
+    CatalogCoherenceCheck(ConfigurableApplicationContext context, LoadTestConfig config) {
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+        this.hospitalRepository = context.getBean(HospitalRepository.class);
+        this.catalogCacheService = context.getBean(CatalogCacheService.class);
+        this.config = config;
+    }
+
+    void start() {
+        if (config.catalogEditIntervalMs <= 0) {
+            return;
+        }
+        thread = new Thread(this, "catalog-coherence-check");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    Map<String, Object> stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.join();
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("edits", edits.get());
+        result.put("stale", stale.get());
+        return result;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                editOnce();
+                Thread.sleep(config.catalogEditIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.warn("Catalog edit failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void editOnce() {
+        long hospitalId = 1 + ThreadLocalRandom.current().nextInt(config.hospitals);
+        String phone = "010-" + (edits.incrementAndGet() % 10000) + "-" + ThreadLocalRandom.current().nextInt(10000);
+
+        readPhone(hospitalId);
+        jdbcTemplate.update("UPDATE hospitals SET phone = ? WHERE id = ?", phone, hospitalId);
+        catalogCacheService.evictHospital(hospitalId);
+
+        String read = readPhone(hospitalId);
+        if (!phone.equals(read)) {
+            stale.incrementAndGet();
+            logger.warn("Stale hospital {} after eviction: expected {}, read {}", hospitalId, phone, read);
+        }
+    }
+
+    private String readPhone(long hospitalId) {
+        return transactionTemplate.execute(status -> hospitalRepository.findById(hospitalId)
+                .map(Hospital::getPhone)
+                .orElse(null));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.hospital.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 지연 시간 기록 (전체 표본을 보관해 정확한 백분위수 계산)
+ */
+final class LatencyStats {
+
+    private final String endpoint;
+
+    private long[] samples = new long[4096];
+    private int count;
+    private long ok;
+    private long rejected; // 예약 경합 등 예상된 4xx
+    private long errors;
+
+    LatencyStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    synchronized void record(long nanos, Outcome outcome) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        switch (outcome) {
+            case OK -> ok++;
+            case REJECTED -> rejected++;
+            case ERROR -> errors++;
+        }
+    }
+
+    synchronized Map<String, Object> summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("endpoint", endpoint);
+        summary.put("count", count);
+        summary.put("ok", ok);
+        summary.put("rejected", rejected);
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", round(count / seconds));
+        summary.put("p50Ms", millis(percentile(sorted, 0.50)));
+        summary.put("p90Ms", millis(percentile(sorted, 0.90)));
+        summary.put("p99Ms", millis(percentile(sorted, 0.99)));
+        summary.put("maxMs", millis(sorted.length > 0 ? sorted[sorted.length - 1] : 0));
+        return summary;
+    }
+
+    private long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    enum Outcome {
+        OK, REJECTED, ERROR
+    }
+}
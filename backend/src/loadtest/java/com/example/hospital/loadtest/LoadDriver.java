@@ -0,0 +1,310 @@
+package com.example.hospital.loadtest;
+
+import com.example.hospital.loadtest.LatencyStats.Outcome;
+import com.example.hospital.loadtest.LoadTestSeeder.DoctorRef;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 혼합 트래픽 생성기
+ * - 로그인, 병원 검색, 예약 가능 시간 조회, 예약 생성(인기 의사 슬롯 경합 포함), 예약 이력 조회를 가중치 비율로 호출
+ * - 측정 동안 알림 스트림(SSE) 연결을 열어 두어 구독자가 다른 요청 지연에 주는 영향을 함께 측정
+ *   (구독자는 로그인 사용자 토큰을 돌려 쓰므로 측정 중 예약 알림이 발송되어 스트림으로 전달됨)
+ */
+final class LoadDriver {
+    private static final Logger logger = LoggerFactory.getLogger(LoadDriver.class);
+
+    private static final String[] SEARCH_NAMES = {"연합", "의원", "튼튼", "메디컬", "강남", "365"};
+    private static final String[] SEARCH_ADDRESSES = {"강남구", "해운대구", "분당구", "서구", "번길"};
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final List<DoctorRef> doctors;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+
+    private final List<String> tokens = new ArrayList<>();
+    private final Map<String, LatencyStats> stats = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+
+    LoadDriver(LoadTestConfig config, String baseUrl, List<DoctorRef> doctors) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.doctors = doctors;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, config.threads / 4)))
+                .build();
+    }
+
+    /**
+     * 토큰 확보 -> 워밍업 -> SSE 구독자 연결 -> 측정, 엔드포인트별 결과 반환
+     */
+    Map<String, Object> run() throws Exception {
+        acquireTokens();
+
+        logger.info("Warming up for {} s", config.warmupSeconds);
+        drive(config.warmupSeconds);
+
+        List<HttpResponse<Stream<String>>> subscribers = new ArrayList<>();
+        Map<String, Object> sse = openSubscribers(subscribers);
+
+        logger.info("Measuring for {} s with {} threads", config.durationSeconds, config.threads);
+        stats.clear();
+        recording = true;
+        long start = System.nanoTime();
+        drive(config.durationSeconds);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        recording = false;
+
+        for (HttpResponse<Stream<String>> subscriber : subscribers) {
+            subscriber.body().close();
+        }
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        stats.values().stream()
+                .map(endpointStats -> endpointStats.summarize(seconds))
+                .sorted((a, b) -> a.get("endpoint").toString().compareTo(b.get("endpoint").toString()))
+                .forEach(endpoints::add);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("measuredSeconds", Math.round(seconds * 100) / 100.0);
+        result.put("endpoints", endpoints);
+        result.put("sse", sse);
+        return result;
+    }
+
+    // 측정용 사용자 토큰을 병렬 로그인으로 확보 (BCrypt 비용이 크므로 스레드 수만큼 동시 실행)
+    private void acquireTokens() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(config.threads);
+        Map<Integer, String> acquired = new ConcurrentHashMap<>();
+        for (int i = 1; i <= config.loginUsers; i++) {
+            int userId = i;
+            executor.execute(() -> {
+                try {
+                    String token = login(userId);
+                    if (token != null) {
+                        acquired.put(userId, token);
+                    }
+                } catch (Exception e) {
+                    logger.warn("Login failed for user {}: {}", userId, e.getMessage());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+
+        tokens.addAll(acquired.values());
+        if (tokens.isEmpty()) {
+            throw new IllegalStateException("로그인에 성공한 사용자가 없습니다.");
+        }
+        logger.info("Acquired {} tokens", tokens.size());
+    }
+
+    private void drive(int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService workers = Executors.newFixedThreadPool(config.threads);
+        for (int i = 0; i < config.threads; i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    try {
+                        step();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        // 연결 실패 등은 step 안에서 오류로 기록됨
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+    }
+
+    private void step() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int total = config.loginWeight + config.searchWeight + config.slotsWeight + config.bookWeight
+                + config.historyWeight;
+        int pick = random.nextInt(total);
+
+        if ((pick -= config.loginWeight) < 0) {
+            timed("POST /api/auth/signin", false, () -> signinRequest(1 + random.nextInt(config.users)));
+        } else if ((pick -= config.searchWeight) < 0) {
+            timed("GET /api/hospitals/search", false, () -> searchRequest(random));
+        } else if ((pick -= config.slotsWeight) < 0) {
+            timed("GET /api/hospitals/{id}/.../slots", false, () -> slotsRequest(random));
+        } else if ((pick -= config.bookWeight) < 0) {
+            timed("POST /api/reservations", true, () -> bookRequest(random));
+        } else {
+            timed("GET /api/reservations", false, () -> get("/api/reservations?size=20", randomToken(random)));
+        }
+    }
+
+    private HttpRequest searchRequest(ThreadLocalRandom random) {
+        StringBuilder query = new StringBuilder("/api/hospitals/search?size=20");
+        if (random.nextBoolean()) {
+            query.append("&name=").append(encode(SEARCH_NAMES[random.nextInt(SEARCH_NAMES.length)]));
+        } else {
+            query.append("&address=").append(encode(SEARCH_ADDRESSES[random.nextInt(SEARCH_ADDRESSES.length)]));
+        }
+        if (random.nextInt(4) == 0) {
+            query.append("&departmentName=")
+                    .append(encode(LoadTestSeeder.DEPARTMENTS[random.nextInt(LoadTestSeeder.DEPARTMENTS.length)]));
+        }
+        return get(query.toString(), null);
+    }
+
+    private HttpRequest slotsRequest(ThreadLocalRandom random) {
+        DoctorRef doctor = doctors.get(random.nextInt(doctors.size()));
+        LocalDate from = LocalDate.now().plusDays(1);
+        return get("/api/hospitals/" + doctor.hospitalId() + "/departments/" + doctor.departmentId()
+                + "/doctors/" + doctor.id() + "/slots?from=" + from + "&to=" + from.plusDays(6), null);
+    }
+
+    // 절반은 인기 의사의 가까운 날짜 슬롯을 노려 같은 슬롯 경합을 만들고, 나머지는 전체 의사에 분산
+    private HttpRequest bookRequest(ThreadLocalRandom random) throws IOException {
+        boolean hot = random.nextBoolean();
+        DoctorRef doctor = doctors.get(random.nextInt(hot ? config.hotDoctors : doctors.size()));
+        LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(hot ? 3 : 60));
+        LocalTime time = LocalTime.of(9 + random.nextInt(9), random.nextBoolean() ? 0 : 30);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("hospitalId", doctor.hospitalId());
+        body.put("departmentId", doctor.departmentId());
+        body.put("doctorId", doctor.id());
+        body.put("reservationDate", date.toString());
+        body.put("reservationTime", String.format("%02d:%02d", time.getHour(), time.getMinute()));
+        body.put("reason", "부하 테스트");
+        return post("/api/reservations", objectMapper.writeValueAsString(body), randomToken(random));
+    }
+
+    private HttpRequest signinRequest(int userId) throws IOException {
+        Map<String, Object> body = Map.of("email", LoadTestSeeder.email(userId), "password", LoadTestSeeder.PASSWORD);
+        return post("/api/auth/signin", objectMapper.writeValueAsString(body), null);
+    }
+
+    private String login(int userId) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(signinRequest(userId), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            return null;
+        }
+        JsonNode json = objectMapper.readTree(response.body());
+        return json.path("token").asText(null);
+    }
+
+    /**
+     * 알림 스트림 구독자 연결 (사용자당 연결 수 제한이 있으므로 토큰을 돌아가며 사용)
+     */
+    private Map<String, Object> openSubscribers(List<HttpResponse<Stream<String>>> subscribers) {
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<HttpResponse<Stream<String>>>> pending = new ArrayList<>();
+        for (int i = 0; i < config.sseSubscribers; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/notifications/stream"))
+                    .header("Authorization", "Bearer " + tokens.get(i % tokens.size()))
+                    .header("Accept", "text/event-stream")
+                    .GET()
+                    .build();
+            pending.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofLines()));
+        }
+
+        for (CompletableFuture<HttpResponse<Stream<String>>> future : pending) {
+            try {
+                HttpResponse<Stream<String>> response = future.get(30, TimeUnit.SECONDS);
+                if (response.statusCode() == 200) {
+                    subscribers.add(response);
+                } else {
+                    response.body().close();
+                    failed.incrementAndGet();
+                }
+            } catch (Exception e) {
+                failed.incrementAndGet();
+            }
+        }
+
+        logger.info("Opened {} notification streams ({} failed)", subscribers.size(), failed.get());
+        Map<String, Object> sse = new LinkedHashMap<>();
+        sse.put("requested", config.sseSubscribers);
+        sse.put("connected", subscribers.size());
+        sse.put("failed", failed.get());
+        return sse;
+    }
+
+    private void timed(String endpoint, boolean rejectable, RequestFactory factory) throws Exception {
+        HttpRequest request = factory.create();
+        long start = System.nanoTime();
+        Outcome outcome;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            int status = response.statusCode();
+            outcome = status >= 200 && status < 300 ? Outcome.OK
+                    : rejectable && status == 400 ? Outcome.REJECTED : Outcome.ERROR;
+        } catch (IOException e) {
+            outcome = Outcome.ERROR;
+        }
+        if (recording) {
+            stats.computeIfAbsent(endpoint, LatencyStats::new).record(System.nanoTime() - start, outcome);
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, String json, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private String randomToken(ThreadLocalRandom random) {
+        return tokens.get(random.nextInt(tokens.size()));
+    }
+
+    private String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest create() throws Exception;
+    }
+}
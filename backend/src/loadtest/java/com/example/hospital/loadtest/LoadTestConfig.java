@@ -0,0 +1,87 @@
+package com.example.hospital.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (--key=value 인자)
+ */
+final class LoadTestConfig {
+
+    // 합성 데이터 규모
+    final int hospitals;
+    final int doctorsPerHospital;
+    final int users;
+    final int reservations;
+
+    // 트래픽
+    final int loginUsers; // 미리 로그인해 토큰을 확보할 사용자 수
+    final int threads;
+    final int warmupSeconds;
+    final int durationSeconds;
+    final int sseSubscribers; // 측정 동안 열어 두는 알림 스트림 수 (예약 알림을 전달받음)
+    final int hotDoctors; // 예약 경합을 일으킬 인기 의사 수
+    final int catalogEditIntervalMs; // 트래픽 중 병원 정보 직접 수정 주기 (0이면 캐시 일관성 검사 안 함)
+
+    // 요청 비율 (가중치)
+    final int loginWeight;
+    final int searchWeight;
+    final int slotsWeight;
+    final int bookWeight;
+    final int historyWeight;
+
+    final String reportFile;
+
+    private LoadTestConfig(Map<String, String> values) {
+        hospitals = intValue(values, "hospitals", 5000);
+        doctorsPerHospital = intValue(values, "doctors-per-hospital", 2);
+        users = intValue(values, "users", 10000);
+        reservations = intValue(values, "reservations", 1000000);
+        loginUsers = Math.min(intValue(values, "login-users", 500), users);
+        threads = intValue(values, "threads", 32);
+        warmupSeconds = intValue(values, "warmup-seconds", 10);
+        durationSeconds = intValue(values, "duration-seconds", 60);
+        sseSubscribers = intValue(values, "sse-subscribers", 1000);
+        hotDoctors = Math.min(intValue(values, "hot-doctors", 5), hospitals * doctorsPerHospital);
+        catalogEditIntervalMs = intValue(values, "catalog-edit-interval-ms", 200);
+        loginWeight = intValue(values, "login-weight", 5);
+        searchWeight = intValue(values, "search-weight", 40);
+        slotsWeight = intValue(values, "slots-weight", 20);
+        bookWeight = intValue(values, "book-weight", 15);
+        historyWeight = intValue(values, "history-weight", 20);
+        reportFile = values.get("report-file");
+    }
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestConfig(values);
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("hospitals", hospitals);
+        map.put("doctorsPerHospital", doctorsPerHospital);
+        map.put("users", users);
+        map.put("reservations", reservations);
+        map.put("loginUsers", loginUsers);
+        map.put("threads", threads);
+        map.put("warmupSeconds", warmupSeconds);
+        map.put("durationSeconds", durationSeconds);
+        map.put("sseSubscribers", sseSubscribers);
+        map.put("hotDoctors", hotDoctors);
+        map.put("catalogEditIntervalMs", catalogEditIntervalMs);
+        return map;
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+}
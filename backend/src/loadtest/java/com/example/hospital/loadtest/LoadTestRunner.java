@@ -0,0 +1,87 @@
+package com.example.hospital.loadtest;
+
+import com.example.hospital.HospitalApplication;
+import com.example.hospital.loadtest.LoadTestSeeder.DoctorRef;
+import com.example.hospital.service.HospitalGeoIndex;
+import com.example.hospital.service.HospitalSearchIndex;
+import com.example.hospital.service.RatingAggregateService;
+import com.example.hospital.service.SlotOccupancyIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행기
+ * - loadtest 프로필(내장 H2)로 애플리케이션을 띄우고 합성 데이터를 적재한 뒤 혼합 트래픽으로 측정
+ * - 외부 DB/네트워크 없이 한 대의 장비에서 실행 (./gradlew loadTest)
+ */
+public final class LoadTestRunner {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HospitalApplication.class)
+                .profiles("loadtest")
+                .run();
+        try {
+            long seedStart = System.nanoTime();
+            List<DoctorRef> doctors = new LoadTestSeeder(context.getBean(JdbcTemplate.class),
+                    context.getBean(PasswordEncoder.class), config).seed();
+
+            // 기동 시 구성된 메모리 색인과 평점 집계 행은 빈 DB 기준이므로 적재 후 다시 구성
+            context.getBean(RatingAggregateService.class).createMissingSummaries();
+            context.getBean(HospitalSearchIndex.class).rebuild();
+            context.getBean(HospitalGeoIndex.class).rebuild();
+            context.getBean(SlotOccupancyIndex.class).warmUp();
+            double seedSeconds = (System.nanoTime() - seedStart) / 1e9;
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("config", config.toMap());
+            result.put("seedSeconds", Math.round(seedSeconds * 100) / 100.0);
+
+            CatalogCoherenceCheck coherenceCheck = new CatalogCoherenceCheck(context, config);
+            coherenceCheck.start();
+            result.putAll(new LoadDriver(config, "http://localhost:" + port, doctors).run());
+            result.put("catalogCoherence", coherenceCheck.stop());
+
+            printReport(result);
+            if (config.reportFile != null) {
+                File file = new File(config.reportFile);
+                file.getParentFile().mkdirs();
+                new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, result);
+                logger.info("Report written to {}", file.getAbsolutePath());
+            }
+        } finally {
+            context.close();
+        }
+        System.exit(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printReport(Map<String, Object> result) {
+        System.out.printf("%n%-36s %9s %8s %8s %8s %10s %9s %9s %9s%n", "endpoint", "count", "ok", "rejected",
+                "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+        for (Map<String, Object> row : (List<Map<String, Object>>) result.get("endpoints")) {
+            System.out.printf("%-36s %9s %8s %8s %8s %10s %9s %9s %9s%n", row.get("endpoint"), row.get("count"),
+                    row.get("ok"), row.get("rejected"), row.get("errors"), row.get("throughputPerSecond"),
+                    row.get("p50Ms"), row.get("p99Ms"), row.get("maxMs"));
+        }
+        System.out.println("sse: " + result.get("sse") + ", catalog coherence: " + result.get("catalogCoherence")
+                + ", seed: " + result.get("seedSeconds") + " s");
+    }
+}
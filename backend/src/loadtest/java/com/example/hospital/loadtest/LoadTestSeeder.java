@@ -0,0 +1,186 @@
+package com.example.hospital.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 합성 데이터 적재 (JdbcTemplate 배치 INSERT, 시드 고정)
+ * - 병원마다 진료과 3개, 의사는 병원 진료과에 순서대로 배치
+ * - 사용자는 모두 같은 비밀번호 (해시는 한 번만 계산)
+ * - 예약은 모두 지난 1년 안의 날짜로 적재해 이력 조회 대상이 되고, 새 예약 슬롯과는 겹치지 않음
+ */
+final class LoadTestSeeder {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestSeeder.class);
+
+    static final String PASSWORD = "loadtest1234";
+
+    static final String[] DEPARTMENTS = {
+            "내과", "외과", "정형외과", "신경과", "피부과", "안과", "이비인후과", "소아청소년과",
+            "산부인과", "비뇨의학과", "정신건강의학과", "재활의학과", "가정의학과", "치과", "한방과", "영상의학과"
+    };
+
+    static final String[] REGIONS = {
+            "서울특별시 강남구", "서울특별시 마포구", "서울특별시 송파구", "부산광역시 해운대구",
+            "대구광역시 수성구", "인천광역시 남동구", "광주광역시 서구", "대전광역시 유성구",
+            "경기도 성남시 분당구", "경기도 수원시 영통구"
+    };
+
+    private static final String[] NAME_SUFFIXES = {"내과의원", "정형외과", "연합병원", "365의원", "튼튼병원", "메디컬센터"};
+    private static final String[] STATUSES = {"COMPLETED", "COMPLETED", "COMPLETED", "CANCELED", "REJECTED"};
+
+    private static final int DEPARTMENTS_PER_HOSPITAL = 3;
+    private static final int BATCH_SIZE = 10000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final LoadTestConfig config;
+    private final Random random = new Random(42);
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, LoadTestConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.config = config;
+    }
+
+    /**
+     * 전체 적재 후 의사 목록 반환 (트래픽 생성 시 병원/진료과/의사 ID 조합으로 사용)
+     */
+    List<DoctorRef> seed() {
+        long start = System.nanoTime();
+
+        seedDepartments();
+        seedHospitals();
+        List<DoctorRef> doctors = seedDoctors();
+        seedUsers();
+        seedReservations(doctors);
+
+        logger.info("Seeded {} hospitals, {} doctors, {} users, {} reservations in {} ms", config.hospitals,
+                doctors.size(), config.users, config.reservations, (System.nanoTime() - start) / 1_000_000);
+        return doctors;
+    }
+
+    static String email(int userId) {
+        return "user" + userId + "@loadtest.local";
+    }
+
+    private void seedDepartments() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENTS.length; i++) {
+            rows.add(new Object[]{i + 1, DEPARTMENTS[i]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO departments (id, name) VALUES (?, ?)", rows);
+    }
+
+    private void seedHospitals() {
+        List<Object[]> hospitals = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> links = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= config.hospitals; i++) {
+            String region = REGIONS[random.nextInt(REGIONS.length)];
+            String name = region.substring(region.lastIndexOf(' ') + 1) + " "
+                    + NAME_SUFFIXES[random.nextInt(NAME_SUFFIXES.length)] + " " + i;
+            hospitals.add(new Object[]{
+                    i, name, region + " " + (i % 300 + 1) + "번길", "02-" + (1000 + i % 9000) + "-" + (1000 + i % 7919),
+                    34.8 + random.nextDouble() * 3.0, 126.5 + random.nextDouble() * 3.0
+            });
+            for (int d = 0; d < DEPARTMENTS_PER_HOSPITAL; d++) {
+                links.add(new Object[]{i, departmentOf(i, d)});
+            }
+            if (hospitals.size() >= BATCH_SIZE) {
+                flushHospitals(hospitals, links);
+            }
+        }
+        flushHospitals(hospitals, links);
+    }
+
+    private void flushHospitals(List<Object[]> hospitals, List<Object[]> links) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO hospitals (id, name, address, phone, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?)",
+                hospitals);
+        jdbcTemplate.batchUpdate("INSERT INTO hospital_departments (hospital_id, department_id) VALUES (?, ?)",
+                links);
+        hospitals.clear();
+        links.clear();
+    }
+
+    private List<DoctorRef> seedDoctors() {
+        List<DoctorRef> doctors = new ArrayList<>(config.hospitals * config.doctorsPerHospital);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        long doctorId = 0;
+        for (int i = 1; i <= config.hospitals; i++) {
+            for (int k = 0; k < config.doctorsPerHospital; k++) {
+                DoctorRef doctor = new DoctorRef(++doctorId, i, departmentOf(i, k % DEPARTMENTS_PER_HOSPITAL));
+                doctors.add(doctor);
+                rows.add(new Object[]{doctor.id(), doctor.hospitalId(), doctor.departmentId(), "의사" + doctor.id()});
+                if (rows.size() >= BATCH_SIZE) {
+                    insertDoctors(rows);
+                }
+            }
+        }
+        insertDoctors(rows);
+        return doctors;
+    }
+
+    private void insertDoctors(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO doctors (id, hospital_id, department_id, name) VALUES (?, ?, ?, ?)",
+                rows);
+        rows.clear();
+    }
+
+    private void seedUsers() {
+        String password = passwordEncoder.encode(PASSWORD);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= config.users; i++) {
+            rows.add(new Object[]{i, email(i), password, "사용자" + i, "PATIENT"});
+            if (rows.size() >= BATCH_SIZE) {
+                insertUsers(rows);
+            }
+        }
+        insertUsers(rows);
+    }
+
+    private void insertUsers(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, name, role) VALUES (?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private void seedReservations(List<DoctorRef> doctors) {
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < config.reservations; i++) {
+            DoctorRef doctor = doctors.get(random.nextInt(doctors.size()));
+            LocalDate date = today.minusDays(1 + random.nextInt(365));
+            LocalTime time = LocalTime.of(9 + random.nextInt(9), random.nextBoolean() ? 0 : 30);
+            rows.add(new Object[]{
+                    1 + random.nextInt(config.users), doctor.hospitalId(), doctor.departmentId(), doctor.id(),
+                    Date.valueOf(date), Time.valueOf(time), "정기 검진", STATUSES[random.nextInt(STATUSES.length)]
+            });
+            if (rows.size() >= BATCH_SIZE) {
+                insertReservations(rows);
+            }
+        }
+        insertReservations(rows);
+    }
+
+    private void insertReservations(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO reservations (user_id, hospital_id, department_id, doctor_id, "
+                + "reservation_date, reservation_time, reason, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private int departmentOf(int hospitalId, int index) {
+        return (hospitalId * 7 + index) % DEPARTMENTS.length + 1;
+    }
+
+    record DoctorRef(long id, long hospitalId, long departmentId) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hospital.auth.kakao;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 카카오 OAuth/API 응답 매핑 (필요한 필드만, 나머지는 무시)
+ */
+final class KakaoApiResponses {
+
+    private KakaoApiResponses() {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record TokenResponse(@JsonProperty("access_token") String accessToken) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record UserResponse(Long id, @JsonProperty("kakao_account") Account kakaoAccount) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Account(String email, @JsonProperty("is_email_verified") Boolean emailVerified, Profile profile) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Profile(String nickname, @JsonProperty("profile_image_url") String profileImageUrl) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.hospital.auth.kakao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카카오 호출 회로 차단기
+ * - 연속 장애(연결 실패, 타임아웃, 5xx)가 임계치를 넘으면 일정 시간 호출을 즉시 실패시켜 대기 요청이 쌓이지 않게 함
+ * - 차단 시간이 지나면 한 건만 시험 호출하고, 성공하면 회로를 닫음
+ * - 4xx(잘못된 인가 코드 등)는 카카오 서버 장애가 아니므로 실패로 세지 않음
+ */
+@Component
+public class KakaoCircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(KakaoCircuitBreaker.class);
+
+    @Value("${kakao.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${kakao.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    // 회로가 열린 시각 (0이면 닫힘)
+    private volatile long openedAt;
+
+    /**
+     * 회로 상태에 따라 호출을 진행하거나 즉시 실패
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            boolean trial = false;
+            if (openedAt != 0) {
+                if (System.currentTimeMillis() - openedAt < openDurationMs || !trialInFlight.compareAndSet(false, true)) {
+                    return Mono.error(new KakaoUnavailableException("카카오 로그인이 일시적으로 불가능합니다."));
+                }
+                trial = true;
+            }
+
+            boolean isTrial = trial;
+            return call
+                    .doOnSuccess(result -> onSuccess())
+                    .doOnError(e -> {
+                        if (isTransient(e)) {
+                            onFailure(isTrial);
+                        } else {
+                            onSuccess();
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (isTrial) {
+                            trialInFlight.set(false);
+                        }
+                    });
+        });
+    }
+
+    public boolean isOpen() {
+        return openedAt != 0;
+    }
+
+    /**
+     * 카카오 서버/네트워크 장애로 볼 수 있는 오류 (재시도 및 회로 차단 대상)
+     */
+    public static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (openedAt != 0) {
+            logger.info("Kakao circuit closed");
+        }
+        openedAt = 0;
+        trialInFlight.set(false);
+    }
+
+    private void onFailure(boolean trial) {
+        if (trial || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            if (openedAt == 0 || trial) {
+                logger.warn("Kakao circuit opened after {} consecutive failures", consecutiveFailures.get());
+            }
+            openedAt = System.currentTimeMillis();
+        }
+        trialInFlight.set(false);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.hospital.auth.kakao;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 카카오 API 호출용 공유 WebClient (커넥션 풀, 연결/응답 타임아웃)
+ */
+@Configuration
+public class KakaoClientConfig {
+
+    @Value("${kakao.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${kakao.http.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${kakao.http.response-timeout-ms:3000}")
+    private long responseTimeoutMs;
+
+    @Value("${kakao.http.pending-acquire-timeout-ms:2000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider() {
+        return ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public WebClient kakaoWebClient(WebClient.Builder builder, ConnectionProvider kakaoConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(kakaoConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
+        return builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
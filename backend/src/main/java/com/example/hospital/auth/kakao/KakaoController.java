@@ -1,31 +1,118 @@
-/*
 package com.example.hospital.auth.kakao;
 
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.*;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 
 @RestController
 @RequestMapping("/auth/kakao")
 public class KakaoController {
+    private static final Logger logger = LoggerFactory.getLogger(KakaoController.class);
+
+    static final String STATE_COOKIE = "kakao_oauth_state";
+
+    @Autowired
+    private KakaoService kakaoService;
 
-    private final KakaoService kakaoService;
+    // 로그인 완료 후 이동할 프론트엔드 주소
+    @Value("${kakao.login-redirect-uri:http://localhost:3000}")
+    private String loginRedirectUri;
 
-    public KakaoController(KakaoService kakaoService) {
-        this.kakaoService = kakaoService;
+    @Value("${kakao.redirect-uri}")
+    private String redirectUri;
+
+    @Value("${kakao.state-ttl-seconds:600}")
+    private long stateTtlSeconds;
+
+    /**
+     * 카카오 로그인 시작
+     * - 임의의 state를 이 브라우저에만 쿠키로 남기고 카카오 인가 페이지로 이동 (콜백에서 대조해 로그인 CSRF 방지)
+     */
+    @GetMapping("/login")
+    public ResponseEntity<Void> kakaoLogin() {
+        String state = kakaoService.newState();
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(kakaoService.authorizeUri(state))
+                .header(HttpHeaders.SET_COOKIE, stateCookie(state, stateTtlSeconds).toString())
+                .build();
     }
 
+    /**
+     * 카카오 로그인 콜백
+     * - state가 로그인 시작 때 쿠키로 남긴 값과 다르면 인가 코드를 쓰지 않고 실패 (state 쿠키는 항상 삭제)
+     * - 카카오 호출 동안 서블릿 스레드를 점유하지 않도록 Mono로 비동기 처리
+     * - 발급한 JWT는 서버 로그/리퍼러에 남지 않도록 URL fragment로 전달
+     */
     @GetMapping("/callback")
-    public ResponseEntity<Void> kakaoCallback(@RequestParam String code) throws Exception {
-        kakaoService.getUserInfo(code); // 유저 정보 조회
+    public Mono<ResponseEntity<Void>> kakaoCallback(@RequestParam(required = false) String code,
+                                                    @RequestParam(required = false) String error,
+                                                    @RequestParam(required = false) String state,
+                                                    @CookieValue(name = STATE_COOKIE, required = false)
+                                                    String expectedState) {
+        if (code == null || error != null) {
+            return Mono.just(redirect(errorUri("kakao_denied")));
+        }
+        if (!stateMatches(expectedState, state)) {
+            logger.warn("Kakao login rejected: state mismatch");
+            return Mono.just(redirect(errorUri("kakao_state")));
+        }
 
-        URI redirectUri = URI.create("http://localhost:3000");
-        HttpHeaders headers = new HttpHeaders();
-        headers.setLocation(redirectUri); // ✅ 리디렉션
+        return kakaoService.login(code)
+                .map(token -> redirect(URI.create(loginRedirectUri + "#token=" + token)))
+                .onErrorResume(e -> {
+                    String reason = e instanceof KakaoUnavailableException ? "kakao_unavailable"
+                            : e instanceof IllegalArgumentException ? "kakao_invalid" : "kakao_failed";
+                    logger.warn("Kakao login failed: {}", e.getMessage());
+                    return Mono.just(redirect(errorUri(reason)));
+                });
+    }
+
+    private boolean stateMatches(String expectedState, String state) {
+        if (expectedState == null || expectedState.isEmpty() || state == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(expectedState.getBytes(StandardCharsets.UTF_8),
+                state.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 카카오에서 돌아오는 최상위 GET 이동에도 실리도록 SameSite=Lax, 콜백 경로로만 전송
+    private ResponseCookie stateCookie(String value, long maxAgeSeconds) {
+        return ResponseCookie.from(STATE_COOKIE, value)
+                .httpOnly(true)
+                .secure(redirectUri.startsWith("https:"))
+                .sameSite("Lax")
+                .path("/auth/kakao")
+                .maxAge(maxAgeSeconds)
+                .build();
+    }
+
+    private URI errorUri(String reason) {
+        return UriComponentsBuilder.fromUriString(loginRedirectUri)
+                .queryParam("error", reason)
+                .build()
+                .toUri();
+    }
 
-        return ResponseEntity.status(302).headers(headers).build();
+    private ResponseEntity<Void> redirect(URI location) {
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(location)
+                .header(HttpHeaders.SET_COOKIE, stateCookie("", 0).toString())
+                .build();
     }
 }
-*/
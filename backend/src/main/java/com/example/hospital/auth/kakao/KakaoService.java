@@ -1,57 +1,217 @@
-/*
 package com.example.hospital.auth.kakao;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.hospital.auth.kakao.KakaoApiResponses.Account;
+import com.example.hospital.auth.kakao.KakaoApiResponses.TokenResponse;
+import com.example.hospital.auth.kakao.KakaoApiResponses.UserResponse;
+import com.example.hospital.domain.User;
+import com.example.hospital.repository.UserRepository;
+import com.example.hospital.security.JwtUtils;
+import io.netty.channel.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.net.ConnectException;
+import java.net.URI;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.Predicate;
 
+/**
+ * 카카오 로그인 처리
+ * - 공유 WebClient(커넥션 풀)로 토큰 발급과 사용자 조회를 논블로킹으로 연결
+ * - 일시적 장애만 지수 백오프로 재시도하고, 연속 장애 시 회로 차단기로 즉시 실패
+ * - 카카오 사용자는 한 번의 upsert로 로컬 사용자와 연결한 뒤 JWT를 발급
+ */
 @Service
 public class KakaoService {
 
+    @Autowired
+    private WebClient kakaoWebClient;
+
+    @Autowired
+    private KakaoCircuitBreaker circuitBreaker;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
     @Value("${kakao.client-id}")
     private String clientId;
 
     @Value("${kakao.redirect-uri}")
     private String redirectUri;
 
-    private final WebClient webClient = WebClient.create();
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    public KakaoUserInfo getUserInfo(String code) throws Exception {
-        // 1. 인가코드로 access token 요청
-        String tokenResponse = webClient.post()
-                .uri("https://kauth.kakao.com/oauth/token")
-                .bodyValue("grant_type=authorization_code" +
-                        "&client_id=" + clientId +
-                        "&redirect_uri=" + redirectUri +
-                        "&code=" + code)
-                .header("Content-Type", "application/x-www-form-urlencoded")
+    // 로컬 스텁 서버로 대체할 수 있도록 기본 URL을 설정으로 분리
+    @Value("${kakao.auth-base-url:https://kauth.kakao.com}")
+    private String authBaseUrl;
+
+    @Value("${kakao.api-base-url:https://kapi.kakao.com}")
+    private String apiBaseUrl;
+
+    @Value("${kakao.retry.max-attempts:2}")
+    private int retryMaxAttempts;
+
+    @Value("${kakao.retry.backoff-ms:200}")
+    private long retryBackoffMs;
+
+    @Value("${kakao.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * 카카오 인가 페이지 주소 (state는 콜백에서 브라우저 쿠키와 대조)
+     */
+    public URI authorizeUri(String state) {
+        return UriComponentsBuilder.fromUriString(authBaseUrl + "/oauth/authorize")
+                .queryParam("response_type", "code")
+                .queryParam("client_id", clientId)
+                .queryParam("redirect_uri", redirectUri)
+                .queryParam("state", state)
+                .encode()
+                .build()
+                .toUri();
+    }
+
+    /**
+     * 로그인 요청마다 새로 만드는 추측 불가능한 state 값
+     */
+    public String newState() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 인가 코드로 로그인하고 JWT 발급
+     */
+    public Mono<String> login(String code) {
+        return getUserInfo(code)
+                .publishOn(Schedulers.boundedElastic())
+                .map(this::upsertUser)
+                .map(jwtUtils::generateJwtToken);
+    }
+
+    /**
+     * 인가 코드로 카카오 사용자 정보 조회
+     */
+    public Mono<KakaoUserInfo> getUserInfo(String code) {
+        return requestAccessToken(code)
+                .flatMap(this::requestUser)
+                .map(this::toUserInfo);
+    }
+
+    // 인가 코드는 한 번만 사용할 수 있으므로 요청이 전송되지 않은 연결 실패만 재시도
+    // (응답 대기 시간 초과는 카카오가 코드를 이미 소비했을 수 있으므로 재시도하지 않음)
+    private Mono<String> requestAccessToken(String code) {
+        Mono<TokenResponse> call = kakaoWebClient.post()
+                .uri(authBaseUrl + "/oauth/token")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData("grant_type", "authorization_code")
+                        .with("client_id", clientId)
+                        .with("redirect_uri", redirectUri)
+                        .with("code", code))
                 .retrieve()
-                .bodyToMono(String.class)
-                .block();
+                .bodyToMono(TokenResponse.class)
+                .timeout(Duration.ofMillis(timeoutMs))
+                .retryWhen(retry(KakaoService::isConnectFailure));
 
-        JsonNode tokenJson = objectMapper.readTree(tokenResponse);
-        String accessToken = tokenJson.get("access_token").asText();
+        return circuitBreaker.protect(call)
+                .flatMap(token -> token.accessToken() != null
+                        ? Mono.just(token.accessToken())
+                        : Mono.error(new IllegalArgumentException("카카오 액세스 토큰을 받지 못했습니다.")));
+    }
 
-        // 2. access token으로 사용자 정보 요청
-        String userInfoResponse = webClient.get()
-                .uri("https://kapi.kakao.com/v2/user/me")
-                .header("Authorization", "Bearer " + accessToken)
+    private Mono<UserResponse> requestUser(String accessToken) {
+        Mono<UserResponse> call = kakaoWebClient.get()
+                .uri(apiBaseUrl + "/v2/user/me")
+                .headers(headers -> headers.setBearerAuth(accessToken))
                 .retrieve()
-                .bodyToMono(String.class)
-                .block();
+                .bodyToMono(UserResponse.class)
+                .timeout(Duration.ofMillis(timeoutMs))
+                .retryWhen(retry(KakaoCircuitBreaker::isTransient));
+
+        return circuitBreaker.protect(call);
+    }
+
+    // 연결을 맺지 못한 오류 (netty ConnectTimeoutException도 ConnectException이지만 명시)
+    private static boolean isConnectFailure(Throwable e) {
+        if (!(e instanceof WebClientRequestException)) {
+            return false;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Retry retry(Predicate<Throwable> retryable) {
+        return Retry.backoff(retryMaxAttempts, Duration.ofMillis(retryBackoffMs))
+                .jitter(0.5)
+                .filter(retryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private KakaoUserInfo toUserInfo(UserResponse response) {
+        Account account = response.kakaoAccount();
+        String email = account != null ? account.email() : null;
+        boolean emailVerified = account != null && Boolean.TRUE.equals(account.emailVerified());
+        String nickname = account != null && account.profile() != null ? account.profile().nickname() : null;
+        String profileImage = account != null && account.profile() != null
+                ? account.profile().profileImageUrl() : null;
+
+        return new KakaoUserInfo(response.id(), email, emailVerified, nickname, profileImage);
+    }
 
-        JsonNode userJson = objectMapper.readTree(userInfoResponse);
-        Long id = userJson.get("id").asLong();
-        JsonNode kakaoAccount = userJson.get("kakao_account");
-        String email = kakaoAccount.get("email").asText();
-        String nickname = kakaoAccount.get("profile").get("nickname").asText();
-        String profileImage = kakaoAccount.get("profile").get("profile_image_url").asText();
+    /**
+     * 카카오 사용자를 로컬 사용자로 등록/연결 (블로킹, boundedElastic에서 실행)
+     * - 카카오에서 인증된 이메일만 기존 계정과 연결
+     * - 소셜 계정은 BCrypt 형식이 아닌 임의 비밀번호를 두어 비밀번호 로그인이 불가능
+     */
+    private User upsertUser(KakaoUserInfo info) {
+        if (info.getEmail() == null || !info.isEmailVerified()) {
+            throw new IllegalArgumentException("인증된 카카오 이메일이 필요합니다.");
+        }
+
+        String name = info.getNickname() != null && !info.getNickname().isBlank()
+                ? info.getNickname() : "카카오 사용자";
+
+        User user = transactionTemplate.execute(status -> {
+            userRepository.upsertSocialUser(info.getEmail(), unusablePassword(), name,
+                    User.UserRole.PATIENT.name());
+            return userRepository.findByEmail(info.getEmail()).orElse(null);
+        });
+
+        if (user == null) {
+            throw new IllegalStateException("카카오 사용자 등록에 실패했습니다.");
+        }
+        if (user.getRole() == User.UserRole.ADMIN) {
+            throw new IllegalArgumentException("관리자 계정은 카카오 로그인을 사용할 수 없습니다.");
+        }
+        return user;
+    }
 
-        return new KakaoUserInfo(id, email, nickname, profileImage);
+    private String unusablePassword() {
+        byte[] bytes = new byte[24];
+        random.nextBytes(bytes);
+        return "{kakao}" + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 }
-*/
@@ -0,0 +1,15 @@
+package com.example.hospital.auth.kakao;
+
+/**
+ * 카카오 서버 장애로 로그인을 진행할 수 없는 경우 (회로 차단 포함)
+ */
+public class KakaoUnavailableException extends RuntimeException {
+
+    public KakaoUnavailableException(String message) {
+        super(message);
+    }
+
+    public KakaoUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,4 +1,3 @@
-/*
 package com.example.hospital.auth.kakao;
 
 import lombok.AllArgsConstructor;
@@ -11,7 +10,7 @@ import lombok.NoArgsConstructor;
 public class KakaoUserInfo {
     private Long id;
     private String email;
+    private boolean emailVerified;
     private String nickname;
     private String profileImage;
 }
-*/
@@ -0,0 +1,21 @@
+package com.example.hospital.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ * - @Timed가 붙은 서비스 메서드를 hospital.service.* 타이머로 기록
+ * - HTTP 요청, Hikari 커넥션 풀, Hibernate 통계는 Spring Boot 자동 구성이 등록
+ *   (Hibernate 통계 메트릭은 hibernate.generate_statistics를 켜고 기동했을 때만 등록됨)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
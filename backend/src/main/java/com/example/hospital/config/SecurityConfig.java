@@ -2,8 +2,12 @@ package com.example.hospital.config;
 
 import com.example.hospital.security.JwtAuthenticationEntryPoint;
 import com.example.hospital.security.JwtAuthenticationFilter;
+import com.example.hospital.security.PasswordHashingExecutor;
+import com.example.hospital.security.PooledPasswordEncoder;
 import com.example.hospital.service.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -36,6 +40,13 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationEntryPoint unauthorizedHandler;
 
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    // BCrypt cost (높이면 기존 해시는 다음 로그인 시 재해싱됨)
+    @Value("${hospital.security.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     @Bean
     public JwtAuthenticationFilter authenticationJwtTokenFilter() {
         return new JwtAuthenticationFilter();
@@ -46,6 +57,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -56,7 +68,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), passwordHashingExecutor);
     }
 
     @Bean
@@ -64,8 +76,8 @@ public CorsConfigurationSource corsConfigurationSource() {
     CorsConfiguration configuration = new CorsConfiguration();
     configuration.setAllowedOrigins(Arrays.asList("*"));  // 모든 출처 허용 
     configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-    configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With"));
-    configuration.setExposedHeaders(Arrays.asList("Authorization"));
+    configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With", "If-None-Match"));
+    configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag"));  // 병원 목록 조건부 GET
     configuration.setAllowCredentials(false);  // false로 변경하여 와일드카드 오리진과 함께 사용
 
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -82,9 +94,15 @@ public CorsConfigurationSource corsConfigurationSource() {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/auth/kakao/**").permitAll()
                         .requestMatchers("/api/hospitals/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/reviews").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // SSE 연결 종료 시 발생하는 비동기/에러 디스패치는 이미 인증된 요청의 후속 처리
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers(HttpMethod.PUT, "/api/reservations/**").authenticated()
+                        // 메트릭 수집 엔드포인트는 관리자만 조회
+                        .requestMatchers("/actuator/prometheus", "/actuator/metrics/**").hasRole("ADMIN")
 
                         .anyRequest().authenticated());
     
@@ -0,0 +1,32 @@
+package com.example.hospital.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청별 SQL 예산 검사 설정 (StatementInspector 등록, 보안 필터보다 바깥에서 요청 전체를 감싸도록 필터 등록)
+ */
+@Configuration
+public class SqlBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+    }
+
+    @Bean
+    public SqlBudgetFilter sqlBudgetFilter() {
+        return new SqlBudgetFilter();
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilterRegistration(SqlBudgetFilter sqlBudgetFilter) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(sqlBudgetFilter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.hospital.config;
+
+/**
+ * 요청의 SQL 실행 수/반복 조회가 예산을 넘은 경우 (fail-on-violation 모드, 통합 테스트용)
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.hospital.config;
+
+import com.example.hospital.config.SqlStatementInspector.RequestSqlStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청별 SQL 예산 검사
+ * - 요청마다 실행된 Hibernate SQL 수를 hospital.sql.statements 메트릭으로 기록
+ * - SQL 수, 요청 시간, 같은 문장 반복(N+1)이 예산을 넘으면 문장별 횟수와 함께 경고 로그
+ * - fail-on-violation이면 SQL 수/반복 초과 시 예외를 던져 통합 테스트를 실패시킴 (시간 초과는 로그만)
+ */
+public class SqlBudgetFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    private static final int MAX_DISTINCT_STATEMENTS = 200;
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    @Value("${hospital.sql-budget.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hospital.sql-budget.max-statements:20}")
+    private int maxStatements;
+
+    @Value("${hospital.sql-budget.max-millis:500}")
+    private long maxMillis;
+
+    // 같은 문장이 이 횟수 이상 실행되면 N+1로 판단
+    @Value("${hospital.sql-budget.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Value("${hospital.sql-budget.fail-on-violation:false}")
+    private boolean failOnViolation;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStats stats = SqlStatementInspector.begin(MAX_DISTINCT_STATEMENTS);
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementInspector.end();
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        String endpoint = endpoint(request);
+        DistributionSummary.builder("hospital.sql.statements")
+                .description("요청당 Hibernate SQL 실행 수")
+                .tag("uri", endpoint)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+
+        boolean tooMany = stats.getStatements() > maxStatements;
+        boolean repeated = stats.getMaxRepeat() >= repeatThreshold;
+        boolean tooSlow = elapsedMillis > maxMillis;
+        if (!tooMany && !repeated && !tooSlow) {
+            return;
+        }
+
+        String message = describe(request.getMethod() + " " + endpoint, stats, elapsedMillis);
+        logger.warn(message);
+        if (failOnViolation && (tooMany || repeated)) {
+            throw new SqlBudgetExceededException(message);
+        }
+    }
+
+    private String describe(String endpoint, RequestSqlStats stats, long elapsedMillis) {
+        StringBuilder message = new StringBuilder()
+                .append("SQL budget exceeded: ").append(endpoint)
+                .append(" executed ").append(stats.getStatements()).append(" statements in ")
+                .append(elapsedMillis).append(" ms (budget ").append(maxStatements).append(" statements, ")
+                .append(maxMillis).append(" ms)");
+
+        for (Map.Entry<String, Integer> entry : stats.getCounts().entrySet()) {
+            String sql = entry.getKey().replaceAll("\\s+", " ");
+            if (sql.length() > MAX_LOGGED_SQL_LENGTH) {
+                sql = sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+            }
+            message.append("\n  ").append(entry.getValue()).append("x ")
+                    .append(entry.getValue() >= repeatThreshold ? "[repeated] " : "")
+                    .append(sql);
+        }
+        return message.toString();
+    }
+
+    // 메트릭 태그 수가 늘지 않도록 실제 경로 대신 매핑된 URL 패턴 사용
+    private String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.hospital.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 집계용 Hibernate StatementInspector
+ * - SqlBudgetFilter가 요청 스레드에 집계 대상을 열어 둔 동안만 기록 (스케줄러 등 요청 밖의 SQL은 무시)
+ * - Hibernate SQL은 바인딩 값이 ?로 남아 있으므로 같은 문장 반복 = 값만 바뀐 반복 조회(N+1)
+ * - JdbcTemplate으로 직접 실행하는 SQL은 Hibernate를 거치지 않아 집계되지 않음
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    static RequestSqlStats begin(int maxDistinctStatements) {
+        RequestSqlStats stats = new RequestSqlStats(maxDistinctStatements);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * 한 요청에서 실행된 SQL 수와 문장별 반복 횟수
+     */
+    static final class RequestSqlStats {
+        private final int maxDistinctStatements;
+        private final Map<String, Integer> counts = new LinkedHashMap<>();
+        private int statements;
+
+        private RequestSqlStats(int maxDistinctStatements) {
+            this.maxDistinctStatements = maxDistinctStatements;
+        }
+
+        private void record(String sql) {
+            statements++;
+            // 문장 종류가 비정상적으로 많으면 새 문장은 전체 수에만 반영
+            if (counts.size() < maxDistinctStatements || counts.containsKey(sql)) {
+                counts.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        int getStatements() {
+            return statements;
+        }
+
+        Map<String, Integer> getCounts() {
+            return counts;
+        }
+
+        int getMaxRepeat() {
+            int max = 0;
+            for (int count : counts.values()) {
+                max = Math.max(max, count);
+            }
+            return max;
+        }
+    }
+}
@@ -1,19 +1,153 @@
 package com.example.hospital.controller;
 
+import com.example.hospital.dto.CacheDto.CatalogCacheResponse;
+import com.example.hospital.dto.ReviewDto.RatingRebuildResponse;
+import com.example.hospital.dto.ScheduleDto.OverrideRequest;
+import com.example.hospital.dto.ScheduleDto.ScheduleResponse;
+import com.example.hospital.dto.ScheduleDto.WeeklyScheduleRequest;
+import com.example.hospital.service.CatalogCacheService;
+import com.example.hospital.service.DoctorScheduleService;
+import com.example.hospital.service.RatingAggregateService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.web.bind.annotation.CrossOrigin;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class AdminController {
 
+    @Autowired
+    private DoctorScheduleService doctorScheduleService;
+
+    @Autowired
+    private RatingAggregateService ratingAggregateService;
+
+    @Autowired
+    private CatalogCacheService catalogCacheService;
+
     @GetMapping("/test")
     @PreAuthorize("hasRole('ADMIN')")
     public String adminTest() {
         return "관리자 전용 API에 접근 성공!";
     }
-}
\ No newline at end of file
+
+    /**
+     * 의사 진료 시간표 조회
+     */
+    @GetMapping("/doctors/{doctorId}/schedule")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getDoctorSchedule(@PathVariable Long doctorId) {
+        try {
+            ScheduleResponse response = doctorScheduleService.getSchedule(doctorId);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 의사 주간 진료 시간표 등록/변경
+     */
+    @PutMapping("/doctors/{doctorId}/schedule")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> saveDoctorSchedule(@PathVariable Long doctorId,
+            @RequestBody WeeklyScheduleRequest request) {
+        try {
+            ScheduleResponse response = doctorScheduleService.saveSchedule(doctorId, request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 특정 날짜의 예외 진료 시간 등록/변경 (휴진은 hours를 비워서 요청)
+     */
+    @PutMapping("/doctors/{doctorId}/schedule/overrides")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> saveScheduleOverride(@PathVariable Long doctorId,
+            @RequestBody OverrideRequest request) {
+        try {
+            ScheduleResponse response = doctorScheduleService.saveOverride(doctorId, request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 예외 진료 시간 삭제
+     */
+    @DeleteMapping("/doctors/{doctorId}/schedule/overrides/{date}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> deleteScheduleOverride(@PathVariable Long doctorId, @PathVariable String date) {
+        try {
+            ScheduleResponse response = doctorScheduleService.deleteOverride(doctorId, date);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 병원 평점 집계 재계산 (리뷰 전체를 다시 집계해 저장된 값과 다른 병원만 덮어씀)
+     */
+    @PostMapping("/ratings/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RatingRebuildResponse> rebuildRatings() {
+        return ResponseEntity.ok(ratingAggregateService.rebuild());
+    }
+
+    /**
+     * 병원/진료과/의사 캐시 영역별 적중 통계 조회
+     */
+    @GetMapping("/cache/catalog")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CatalogCacheResponse> getCatalogCache() {
+        return ResponseEntity.ok(catalogCacheService.getStatistics());
+    }
+
+    /**
+     * DB를 직접 수정한 뒤 병원/진료과/의사 캐시 전체 무효화
+     */
+    @PostMapping("/cache/catalog/evict")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CatalogCacheResponse> evictCatalogCache() {
+        catalogCacheService.evictAll();
+        return ResponseEntity.ok(catalogCacheService.getStatistics());
+    }
+
+    /**
+     * 병원 한 곳의 캐시 무효화
+     */
+    @PostMapping("/cache/catalog/hospitals/{hospitalId}/evict")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> evictHospitalCache(@PathVariable Long hospitalId) {
+        catalogCacheService.evictHospital(hospitalId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 의사 한 명(진료 시간표 포함)의 캐시 무효화
+     */
+    @PostMapping("/cache/catalog/doctors/{doctorId}/evict")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> evictDoctorCache(@PathVariable Long doctorId) {
+        catalogCacheService.evictDoctor(doctorId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 에러 응답 생성 헬퍼 메서드
+     */
+    private Map<String, String> createErrorResponse(String message) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", message);
+        return response;
+    }
+}
@@ -7,8 +7,10 @@ import com.example.hospital.dto.UserDto.JwtResponse;
 import com.example.hospital.dto.UserDto.LoginRequest;
 import com.example.hospital.dto.UserDto.MessageResponse;
 import com.example.hospital.dto.UserDto.SignupRequest;
+import com.example.hospital.security.PasswordHashingBusyException;
 import com.example.hospital.service.AuthService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -24,8 +26,12 @@ public class AuthController {
     // 로그인
     @PostMapping("/signin")
     public ResponseEntity<?> authenticateUser(@RequestBody LoginRequest loginRequest) {
-        JwtResponse jwtResponse = authService.authenticateUser(loginRequest);
-        return ResponseEntity.ok(jwtResponse);
+        try {
+            JwtResponse jwtResponse = authService.authenticateUser(loginRequest);
+            return ResponseEntity.ok(jwtResponse);
+        } catch (PasswordHashingBusyException e) {
+            return busyResponse(e);
+        }
     }
 
     // 회원가입
@@ -36,6 +42,8 @@ public class AuthController {
             return ResponseEntity.ok(MessageResponse.builder()
                     .message("회원가입이 성공적으로 완료되었습니다.")
                     .build());
+        } catch (PasswordHashingBusyException e) {
+            return busyResponse(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(MessageResponse.builder()
                     .message(e.getMessage())
@@ -53,6 +61,8 @@ public class AuthController {
             return ResponseEntity.badRequest().body(MessageResponse.builder()
                     .message("이메일 또는 비밀번호가 잘못되었습니다.")
                     .build());
+        } catch (PasswordHashingBusyException e) {
+            return busyResponse(e);
         } catch (SecurityException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(MessageResponse.builder()
                     .message("관리자 권한이 없습니다.")
@@ -63,4 +73,15 @@ public class AuthController {
                     .build());
         }
     }
+
+    /**
+     * 비밀번호 해싱 풀 포화 시 즉시 503 응답
+     */
+    private ResponseEntity<?> busyResponse(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(MessageResponse.builder()
+                        .message(e.getMessage())
+                        .build());
+    }
 }
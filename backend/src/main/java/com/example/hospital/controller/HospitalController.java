@@ -2,12 +2,27 @@ package com.example.hospital.controller;
 
 import com.example.hospital.dto.HospitalDto.HospitalListResponse;
 import com.example.hospital.dto.HospitalDto.HospitalResponse;
+import com.example.hospital.dto.HospitalDto.NearbyRequest;
 import com.example.hospital.dto.HospitalDto.SearchRequest;
+import com.example.hospital.dto.SlotDto.DoctorSlotsResponse;
+import com.example.hospital.service.AvailabilityService;
+import com.example.hospital.service.CatalogResponseCache;
+import com.example.hospital.service.CatalogResponseCache.CachedCatalog;
+import com.example.hospital.service.CatalogVersion;
 import com.example.hospital.service.HospitalService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequestMapping("/api/hospitals")
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -16,41 +31,178 @@ public class HospitalController {
     @Autowired
     private HospitalService hospitalService;
 
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private CatalogResponseCache catalogResponseCache;
+
+    @Value("${hospital.catalog.cache-max-age-seconds:60}")
+    private long catalogMaxAgeSeconds;
+
     /**
-     * 모든 병원 목록 조회
+     * 모든 병원 목록 조회 (커서 기반 페이지)
+     * - 카탈로그 버전 ETag가 일치하면 DB 조회 없이 304
+     * - 직렬화/압축한 응답 바이트를 버전별로 재사용
      */
     @GetMapping
-    public ResponseEntity<HospitalListResponse> getAllHospitals() {
-        HospitalListResponse response = hospitalService.getAllHospitals();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> getAllHospitals(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Boolean includeCount,
+            @RequestParam(required = false) String sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = CatalogResponseCache.acceptsGzip(acceptEncoding);
+        String requestKey = "list|" + cursor + "|" + size + "|" + includeCount + "|" + sort;
+        long version = catalogVersion.current();
+        String etag = catalogVersion.etag(version, requestKey, gzip);
+        if (catalogVersion.matches(ifNoneMatch, etag)) {
+            return notModified(etag).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+
+        try {
+            CachedCatalog cached = catalogResponseCache.get(requestKey, version,
+                    () -> hospitalService.getAllHospitals(cursor, size, includeCount, sort));
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(catalogCacheControl())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(MediaType.APPLICATION_JSON);
+            if (gzip) {
+                return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.gzip());
+            }
+            return builder.body(cached.json());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
     }
 
     /**
      * 병원명, 지역, 진료과목으로 검색
-     * GET 요청으로 쿼리 파라미터를 통해 검색 조건 전달
+     * GET 요청으로 쿼리 파라미터를 통해 검색 조건 전달 (카탈로그 버전 ETag가 일치하면 DB 조회 없이 304)
      */
     @GetMapping("/search")
-    public ResponseEntity<HospitalListResponse> searchHospitals(
+    public ResponseEntity<?> searchHospitals(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String address,
-            @RequestParam(required = false) String departmentName) {
+            @RequestParam(required = false) String departmentName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Boolean includeCount,
+            @RequestParam(required = false) String sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String requestKey = "search|" + name + "|" + address + "|" + departmentName + "|" + cursor + "|" + size
+                + "|" + includeCount + "|" + sort;
+        long version = catalogVersion.current();
+        String etag = catalogVersion.etag(version, requestKey, false);
+        if (catalogVersion.matches(ifNoneMatch, etag)) {
+            return notModified(etag).build();
+        }
 
         SearchRequest request = SearchRequest.builder()
                 .name(name)
                 .address(address)
                 .departmentName(departmentName)
+                .cursor(cursor)
+                .size(size)
+                .includeCount(includeCount)
+                .sort(sort)
                 .build();
 
-        HospitalListResponse response = hospitalService.searchHospitals(request);
-        return ResponseEntity.ok(response);
+        try {
+            HospitalListResponse response = hospitalService.searchHospitals(request);
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(catalogCacheControl())
+                    .body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
     }
 
     /**
      * POST 요청으로 검색 요청 본문을 통해 전달
      */
     @PostMapping("/search")
-    public ResponseEntity<HospitalListResponse> searchHospitalsPost(@RequestBody SearchRequest request) {
-        HospitalListResponse response = hospitalService.searchHospitals(request);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> searchHospitalsPost(@RequestBody SearchRequest request) {
+        try {
+            HospitalListResponse response = hospitalService.searchHospitals(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 기준 좌표에서 가까운 병원 조회 (가까운 순, radiusKm: 검색 반경, limit: 최대 개수)
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<?> findNearbyHospitals(
+            @RequestParam Double lat,
+            @RequestParam Double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String departmentName) {
+
+        NearbyRequest request = NearbyRequest.builder()
+                .latitude(lat)
+                .longitude(lng)
+                .radiusKm(radiusKm)
+                .limit(limit)
+                .departmentName(departmentName)
+                .build();
+
+        try {
+            HospitalListResponse response = hospitalService.findNearby(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 의사의 기간별 예약 가능 시간 조회 (from/to: yyyy-MM-dd, 미지정 시 오늘부터 기본 기간)
+     */
+    @GetMapping("/{hospitalId}/departments/{departmentId}/doctors/{doctorId}/slots")
+    public ResponseEntity<?> getDoctorSlots(
+            @PathVariable Long hospitalId,
+            @PathVariable Long departmentId,
+            @PathVariable Long doctorId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        try {
+            DoctorSlotsResponse response = availabilityService.getDoctorSlots(hospitalId, departmentId, doctorId,
+                    from, to);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    private ResponseEntity.BodyBuilder notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(catalogCacheControl());
+    }
+
+    // 클라이언트는 max-age 동안 재사용하고, 이후에는 ETag로 재검증
+    private CacheControl catalogCacheControl() {
+        return CacheControl.maxAge(catalogMaxAgeSeconds, TimeUnit.SECONDS).mustRevalidate();
+    }
+
+    /**
+     * 에러 응답 생성 헬퍼 메서드
+     */
+    private Map<String, String> createErrorResponse(String message) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", message);
+        return response;
     }
 }
@@ -0,0 +1,114 @@
+package com.example.hospital.controller;
+
+import com.example.hospital.dto.NotificationDto.NotificationListResponse;
+import com.example.hospital.dto.NotificationDto.StreamTicketResponse;
+import com.example.hospital.dto.NotificationDto.UnreadCountResponse;
+import com.example.hospital.security.AuthenticatedUser;
+import com.example.hospital.security.JwtUtils;
+import com.example.hospital.service.NotificationService;
+import com.example.hospital.service.NotificationStreamHub;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/notifications")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class NotificationController {
+
+    @Autowired
+    private NotificationStreamHub notificationStreamHub;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    /**
+     * 알림 목록 조회 (최신순, 커서 기반 페이지)
+     */
+    @GetMapping
+    public ResponseEntity<?> getNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            NotificationListResponse response = notificationService.getNotifications(user.getId(), cursor, size);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 미읽음 알림 수 조회
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<UnreadCountResponse> getUnreadCount(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(notificationService.getUnreadCount(user.getId()));
+    }
+
+    /**
+     * 알림 하나 읽음 처리
+     */
+    @PutMapping("/{notificationId}/read")
+    public ResponseEntity<?> markRead(@PathVariable Long notificationId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            notificationService.markRead(user.getId(), notificationId);
+            return ResponseEntity.ok(notificationService.getUnreadCount(user.getId()));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 모든 알림 읽음 처리
+     */
+    @PutMapping("/read-all")
+    public ResponseEntity<UnreadCountResponse> markAllRead(@AuthenticationPrincipal AuthenticatedUser user) {
+        notificationService.markAllRead(user.getId());
+        return ResponseEntity.ok(notificationService.getUnreadCount(user.getId()));
+    }
+
+    /**
+     * 알림 스트림 연결용 단기 티켓 발급
+     * EventSource는 헤더를 보낼 수 없으므로 /stream?ticket=... 으로 연결 (티켓은 한 번만 사용, 재연결 때마다 새로 발급)
+     */
+    @PostMapping("/stream-ticket")
+    public ResponseEntity<StreamTicketResponse> issueStreamTicket(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(StreamTicketResponse.builder()
+                .ticket(jwtUtils.generateStreamTicket(user))
+                .expiresInSeconds(jwtUtils.getStreamTicketTtlMs() / 1000)
+                .build());
+    }
+
+    /**
+     * 알림/예약 상태 변경 실시간 구독 (SSE)
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후의 이벤트를 이어서 전송
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return notificationStreamHub.subscribe(user.getId(), lastEventId);
+    }
+
+    /**
+     * 에러 응답 생성 헬퍼 메서드
+     */
+    private Map<String, String> createErrorResponse(String message) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", message);
+        return response;
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.hospital.controller;
 
-import com.example.hospital.domain.User;
+import com.example.hospital.domain.Reservation;
 import com.example.hospital.domain.User.UserRole;
+import com.example.hospital.dto.ReservationDto.ReservationHistoryRequest;
 import com.example.hospital.dto.ReservationDto.ReservationListResponse;
 import com.example.hospital.dto.ReservationDto.ReservationRequest;
 import com.example.hospital.dto.ReservationDto.ReservationResponse;
 import com.example.hospital.dto.ReservationDto.ReservationUpdateRequest;
+import com.example.hospital.security.AuthenticatedUser;
 import com.example.hospital.service.ReservationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -16,6 +18,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -32,7 +35,7 @@ public class ReservationController {
     @PostMapping
     @PreAuthorize("hasRole('PATIENT')")
     public ResponseEntity<?> createReservation(@RequestBody ReservationRequest request,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
             // 사용자 권한 확인
             if (user.getRole() != UserRole.PATIENT) {
@@ -40,7 +43,7 @@ public class ReservationController {
                         .body(createErrorResponse("일반 사용자(환자)만 진료 예약이 가능합니다."));
             }
 
-            ReservationResponse response = reservationService.createReservation(request, user);
+            ReservationResponse response = reservationService.createReservation(request, user.getId());
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
@@ -59,7 +62,7 @@ public class ReservationController {
     public ResponseEntity<?> updateReservation(
             @PathVariable("reservationId") Long reservationId,
             @RequestBody ReservationUpdateRequest request,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
             // 사용자 권한 확인
             if (user.getRole() != UserRole.PATIENT) {
@@ -67,7 +70,7 @@ public class ReservationController {
                         .body(createErrorResponse("일반 사용자(환자)만 예약을 수정할 수 있습니다."));
             }
 
-            ReservationResponse response = reservationService.updateReservation(reservationId, request, user);
+            ReservationResponse response = reservationService.updateReservation(reservationId, request, user.getId());
             return ResponseEntity.ok(response);
         } catch (AccessDeniedException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -82,11 +85,17 @@ public class ReservationController {
 
     /**
 
-     * 사용자의 모든 예약 목록 조회
+     * 사용자의 예약 목록 조회 (from/to: yyyy-MM-dd, status: 여러 개 지정 가능, cursor/size: 페이지)
      */
     @GetMapping
     @PreAuthorize("hasRole('PATIENT')")
-    public ResponseEntity<?> getUserReservations(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getUserReservations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) List<Reservation.ReservationStatus> status,
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
             // 사용자 권한 확인
             if (user.getRole() != UserRole.PATIENT) {
@@ -94,8 +103,18 @@ public class ReservationController {
                         .body(createErrorResponse("일반 사용자(환자)만 자신의 예약을 조회할 수 있습니다."));
             }
 
-            ReservationListResponse response = reservationService.getUserReservations(user);
+            ReservationHistoryRequest request = ReservationHistoryRequest.builder()
+                    .cursor(cursor)
+                    .size(size)
+                    .from(from)
+                    .to(to)
+                    .statuses(status)
+                    .build();
+
+            ReservationListResponse response = reservationService.getUserReservations(user.getId(), request);
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(createErrorResponse("예약 목록 조회 중 오류가 발생했습니다."));
@@ -107,14 +126,15 @@ public class ReservationController {
      */
     @GetMapping("/active")
     @PreAuthorize("hasRole('PATIENT')")
-    public ResponseEntity<?> getActiveReservations(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getActiveReservations(@RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
             if (user.getRole() != UserRole.PATIENT) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(createErrorResponse("일반 사용자(환자)만 예약을 조회할 수 있습니다."));
             }
 
-            ReservationListResponse response = reservationService.getActiveUserReservations(user);
+            ReservationListResponse response = reservationService.getActiveUserReservations(user.getId(), limit);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -128,14 +148,14 @@ public class ReservationController {
     @GetMapping("/{reservationId}")
     @PreAuthorize("hasRole('PATIENT')")
     public ResponseEntity<?> getReservationDetail(@PathVariable Long reservationId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
             if (user.getRole() != UserRole.PATIENT) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(createErrorResponse("일반 사용자(환자)만 예약 상세 정보를 조회할 수 있습니다."));
             }
 
-            ReservationResponse response = reservationService.getReservationDetail(reservationId, user);
+            ReservationResponse response = reservationService.getReservationDetail(reservationId, user.getId());
             return ResponseEntity.ok(response);
         } catch (AccessDeniedException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -153,14 +173,14 @@ public class ReservationController {
     @PreAuthorize("hasRole('PATIENT')")
 
     public ResponseEntity<?> cancelReservation(@PathVariable("reservationId") Long reservationId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
             if (user.getRole() != UserRole.PATIENT) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(createErrorResponse("일반 사용자(환자)만 예약을 취소할 수 있습니다."));
             }
 
-            ReservationResponse response = reservationService.cancelReservation(reservationId, user);
+            ReservationResponse response = reservationService.cancelReservation(reservationId, user.getId());
             return ResponseEntity.ok(response);
         } catch (AccessDeniedException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
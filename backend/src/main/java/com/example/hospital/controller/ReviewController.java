@@ -0,0 +1,94 @@
+package com.example.hospital.controller;
+
+import com.example.hospital.dto.ReviewDto.ReviewListResponse;
+import com.example.hospital.dto.ReviewDto.ReviewRequest;
+import com.example.hospital.dto.ReviewDto.ReviewResponse;
+import com.example.hospital.security.AuthenticatedUser;
+import com.example.hospital.service.ReviewService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/reviews")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ReviewController {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    /**
+     * 병원 리뷰 목록 조회 (최신순, 커서 기반 페이지)
+     */
+    @GetMapping
+    public ResponseEntity<?> getHospitalReviews(
+            @RequestParam Long hospitalId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            ReviewListResponse response = reviewService.getHospitalReviews(hospitalId, cursor, size);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 리뷰 작성
+     */
+    @PostMapping
+    public ResponseEntity<?> createReview(@RequestBody ReviewRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            ReviewResponse response = reviewService.createReview(request, user.getId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 리뷰 수정
+     */
+    @PutMapping("/{reviewId}")
+    public ResponseEntity<?> updateReview(@PathVariable Long reviewId, @RequestBody ReviewRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            ReviewResponse response = reviewService.updateReview(reviewId, request, user.getId());
+            return ResponseEntity.ok(response);
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(createErrorResponse(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 리뷰 삭제
+     */
+    @DeleteMapping("/{reviewId}")
+    public ResponseEntity<?> deleteReview(@PathVariable Long reviewId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            reviewService.deleteReview(reviewId, user.getId());
+            return ResponseEntity.noContent().build();
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(createErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * 에러 응답 생성 헬퍼 메서드
+     */
+    private Map<String, String> createErrorResponse(String message) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", message);
+        return response;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.hospital.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인스턴스가 함께 쓰는 카탈로그 버전 (행 하나)
+ * - epoch는 행을 만든 시각으로, 테이블을 다시 만들어 버전이 0부터 시작해도 이전 ETag와 겹치지 않음
+ */
+@Entity
+@Table(name = "catalog_revisions")
+@Getter
+@NoArgsConstructor
+public class CatalogRevision {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long epoch;
+
+    @Column(nullable = false)
+    private long version;
+}
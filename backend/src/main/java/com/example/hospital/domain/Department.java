@@ -1,14 +1,20 @@
 package com.example.hospital.domain;
 
+import com.example.hospital.event.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.department")
 @Table(name = "departments")
 @Getter
 @NoArgsConstructor
@@ -0,0 +1,45 @@
+package com.example.hospital.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * 의사 주간 진료 시간표
+ * - weeklySlots: 월~일 요일별 슬롯 시작 비트 (SlotTemplateUtil 형식, 252바이트)
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.doctor-schedule")
+@Table(name = "doctor_schedules",
+        uniqueConstraints = @UniqueConstraint(name = "uk_doctor_schedules_doctor_id", columnNames = "doctor_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DoctorSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "doctor_id", nullable = false)
+    private Doctor doctor;
+
+    @Column(nullable = false)
+    private int slotMinutes;
+
+    @Column(nullable = false, length = 252)
+    private byte[] weeklySlots;
+
+    // 진료 시간표 변경 메서드
+    public void changeSlots(int slotMinutes, byte[] weeklySlots) {
+        this.slotMinutes = slotMinutes;
+        this.weeklySlots = weeklySlots;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.hospital.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import java.time.LocalDate;
+
+/**
+ * 특정 날짜의 진료 시간 예외 (휴진, 단축 진료 등)
+ * - slots: 해당 날짜의 슬롯 시작 비트 (SlotTemplateUtil 하루치 형식, 36바이트). 모두 0이면 휴진
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.doctor-schedule-override")
+@Table(name = "doctor_schedule_overrides",
+        uniqueConstraints = @UniqueConstraint(name = "uk_doctor_schedule_overrides_doctor_date",
+                columnNames = {"doctor_id", "override_date"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DoctorScheduleOverride {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "doctor_id", nullable = false)
+    private Doctor doctor;
+
+    @Column(name = "override_date", nullable = false)
+    private LocalDate overrideDate;
+
+    @Column(nullable = false, length = 36)
+    private byte[] slots;
+
+    @Column
+    private String reason;
+
+    // 예외 진료 시간 변경 메서드
+    public void changeSlots(byte[] slots, String reason) {
+        this.slots = slots;
+        this.reason = reason;
+    }
+}
@@ -1,15 +1,21 @@
 package com.example.hospital.domain;
 
+import com.example.hospital.event.HospitalChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.hospital")
 @Table(name = "hospitals")
+@EntityListeners(HospitalChangeListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,10 +35,19 @@ public class Hospital {
     @Column(nullable = false)
     private String phone;
 
+    // WGS84 위도/경도 (미등록 병원은 null)
+    @Column
+    private Double latitude;
+
+    @Column
+    private Double longitude;
+
     @OneToMany(mappedBy = "hospital")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.hospital.departments")
     private List<HospitalDepartment> hospitalDepartments = new ArrayList<>();
 
     @OneToMany(mappedBy = "hospital")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.hospital.doctors")
     private List<Doctor> doctors = new ArrayList<>();
 
     @OneToMany(mappedBy = "hospital")
@@ -1,12 +1,18 @@
 package com.example.hospital.domain;
 
+import com.example.hospital.event.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.hospital-department")
 @Table(name = "hospital_departments")
 @Getter
 @NoArgsConstructor
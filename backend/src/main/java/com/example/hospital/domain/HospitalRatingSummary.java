@@ -0,0 +1,56 @@
+package com.example.hospital.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 병원별 리뷰 평점 집계
+ * - 리뷰 생성/수정/삭제 시 증감분만 upsert로 반영하므로 병원 목록 조회 시 리뷰를 집계하지 않음
+ * - average_rating은 평점순 정렬용으로 함께 저장 (평점/병원 ID 내림차순 정렬은 인덱스를 역방향으로 읽음)
+ * - 리뷰가 없는 병원도 0건 집계 행을 두어 평점순 검색이 외부 조인 없이 인덱스 순서로 읽도록 함
+ */
+@Entity
+@Table(name = "hospital_rating_summaries",
+        indexes = @Index(name = "idx_hospital_rating_summaries_average", columnList = "average_rating, hospital_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HospitalRatingSummary {
+
+    @Id
+    @Column(name = "hospital_id")
+    private Long hospitalId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating1_count", nullable = false)
+    private long rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private long rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private long rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private long rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private long rating5Count;
+
+    @Column(name = "average_rating", nullable = false)
+    private double averageRating;
+
+    // 1~5점 순서의 평점별 리뷰 수
+    public long[] getRatingCounts() {
+        return new long[]{rating1Count, rating2Count, rating3Count, rating4Count, rating5Count};
+    }
+}
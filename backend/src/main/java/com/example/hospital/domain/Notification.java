@@ -8,7 +8,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+        indexes = @Index(name = "idx_notifications_user_read", columnList = "user_id, is_read"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
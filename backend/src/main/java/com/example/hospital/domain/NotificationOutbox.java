@@ -0,0 +1,60 @@
+package com.example.hospital.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 알림 발송 대기열 (트랜잭셔널 아웃박스)
+ * - 예약 변경과 같은 트랜잭션에서 기록되므로 커밋된 변경은 반드시 알림 대상이 됨
+ * - 알림 메시지는 발송 시점에 NotificationDispatcher가 만들어 notifications에 일괄 저장
+ */
+@Entity
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_pending", columnList = "dispatched_at, id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventType eventType;
+
+    @Column(nullable = false)
+    private LocalDate reservationDate;
+
+    @Column(nullable = false)
+    private LocalTime reservationTime;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime dispatchedAt;
+
+    public enum EventType {
+        CREATED, UPDATED, CANCELED
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
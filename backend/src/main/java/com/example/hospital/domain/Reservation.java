@@ -9,7 +9,12 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+        // 사용자별 예약 이력 조회 정렬(날짜, 시간, ID)과 일치하는 복합 인덱스
+        @Index(name = "idx_reservations_user_date_time", columnList = "user_id, reservation_date, reservation_time, id"),
+        // 의사별 기간 점유 슬롯 조회용 인덱스
+        @Index(name = "idx_reservations_doctor_date", columnList = "doctor_id, reservation_date")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,40 @@
+package com.example.hospital.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 예약 슬롯 선점 정보
+ * - (병원, 진료과, 의사, 날짜, 시간) 조합당 활성 예약 1건만 존재하도록 slot_key에 유니크 제약을 둠
+ * - 의사 미지정(null)도 하나의 슬롯으로 취급하기 위해 컬럼 조합 대신 단일 키 문자열을 사용
+ */
+@Entity
+@Table(name = "reservation_slot_claims",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reservation_slot_claims_slot_key", columnNames = "slot_key"),
+        indexes = @Index(name = "idx_reservation_slot_claims_reservation_id", columnList = "reservation_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationSlotClaim {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "slot_key", nullable = false, length = 100)
+    private String slotKey;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    public static String slotKey(Long hospitalId, Long departmentId, Long doctorId, LocalDate date,
+            LocalTime time) {
+        return hospitalId + ":" + departmentId + ":" + (doctorId != null ? doctorId : 0) + ":" + date + ":" + time;
+    }
+}
@@ -36,6 +36,16 @@ public class Review {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    // 평점 변경 메서드
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
+
+    // 리뷰 내용 변경 메서드
+    public void setContent(String content) {
+        this.content = content;
+    }
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
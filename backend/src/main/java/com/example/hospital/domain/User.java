@@ -1,5 +1,6 @@
 package com.example.hospital.domain;
 
+import com.example.hospital.security.AuthenticatedUser;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +21,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class User implements UserDetails {
+public class User implements UserDetails, AuthenticatedUser {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -64,6 +65,11 @@ public class User implements UserDetails {
         this.email = email;
     }
 
+    // 비밀번호 재해싱(BCrypt cost 변경) 시 사용
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
     // Spring Security UserDetails 구현 메서드
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
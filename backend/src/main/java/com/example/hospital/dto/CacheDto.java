@@ -0,0 +1,31 @@
+package com.example.hospital.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class CacheDto {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheRegionResponse {
+        private String region;
+        private long hitCount;
+        private long missCount;
+        private long putCount;
+        private long elementCount; // 메모리에 있는 항목 수
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CatalogCacheResponse {
+        private List<CacheRegionResponse> regions;
+    }
+}
@@ -8,7 +8,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class HospitalDto {
@@ -21,6 +23,22 @@ public class HospitalDto {
         private String name;
         private String address;
         private String departmentName;
+        private String cursor; // 이전 페이지 응답의 nextCursor
+        private Integer size; // 페이지 크기 (미지정 시 기본값)
+        private Boolean includeCount; // 전체 검색 결과 수 별도 계산 여부
+        private String sort; // rating: 평점 높은 순 (미지정 시 ID 순)
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NearbyRequest {
+        private Double latitude;
+        private Double longitude;
+        private Double radiusKm; // 검색 반경 (미지정 시 최대 반경)
+        private Integer limit; // 가까운 순 최대 개수
+        private String departmentName;
     }
 
     @Data
@@ -48,7 +66,13 @@ public class HospitalDto {
         private String name;
         private String address;
         private String phone;
+        private Double latitude;
+        private Double longitude;
+        private Double distanceKm; // 위치 검색 결과에서만 사용
         private List<DepartmentResponse> departments;
+        private Double averageRating; // 소수 첫째 자리 반올림, 리뷰가 없으면 0
+        private Long reviewCount;
+        private List<Long> ratingCounts; // 1~5점 별 리뷰 수
 
         public static HospitalResponse fromEntity(Hospital hospital) {
             List<DepartmentResponse> departments = hospital.getHospitalDepartments().stream()
@@ -56,11 +80,18 @@ public class HospitalDto {
                     .map(DepartmentResponse::fromEntity)
                     .collect(Collectors.toList());
 
+            return fromEntity(hospital, departments);
+        }
+
+        // 진료과 목록을 미리 조회해 둔 경우 (지연 로딩 없음)
+        public static HospitalResponse fromEntity(Hospital hospital, List<DepartmentResponse> departments) {
             return HospitalResponse.builder()
                     .id(hospital.getId())
                     .name(hospital.getName())
                     .address(hospital.getAddress())
                     .phone(hospital.getPhone())
+                    .latitude(hospital.getLatitude())
+                    .longitude(hospital.getLongitude())
                     .departments(departments)
                     .build();
         }
@@ -73,6 +104,9 @@ public class HospitalDto {
     public static class HospitalListResponse {
         private List<HospitalResponse> hospitals;
         private int totalCount;
+        private Long matchedCount; // includeCount 요청 시에만 계산
+        private String nextCursor;
+        private boolean hasNext;
 
         public static HospitalListResponse fromEntities(List<Hospital> hospitals) {
             List<HospitalResponse> hospitalResponses = hospitals.stream()
@@ -84,5 +118,19 @@ public class HospitalDto {
                     .totalCount(hospitalResponses.size())
                     .build();
         }
+
+        // 병원 ID별 진료과 목록을 미리 조회해 둔 경우
+        public static HospitalListResponse fromEntities(List<Hospital> hospitals,
+                Map<Long, List<DepartmentResponse>> departmentsByHospitalId) {
+            List<HospitalResponse> hospitalResponses = hospitals.stream()
+                    .map(hospital -> HospitalResponse.fromEntity(hospital,
+                            departmentsByHospitalId.getOrDefault(hospital.getId(), Collections.emptyList())))
+                    .collect(Collectors.toList());
+
+            return HospitalListResponse.builder()
+                    .hospitals(hospitalResponses)
+                    .totalCount(hospitalResponses.size())
+                    .build();
+        }
     }
 }
\ No newline at end of file
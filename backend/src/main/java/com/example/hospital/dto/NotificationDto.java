@@ -0,0 +1,71 @@
+package com.example.hospital.dto;
+
+import com.example.hospital.domain.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class NotificationDto {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NotificationEvent {
+        private String type; // CREATED, UPDATED, CANCELED
+        private Long reservationId;
+        private String status; // 예약의 현재 상태
+        private String message;
+        private String createdAt; // yyyy-MM-dd'T'HH:mm:ss 형식
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NotificationResponse {
+        private Long id;
+        private String message;
+        private String createdAt; // yyyy-MM-dd'T'HH:mm:ss 형식
+        private boolean read;
+
+        public static NotificationResponse fromEntity(Notification notification) {
+            return NotificationResponse.builder()
+                    .id(notification.getId())
+                    .message(notification.getMessage())
+                    .createdAt(notification.getCreatedAt().withNano(0).toString())
+                    .read(notification.isRead())
+                    .build();
+        }
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NotificationListResponse {
+        private List<NotificationResponse> notifications;
+        private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+        private boolean hasNext;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UnreadCountResponse {
+        private int unreadCount;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StreamTicketResponse {
+        private String ticket;
+        private long expiresInSeconds;
+    }
+}
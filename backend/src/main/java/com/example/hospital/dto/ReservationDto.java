@@ -1,6 +1,7 @@
 package com.example.hospital.dto;
 
 import com.example.hospital.domain.Reservation;
+import com.example.hospital.repository.ReservationRepository.ReservationView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -68,6 +69,20 @@ public class ReservationDto {
                     .userName(reservation.getUser().getName())
                     .build();
         }
+
+        public static ReservationResponse fromView(ReservationView view) {
+            return ReservationResponse.builder()
+                    .id(view.getId())
+                    .hospitalName(view.getHospitalName())
+                    .departmentName(view.getDepartmentName())
+                    .doctorName(view.getDoctorName() != null ? view.getDoctorName() : "지정되지 않음")
+                    .reservationDate(view.getReservationDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
+                    .reservationTime(view.getReservationTime().format(DateTimeFormatter.ofPattern("HH:mm")))
+                    .reason(view.getReason())
+                    .status(view.getStatus().name())
+                    .userName(view.getUserName())
+                    .build();
+        }
     }
 
     @Data
@@ -77,6 +92,8 @@ public class ReservationDto {
     public static class ReservationListResponse {
         private List<ReservationResponse> reservations;
         private int totalCount;
+        private String nextCursor;
+        private boolean hasNext;
 
         public static ReservationListResponse fromEntities(List<Reservation> reservations) {
             List<ReservationResponse> responses = reservations.stream()
@@ -88,6 +105,29 @@ public class ReservationDto {
                     .totalCount(responses.size())
                     .build();
         }
+
+        public static ReservationListResponse fromViews(List<ReservationView> views) {
+            List<ReservationResponse> responses = views.stream()
+                    .map(ReservationResponse::fromView)
+                    .collect(Collectors.toList());
+
+            return ReservationListResponse.builder()
+                    .reservations(responses)
+                    .totalCount(responses.size())
+                    .build();
+        }
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReservationHistoryRequest {
+        private String cursor; // 이전 페이지 응답의 nextCursor
+        private Integer size; // 페이지 크기 (미지정 시 기본값)
+        private String from; // yyyy-MM-dd 형식, 포함
+        private String to; // yyyy-MM-dd 형식, 포함
+        private List<Reservation.ReservationStatus> statuses; // 미지정 시 전체 상태
     }
 
     @Data
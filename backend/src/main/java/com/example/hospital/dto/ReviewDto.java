@@ -0,0 +1,67 @@
+package com.example.hospital.dto;
+
+import com.example.hospital.domain.Review;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class ReviewDto {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReviewRequest {
+        private Long hospitalId; // 작성 시에만 사용
+        private Integer rating; // 1~5
+        private String content;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReviewResponse {
+        private Long id;
+        private Long hospitalId;
+        private String userName;
+        private Integer rating;
+        private String content;
+        private String createdAt; // yyyy-MM-dd'T'HH:mm:ss 형식
+
+        public static ReviewResponse fromEntity(Review review) {
+            return ReviewResponse.builder()
+                    .id(review.getId())
+                    .hospitalId(review.getHospital().getId())
+                    .userName(review.getUser().getName())
+                    .rating(review.getRating())
+                    .content(review.getContent())
+                    .createdAt(review.getCreatedAt().withNano(0).toString())
+                    .build();
+        }
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReviewListResponse {
+        private List<ReviewResponse> reviews;
+        private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+        private boolean hasNext;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RatingRebuildResponse {
+        private int hospitalCount; // 리뷰가 있거나 집계가 있던 병원 수
+        private int correctedCount; // 집계가 달라 다시 쓴 병원 수
+        private long reviewCount;
+        private long elapsedMs;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.hospital.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class ScheduleDto {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WeeklyScheduleRequest {
+        private Integer slotMinutes; // 슬롯 길이 (5분 단위)
+        private List<WorkingHours> hours; // 요일별 진료 시간 (같은 요일에 여러 구간 가능)
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WorkingHours {
+        private String dayOfWeek; // MONDAY ~ SUNDAY
+        private String start; // HH:mm 형식
+        private String end; // HH:mm 형식
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TimeRange {
+        private String start; // HH:mm 형식
+        private String end; // HH:mm 형식
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OverrideRequest {
+        private String date; // yyyy-MM-dd 형식
+        private List<TimeRange> hours; // 비어 있으면 휴진
+        private String reason;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OverrideResponse {
+        private String date; // yyyy-MM-dd 형식
+        private List<TimeRange> hours;
+        private String reason;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScheduleResponse {
+        private Long doctorId;
+        private Integer slotMinutes;
+        private List<WorkingHours> hours;
+        private List<OverrideResponse> overrides; // 오늘 이후 예외일
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.hospital.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class SlotDto {
+
+    public static final String AVAILABLE = "AVAILABLE";
+    public static final String TAKEN = "TAKEN";
+    public static final String PAST = "PAST";
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DoctorSlotsResponse {
+        private Long hospitalId;
+        private Long departmentId;
+        private Long doctorId;
+        private String from; // yyyy-MM-dd 형식
+        private String to; // yyyy-MM-dd 형식
+        private List<DaySlotsResponse> days;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DaySlotsResponse {
+        private String date; // yyyy-MM-dd 형식
+        private List<SlotResponse> slots;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SlotResponse {
+        private String time; // HH:mm 형식
+        private String status; // AVAILABLE, TAKEN, PAST
+    }
+}
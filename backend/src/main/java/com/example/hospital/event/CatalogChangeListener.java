@@ -0,0 +1,25 @@
+package com.example.hospital.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 진료과/병원-진료과 연결 엔티티 변경을 애플리케이션 이벤트로 발행하는 JPA 엔티티 리스너
+ */
+public class CatalogChangeListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(entity.getClass().getSimpleName()));
+        }
+    }
+}
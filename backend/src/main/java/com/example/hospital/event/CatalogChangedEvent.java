@@ -0,0 +1,8 @@
+package com.example.hospital.event;
+
+/**
+ * 병원 목록 응답에 포함되는 진료과/병원-진료과 연결 변경 이벤트
+ * - 커밋 후 카탈로그 버전(ETag) 갱신에 사용
+ */
+public record CatalogChangedEvent(String entityName) {
+}
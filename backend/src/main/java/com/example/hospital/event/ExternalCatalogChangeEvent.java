@@ -0,0 +1,9 @@
+package com.example.hospital.event;
+
+/**
+ * 다른 인스턴스나 직접 수정한 SQL로 카탈로그 버전이 바뀐 것을 확인했을 때 발행하는 이벤트
+ * - 이 인스턴스의 JPA 이벤트로는 알 수 없는 변경이므로 2차 캐시를 비우고 메모리 색인을 다시 구성하는 데 사용
+ * - 새 버전을 응답에 쓰기 전에 동기적으로 발행
+ */
+public record ExternalCatalogChangeEvent(long version) {
+}
@@ -0,0 +1,37 @@
+package com.example.hospital.event;
+
+import com.example.hospital.domain.Hospital;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Hospital 엔티티 변경을 애플리케이션 이벤트로 발행하는 JPA 엔티티 리스너
+ * - Hibernate가 스프링 빈 컨테이너로 생성하므로 의존성 주입 가능
+ */
+public class HospitalChangeListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Hospital hospital) {
+        publish(new HospitalChangedEvent(hospital.getId(), hospital.getName(), hospital.getAddress(),
+                hospital.getLatitude(), hospital.getLongitude(), false));
+    }
+
+    @PostRemove
+    public void onRemove(Hospital hospital) {
+        publish(new HospitalChangedEvent(hospital.getId(), hospital.getName(), hospital.getAddress(),
+                hospital.getLatitude(), hospital.getLongitude(), true));
+    }
+
+    private void publish(HospitalChangedEvent event) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
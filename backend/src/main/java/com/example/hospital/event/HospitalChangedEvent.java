@@ -0,0 +1,9 @@
+package com.example.hospital.event;
+
+/**
+ * 병원 정보 변경 이벤트 (추가/수정/삭제)
+ * - 커밋 후 검색 색인 등 메모리 구조를 갱신하는 데 사용
+ */
+public record HospitalChangedEvent(Long hospitalId, String name, String address, Double latitude,
+        Double longitude, boolean deleted) {
+}
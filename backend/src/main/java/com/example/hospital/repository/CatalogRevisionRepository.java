@@ -0,0 +1,22 @@
+package com.example.hospital.repository;
+
+import com.example.hospital.domain.CatalogRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogRevisionRepository extends JpaRepository<CatalogRevision, Long> {
+
+    // 버전 행이 없으면 생성 (여러 인스턴스가 동시에 기동해도 먼저 만든 행 유지)
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO catalog_revisions (id, epoch, version) " +
+            "VALUES (" + CatalogRevision.ID + ", :epoch, 0) ON DUPLICATE KEY UPDATE id = id")
+    int createIfAbsent(@Param("epoch") long epoch);
+
+    @Modifying
+    @Query("UPDATE CatalogRevision r SET r.version = r.version + 1 WHERE r.id = " + CatalogRevision.ID)
+    int increment();
+}
@@ -0,0 +1,27 @@
+package com.example.hospital.repository;
+
+import com.example.hospital.domain.DoctorScheduleOverride;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DoctorScheduleOverrideRepository extends JpaRepository<DoctorScheduleOverride, Long> {
+
+    // 예약 생성마다 조회하므로 쿼리 캐시 사용 (예외일 저장/삭제 시 Hibernate가 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<DoctorScheduleOverride> findByDoctorIdAndOverrideDate(Long doctorId, LocalDate overrideDate);
+
+    List<DoctorScheduleOverride> findByDoctorIdAndOverrideDateBetweenOrderByOverrideDateAsc(Long doctorId,
+            LocalDate fromDate, LocalDate toDate);
+
+    List<DoctorScheduleOverride> findByDoctorIdAndOverrideDateGreaterThanEqualOrderByOverrideDateAsc(Long doctorId,
+            LocalDate fromDate);
+
+}
@@ -0,0 +1,19 @@
+package com.example.hospital.repository;
+
+import com.example.hospital.domain.DoctorSchedule;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DoctorScheduleRepository extends JpaRepository<DoctorSchedule, Long> {
+
+    // 예약 생성마다 조회하므로 쿼리 캐시 사용 (시간표 저장 시 Hibernate가 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<DoctorSchedule> findByDoctorId(Long doctorId);
+
+}
@@ -0,0 +1,58 @@
+package com.example.hospital.repository;
+
+import com.example.hospital.domain.HospitalRatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface HospitalRatingSummaryRepository extends JpaRepository<HospitalRatingSummary, Long> {
+
+    String UPSERT_COLUMNS = "INSERT INTO hospital_rating_summaries (hospital_id, review_count, rating_sum, " +
+            "rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, average_rating) " +
+            "VALUES (:hospitalId, :reviewCount, :ratingSum, :rating1, :rating2, :rating3, :rating4, :rating5, " +
+            "CASE WHEN :reviewCount > 0 THEN :ratingSum / :reviewCount ELSE 0 END) ";
+
+    // 리뷰 증감분 반영 (행이 없으면 생성)
+    // MySQL은 대입 순서대로 갱신하고 H2는 갱신 전 값을 읽으므로 평균을 먼저 갱신 전 값 + 증감분으로 계산
+    @Modifying
+    @Query(nativeQuery = true, value = UPSERT_COLUMNS + "ON DUPLICATE KEY UPDATE " +
+            "average_rating = CASE WHEN review_count + VALUES(review_count) > 0 " +
+            "THEN (rating_sum + VALUES(rating_sum)) / (review_count + VALUES(review_count)) ELSE 0 END, " +
+            "review_count = review_count + VALUES(review_count), " +
+            "rating_sum = rating_sum + VALUES(rating_sum), " +
+            "rating1_count = rating1_count + VALUES(rating1_count), " +
+            "rating2_count = rating2_count + VALUES(rating2_count), " +
+            "rating3_count = rating3_count + VALUES(rating3_count), " +
+            "rating4_count = rating4_count + VALUES(rating4_count), " +
+            "rating5_count = rating5_count + VALUES(rating5_count)")
+    int applyDelta(@Param("hospitalId") Long hospitalId, @Param("reviewCount") long reviewCount,
+            @Param("ratingSum") long ratingSum, @Param("rating1") long rating1, @Param("rating2") long rating2,
+            @Param("rating3") long rating3, @Param("rating4") long rating4, @Param("rating5") long rating5);
+
+    // 재계산한 집계로 덮어쓰기
+    @Modifying
+    @Query(nativeQuery = true, value = UPSERT_COLUMNS + "ON DUPLICATE KEY UPDATE " +
+            "review_count = VALUES(review_count), rating_sum = VALUES(rating_sum), " +
+            "rating1_count = VALUES(rating1_count), rating2_count = VALUES(rating2_count), " +
+            "rating3_count = VALUES(rating3_count), rating4_count = VALUES(rating4_count), " +
+            "rating5_count = VALUES(rating5_count), average_rating = VALUES(average_rating)")
+    int overwrite(@Param("hospitalId") Long hospitalId, @Param("reviewCount") long reviewCount,
+            @Param("ratingSum") long ratingSum, @Param("rating1") long rating1, @Param("rating2") long rating2,
+            @Param("rating3") long rating3, @Param("rating4") long rating4, @Param("rating5") long rating5);
+
+    // 집계 행이 없는 병원에 리뷰 0건 집계 생성 (평점순 검색은 집계 행과 내부 조인하므로 병원마다 행이 있어야 함)
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO hospital_rating_summaries (hospital_id, review_count, " +
+            "rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, average_rating) " +
+            "SELECT h.id, 0, 0, 0, 0, 0, 0, 0, 0 FROM hospitals h WHERE NOT EXISTS " +
+            "(SELECT 1 FROM hospital_rating_summaries s WHERE s.hospital_id = h.id)")
+    int createMissing();
+
+    List<HospitalRatingSummary> findByHospitalIdIn(Collection<Long> hospitalIds);
+}
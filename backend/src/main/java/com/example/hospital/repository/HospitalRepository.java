@@ -6,38 +6,65 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface HospitalRepository extends JpaRepository<Hospital, Long> {
+public interface HospitalRepository extends JpaRepository<Hospital, Long>, HospitalRepositoryCustom {
 
-    // 병원명으로 검색
-    List<Hospital> findByNameContaining(String name);
+    // 검색 색인 구성용 병원명/주소 조회
+    @Query("SELECT h.id AS id, h.name AS name, h.address AS address FROM Hospital h")
+    List<HospitalTextView> findAllTextViews();
 
-    // 주소(지역)로 검색
-    List<Hospital> findByAddressContaining(String address);
+    // 위치 색인 구성용 좌표 조회 (좌표가 없는 병원 제외)
+    @Query("SELECT h.id AS id, h.latitude AS latitude, h.longitude AS longitude FROM Hospital h " +
+            "WHERE h.latitude IS NOT NULL AND h.longitude IS NOT NULL")
+    List<HospitalGeoView> findAllGeoViews();
 
-    // 병원명과 주소로 검색
-    List<Hospital> findByNameContainingAndAddressContaining(String name, String address);
+    // 진료과목을 가진 병원 ID 조회
+    @Query("SELECT DISTINCT hd.hospital.id FROM HospitalDepartment hd JOIN hd.department d WHERE d.name = :departmentName")
+    List<Long> findIdsByDepartmentName(@Param("departmentName") String departmentName);
 
-    // 진료과목으로 검색
-    @Query("SELECT h FROM Hospital h JOIN h.hospitalDepartments hd JOIN hd.department d WHERE d.name = :departmentName")
-    List<Hospital> findByDepartmentName(@Param("departmentName") String departmentName);
+    // 병원 목록의 진료과 정보를 한 번에 조회 (병원별 지연 로딩 방지)
+    @Query("SELECT hd.hospital.id AS hospitalId, d.id AS departmentId, d.name AS departmentName " +
+            "FROM HospitalDepartment hd JOIN hd.department d WHERE hd.hospital.id IN :hospitalIds ORDER BY hd.id")
+    List<HospitalDepartmentView> findDepartmentViewsByHospitalIds(@Param("hospitalIds") Collection<Long> hospitalIds);
 
-    // 진료과목과 지역으로 검색
-    @Query("SELECT h FROM Hospital h JOIN h.hospitalDepartments hd JOIN hd.department d WHERE d.name = :departmentName AND h.address LIKE %:address%")
-    List<Hospital> findByDepartmentNameAndAddressContaining(@Param("departmentName") String departmentName,
-            @Param("address") String address);
+    // 위치 색인의 진료과별 병원 ID 집합 구성용 전체 병원-진료과 매핑
+    @Query("SELECT hd.hospital.id AS hospitalId, d.id AS departmentId, d.name AS departmentName " +
+            "FROM HospitalDepartment hd JOIN hd.department d")
+    List<HospitalDepartmentView> findAllDepartmentViews();
 
-    // 병원명과 진료과목으로 검색
-    @Query("SELECT h FROM Hospital h JOIN h.hospitalDepartments hd JOIN hd.department d WHERE h.name LIKE %:name% AND d.name = :departmentName")
-    List<Hospital> findByNameContainingAndDepartmentName(@Param("name") String name,
-            @Param("departmentName") String departmentName);
+    /**
+     * 검색 색인에 필요한 병원명/주소만 담는 프로젝션
+     */
+    interface HospitalTextView {
+        Long getId();
 
-    // 병원명, 진료과목, 지역으로 검색
-    @Query("SELECT h FROM Hospital h JOIN h.hospitalDepartments hd JOIN hd.department d WHERE h.name LIKE %:name% AND d.name = :departmentName AND h.address LIKE %:address%")
-    List<Hospital> findByNameContainingAndDepartmentNameAndAddressContaining(@Param("name") String name,
-            @Param("departmentName") String departmentName, @Param("address") String address);
+        String getName();
 
+        String getAddress();
+    }
 
+    /**
+     * 위치 색인에 필요한 좌표만 담는 프로젝션
+     */
+    interface HospitalGeoView {
+        Long getId();
+
+        Double getLatitude();
+
+        Double getLongitude();
+    }
+
+    /**
+     * 병원-진료과 매핑을 진료과명과 함께 담는 프로젝션
+     */
+    interface HospitalDepartmentView {
+        Long getHospitalId();
+
+        Long getDepartmentId();
+
+        String getDepartmentName();
+    }
 }
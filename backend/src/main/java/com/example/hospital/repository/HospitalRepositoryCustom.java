@@ -0,0 +1,21 @@
+package com.example.hospital.repository;
+
+import com.example.hospital.domain.Hospital;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 조건 조합 병원 검색 (Criteria API)
+ */
+public interface HospitalRepositoryCustom {
+
+    // 조건에 맞는 병원을 ID 오름차순으로 최대 limit건 조회
+    List<Hospital> searchOrderById(Specification<Hospital> spec, int limit);
+
+    // 조건에 맞는 병원을 평점 내림차순(같은 평점은 ID 내림차순)으로 커서 다음부터 최대 limit건 조회
+    List<Hospital> searchOrderByRating(Specification<Hospital> spec, double afterRating, long afterId, int limit);
+
+    // 조건에 맞는 병원 수
+    long countMatching(Specification<Hospital> spec);
+}
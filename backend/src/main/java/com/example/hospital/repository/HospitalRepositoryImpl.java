@@ -0,0 +1,94 @@
+package com.example.hospital.repository;
+
+import com.example.hospital.domain.Hospital;
+import com.example.hospital.domain.HospitalRatingSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.JpaEntityJoin;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.sqm.tree.SqmJoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * HospitalRepositoryCustom 구현 (Spring Data가 HospitalRepository에 조각으로 합침)
+ * - JpaSpecificationExecutor.findAll(spec, pageable)은 페이지마다 count 쿼리를 추가로 실행하므로
+ *   키셋 페이지는 limit만 거는 Criteria 쿼리로 직접 조회
+ * - 평점순 검색도 같은 Specification을 써서 LIKE 이스케이프와 조건 조합별 SQL을 ID순 검색과 맞춤
+ */
+public class HospitalRepositoryImpl implements HospitalRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Hospital> searchOrderById(Specification<Hospital> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Hospital> query = cb.createQuery(Hospital.class);
+        Root<Hospital> root = query.from(Hospital.class);
+
+        query.select(root);
+        applyWhere(spec, root, query, cb);
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Hospital> searchOrderByRating(Specification<Hospital> spec, double afterRating, long afterId,
+            int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Hospital> query = cb.createQuery(Hospital.class);
+        Root<Hospital> root = query.from(Hospital.class);
+
+        // 모든 병원에 집계 행이 있으므로 내부 조인, 정렬과 커서는 (average_rating, hospital_id) 인덱스 열 그대로 사용
+        JpaEntityJoin<HospitalRatingSummary> summary = ((JpaRoot<Hospital>) root)
+                .join(HospitalRatingSummary.class, SqmJoinType.INNER);
+        summary.on(cb.equal(summary.get("hospitalId"), root.get("id")));
+        Path<Double> rating = summary.get("averageRating");
+        Path<Long> hospitalId = summary.get("hospitalId");
+
+        Predicate afterCursor = cb.or(cb.lessThan(rating, afterRating),
+                cb.and(cb.equal(rating, afterRating), cb.lessThan(hospitalId, afterId)));
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+
+        query.select(root)
+                .where(predicate == null ? afterCursor : cb.and(predicate, afterCursor))
+                .orderBy(cb.desc(rating), cb.desc(hospitalId));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countMatching(Specification<Hospital> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Hospital> root = query.from(Hospital.class);
+
+        query.select(cb.count(root));
+        applyWhere(spec, root, query, cb);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void applyWhere(Specification<Hospital> spec, Root<Hospital> root, CriteriaQuery<?> query,
+            CriteriaBuilder cb) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.hospital.repository;
+
+import com.example.hospital.domain.Hospital;
+import com.example.hospital.domain.HospitalDepartment;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 병원 검색 조건 조합용 Specification 모음
+ * - 조건 값은 모두 바인드 파라미터로 전달되므로 같은 조건 조합(필터 형태)은 같은 SQL/실행 계획을 재사용
+ * - 진료과 조건은 조인 대신 EXISTS 서브쿼리로 걸어 병원 행이 중복되지 않음 (DISTINCT 불필요)
+ */
+public final class HospitalSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private HospitalSpecifications() {
+    }
+
+    /**
+     * 병원명 부분 일치
+     */
+    public static Specification<Hospital> nameContains(String name) {
+        return (root, query, cb) -> cb.like(root.get("name"), containsPattern(name), LIKE_ESCAPE);
+    }
+
+    /**
+     * 주소(지역) 부분 일치
+     */
+    public static Specification<Hospital> addressContains(String address) {
+        return (root, query, cb) -> cb.like(root.get("address"), containsPattern(address), LIKE_ESCAPE);
+    }
+
+    /**
+     * 해당 진료과목을 가진 병원
+     */
+    public static Specification<Hospital> hasDepartment(String departmentName) {
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<HospitalDepartment> hd = subquery.from(HospitalDepartment.class);
+            subquery.select(hd.get("id"))
+                    .where(cb.equal(hd.get("hospital"), root),
+                            cb.equal(hd.get("department").get("name"), departmentName));
+            return cb.exists(subquery);
+        };
+    }
+
+    /**
+     * 키셋 페이지 커서 (ID가 afterId보다 큰 병원)
+     */
+    public static Specification<Hospital> idGreaterThan(long afterId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+
+    // LIKE 와일드카드 문자를 이스케이프해 기존 Containing 검색과 같은 의미로 맞춤
+    private static String containsPattern(String value) {
+        String escaped = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
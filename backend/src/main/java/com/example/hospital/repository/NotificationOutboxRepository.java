@@ -0,0 +1,9 @@
+package com.example.hospital.repository;
+
+import com.example.hospital.domain.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+}
@@ -0,0 +1,48 @@
+package com.example.hospital.repository;
+
+import com.example.hospital.domain.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 사용자 알림 목록 (최신순, ID 기준 키셋 페이지)
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.id < :beforeId ORDER BY n.id DESC")
+    List<Notification> findPageByUserId(@Param("userId") Long userId, @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnreadByUserId(@Param("userId") Long userId);
+
+    // 미읽음 카운터 보정용 사용자별 미읽음 수 (미읽음이 없는 사용자는 결과에 없음)
+    @Query("SELECT n.user.id AS userId, COUNT(n) AS unreadCount FROM Notification n " +
+            "WHERE n.user.id IN :userIds AND n.isRead = false GROUP BY n.user.id")
+    List<UnreadCountView> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 알림 하나 읽음 처리 (이미 읽은 알림이면 0 반환)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.user.id = :userId " +
+            "AND n.isRead = false")
+    int markRead(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 사용자의 모든 알림 읽음 처리 (단일 UPDATE)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllRead(@Param("userId") Long userId);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    interface UnreadCountView {
+        Long getUserId();
+
+        Long getUnreadCount();
+    }
+}
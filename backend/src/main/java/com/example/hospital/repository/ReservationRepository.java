@@ -1,24 +1,49 @@
 package com.example.hospital.repository;
 
 import com.example.hospital.domain.Reservation;
-import com.example.hospital.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
-    // 특정 사용자의 모든 예약 조회
-    List<Reservation> findByUser(User user);
+    // 목록/상세 응답에 필요한 컬럼만 한 번에 조회 (연관 엔티티 지연 로딩 없음)
+    String RESERVATION_VIEW_SELECT = "SELECT r.id AS id, h.name AS hospitalName, dep.name AS departmentName, " +
+            "doc.name AS doctorName, r.reservationDate AS reservationDate, r.reservationTime AS reservationTime, " +
+            "r.reason AS reason, r.status AS status, u.name AS userName " +
+            "FROM Reservation r LEFT JOIN r.hospital h LEFT JOIN r.department dep " +
+            "LEFT JOIN r.doctor doc LEFT JOIN r.user u ";
+
+    // 특정 사용자의 예약 이력 조회 (날짜 범위/상태 필터, 날짜-시간-ID 키셋 페이지)
+    @Query(RESERVATION_VIEW_SELECT + "WHERE r.user.id = :userId AND r.status IN :statuses " +
+            "AND r.reservationDate >= :fromDate AND r.reservationDate <= :toDate " +
+            "AND (r.reservationDate > :afterDate OR (r.reservationDate = :afterDate AND " +
+            "(r.reservationTime > :afterTime OR (r.reservationTime = :afterTime AND r.id > :afterId)))) " +
+            "ORDER BY r.reservationDate ASC, r.reservationTime ASC, r.id ASC")
+    List<ReservationView> findHistoryViewsByUserId(@Param("userId") Long userId,
+            @Param("statuses") Collection<Reservation.ReservationStatus> statuses,
+            @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate,
+            @Param("afterDate") LocalDate afterDate, @Param("afterTime") LocalTime afterTime,
+            @Param("afterId") Long afterId, Pageable pageable);
 
     // 특정 사용자의 활성화된 예약 조회 (취소, 거절, 완료 상태 제외)
-    List<Reservation> findByUserAndStatusNotInOrderByReservationDateAscReservationTimeAsc(
-            User user, List<Reservation.ReservationStatus> excludedStatuses);
+    @Query(RESERVATION_VIEW_SELECT + "WHERE r.user.id = :userId AND r.status NOT IN :excludedStatuses " +
+            "ORDER BY r.reservationDate ASC, r.reservationTime ASC")
+    List<ReservationView> findActiveViewsByUserId(@Param("userId") Long userId,
+            @Param("excludedStatuses") List<Reservation.ReservationStatus> excludedStatuses, Pageable pageable);
+
+    // 특정 ID의 예약 상세 조회 (프로젝션)
+    @Query(RESERVATION_VIEW_SELECT + "WHERE r.id = :id AND r.user.id = :userId")
+    Optional<ReservationView> findViewByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 
     // 예약 날짜와 시간으로 중복 예약 확인
     boolean existsByHospitalIdAndDepartmentIdAndDoctorIdAndReservationDateAndReservationTimeAndStatusNot(
@@ -26,5 +51,79 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             Reservation.ReservationStatus canceledStatus);
 
     // 특정 ID의 예약 정보 조회 (조인 사용)
-    Optional<Reservation> findByIdAndUser(Long id, User user);
+    Optional<Reservation> findByIdAndUserId(Long id, Long userId);
+
+    // 슬롯 점유 인덱스 적재용 조회 (지정 날짜 이후, 취소 상태 제외)
+    @Query("SELECT r.hospital.id AS hospitalId, r.department.id AS departmentId, d.id AS doctorId, " +
+            "r.reservationDate AS reservationDate, r.reservationTime AS reservationTime " +
+            "FROM Reservation r LEFT JOIN r.doctor d " +
+            "WHERE r.reservationDate >= :fromDate AND r.status <> :canceledStatus")
+    List<SlotView> findSlotViewsFrom(@Param("fromDate") LocalDate fromDate,
+            @Param("canceledStatus") Reservation.ReservationStatus canceledStatus);
+
+    // 슬롯 선점이 없는 활성 예약 조회 (슬롯 선점 테이블 도입 전 예약의 선점 채우기용, ID 키셋 페이지)
+    @Query("SELECT r.id AS id, r.hospital.id AS hospitalId, r.department.id AS departmentId, d.id AS doctorId, " +
+            "r.reservationDate AS reservationDate, r.reservationTime AS reservationTime " +
+            "FROM Reservation r LEFT JOIN r.doctor d " +
+            "WHERE r.id > :afterId AND r.status <> :canceledStatus " +
+            "AND NOT EXISTS (SELECT c.id FROM ReservationSlotClaim c WHERE c.reservationId = r.id) " +
+            "ORDER BY r.id")
+    List<UnclaimedSlotView> findUnclaimedSlotViews(@Param("afterId") Long afterId,
+            @Param("canceledStatus") Reservation.ReservationStatus canceledStatus, Pageable pageable);
+
+    // 의사의 기간 내 점유 슬롯 조회 (취소 상태 제외, 예약 가능 시간 계산용)
+    @Query("SELECT r.hospital.id AS hospitalId, r.department.id AS departmentId, r.doctor.id AS doctorId, " +
+            "r.reservationDate AS reservationDate, r.reservationTime AS reservationTime " +
+            "FROM Reservation r WHERE r.doctor.id = :doctorId AND r.hospital.id = :hospitalId " +
+            "AND r.department.id = :departmentId AND r.reservationDate BETWEEN :fromDate AND :toDate " +
+            "AND r.status <> :canceledStatus")
+    List<SlotView> findDoctorSlotViews(@Param("hospitalId") Long hospitalId,
+            @Param("departmentId") Long departmentId, @Param("doctorId") Long doctorId,
+            @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate,
+            @Param("canceledStatus") Reservation.ReservationStatus canceledStatus);
+
+    /**
+     * 예약 응답에 필요한 컬럼만 담는 프로젝션
+     */
+    interface ReservationView {
+        Long getId();
+
+        String getHospitalName();
+
+        String getDepartmentName();
+
+        String getDoctorName();
+
+        LocalDate getReservationDate();
+
+        LocalTime getReservationTime();
+
+        String getReason();
+
+        Reservation.ReservationStatus getStatus();
+
+        String getUserName();
+    }
+
+    /**
+     * 예약이 점유한 슬롯 정보만 담는 프로젝션
+     */
+    interface SlotView {
+        Long getHospitalId();
+
+        Long getDepartmentId();
+
+        Long getDoctorId();
+
+        LocalDate getReservationDate();
+
+        LocalTime getReservationTime();
+    }
+
+    /**
+     * 슬롯 선점이 없는 예약의 ID와 슬롯 정보
+     */
+    interface UnclaimedSlotView extends SlotView {
+        Long getId();
+    }
 }
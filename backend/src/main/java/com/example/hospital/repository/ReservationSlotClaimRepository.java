@@ -0,0 +1,24 @@
+package com.example.hospital.repository;
+
+import com.example.hospital.domain.ReservationSlotClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationSlotClaimRepository extends JpaRepository<ReservationSlotClaim, Long> {
+
+    // 예약에 연결된 슬롯 선점 해제
+    @Modifying
+    @Query("DELETE FROM ReservationSlotClaim c WHERE c.reservationId = :reservationId")
+    int deleteByReservationId(@Param("reservationId") Long reservationId);
+
+    // 이미 선점된 슬롯 키 조회
+    @Query("SELECT c.slotKey FROM ReservationSlotClaim c WHERE c.slotKey IN :slotKeys")
+    List<String> findClaimedSlotKeys(@Param("slotKeys") Collection<String> slotKeys);
+}
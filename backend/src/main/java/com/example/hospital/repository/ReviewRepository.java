@@ -0,0 +1,69 @@
+package com.example.hospital.repository;
+
+import com.example.hospital.domain.Review;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    // 병원 리뷰 목록 (최신순, ID 기준 키셋 페이지, 작성자 함께 조회)
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.hospital.id = :hospitalId AND r.id < :beforeId " +
+            "ORDER BY r.id DESC")
+    List<Review> findPageByHospitalId(@Param("hospitalId") Long hospitalId, @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    Optional<Review> findByIdAndUserId(Long id, Long userId);
+
+    // 평점 집계 재계산용 전체 리뷰 스트리밍 (병원 ID 순, MySQL 드라이버는 fetch size MIN_VALUE일 때 행 단위 스트리밍)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r.hospital.id AS hospitalId, r.rating AS rating FROM Review r ORDER BY r.hospital.id")
+    Stream<ReviewRatingView> streamRatings();
+
+    // 병원 하나의 평점 집계 (재계산 보정용, 스트리밍과 같이 1~5점 리뷰만)
+    @Query("SELECT COUNT(r) AS reviewCount, COALESCE(SUM(r.rating), 0) AS ratingSum, " +
+            "COALESCE(SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END), 0) AS rating1Count, " +
+            "COALESCE(SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END), 0) AS rating2Count, " +
+            "COALESCE(SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END), 0) AS rating3Count, " +
+            "COALESCE(SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END), 0) AS rating4Count, " +
+            "COALESCE(SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END), 0) AS rating5Count " +
+            "FROM Review r WHERE r.hospital.id = :hospitalId AND r.rating BETWEEN 1 AND 5")
+    ReviewRatingAggregateView aggregateRatings(@Param("hospitalId") Long hospitalId);
+
+    interface ReviewRatingView {
+        Long getHospitalId();
+
+        Integer getRating();
+    }
+
+    interface ReviewRatingAggregateView {
+        Long getReviewCount();
+
+        Long getRatingSum();
+
+        Long getRating1Count();
+
+        Long getRating2Count();
+
+        Long getRating3Count();
+
+        Long getRating4Count();
+
+        Long getRating5Count();
+    }
+}
@@ -2,6 +2,9 @@ package com.example.hospital.repository;
 
 import com.example.hospital.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +14,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Boolean existsByEmail(String email);
+
+    // 소셜 로그인 사용자 등록 (이미 같은 이메일의 계정이 있으면 그대로 연결)
+    @Modifying
+    @Query(value = "INSERT INTO users (email, password, name, role) " +
+            "VALUES (:email, :password, :name, :role) " +
+            "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    int upsertSocialUser(@Param("email") String email, @Param("password") String password,
+                         @Param("name") String name, @Param("role") String role);
 }
@@ -0,0 +1,15 @@
+package com.example.hospital.security;
+
+import com.example.hospital.domain.User.UserRole;
+
+/**
+ * 인증된 사용자의 최소 정보 (User 엔티티와 JWT 기반 주체가 공통으로 구현)
+ */
+public interface AuthenticatedUser {
+
+    Long getId();
+
+    String getEmail();
+
+    UserRole getRole();
+}
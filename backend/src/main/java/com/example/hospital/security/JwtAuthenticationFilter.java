@@ -1,6 +1,11 @@
 package com.example.hospital.security;
 
+import com.example.hospital.domain.User.UserRole;
 import com.example.hospital.service.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +13,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,25 +22,50 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    private static final String NOTIFICATION_STREAM_PATH = "/api/notifications/stream";
+
     @Autowired
     private JwtUtils jwtUtils;
 
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    // 토큰 클레임만으로 인증 주체를 구성할지 여부 (false면 캐시된 사용자 엔티티 사용)
+    @Value("${hospital.app.jwtStatelessPrincipal:true}")
+    private boolean statelessPrincipal;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 요청 지연 중 토큰 검증/주체 구성에 걸린 시간 (주체 구성 방식별)
+    private Timer statelessTimer;
+    private Timer loadedTimer;
+    private Timer anonymousTimer;
+
+    @PostConstruct
+    public void initMetrics() {
+        statelessTimer = authenticationTimer("stateless");
+        loadedTimer = authenticationTimer("loaded");
+        anonymousTimer = authenticationTimer("anonymous");
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        long start = System.nanoTime();
+        Timer timer = anonymousTimer;
         try {
-            String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            Claims claims = resolveClaims(request);
+            if (claims != null) {
+                boolean stateless = isStateless(claims);
+                timer = stateless ? statelessTimer : loadedTimer;
+                UserDetails userDetails = stateless ? statelessPrincipal(claims)
+                        : userDetailsService.loadCachedUserByUsername(claims.getSubject());
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -46,15 +77,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (Exception e) {
             logger.error("Cannot set user authentication: {}", e.getMessage());
         }
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
         filterChain.doFilter(request, response);
     }
 
-    private String parseJwt(HttpServletRequest request) {
+    /**
+     * 클레임에 사용자 ID와 역할이 있으면 DB 조회 없이 주체를 구성하고, 없으면(이전 토큰) 사용자 조회
+     * - 조회 경로도 캐시된 불변 주체를 돌려주므로 타이머 태그는 주체 타입이 아닌 분기로 결정
+     */
+    private boolean isStateless(Claims claims) {
+        return statelessPrincipal
+                && claims.get(JwtUtils.CLAIM_USER_ID, Long.class) != null
+                && claims.get(JwtUtils.CLAIM_ROLE, String.class) != null;
+    }
+
+    private JwtUserPrincipal statelessPrincipal(Claims claims) {
+        return new JwtUserPrincipal(claims.get(JwtUtils.CLAIM_USER_ID, Long.class), claims.getSubject(),
+                UserRole.valueOf(claims.get(JwtUtils.CLAIM_ROLE, String.class)));
+    }
+
+    private Timer authenticationTimer(String principal) {
+        return Timer.builder("hospital.security.jwt.authentication")
+                .description("JWT 검증 및 인증 주체 구성 시간")
+                .tag("principal", principal)
+                .register(meterRegistry);
+    }
+
+    private Claims resolveClaims(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
         if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
-            return headerAuth.substring(7);
+            Claims claims = jwtUtils.parseJwtClaims(headerAuth.substring(7));
+            // 스트림 티켓은 알림 스트림 연결에만 사용
+            return claims != null && !jwtUtils.isStreamTicket(claims) ? claims : null;
+        }
+
+        // 브라우저 EventSource는 헤더를 지정할 수 없으므로 알림 스트림에 한해 단기 티켓(쿼리 파라미터) 허용
+        String ticket = request.getParameter("ticket");
+        if (StringUtils.hasText(ticket) && NOTIFICATION_STREAM_PATH.equals(request.getRequestURI())) {
+            return jwtUtils.redeemStreamTicket(ticket);
         }
 
         return null;
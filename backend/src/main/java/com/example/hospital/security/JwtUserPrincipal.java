@@ -0,0 +1,78 @@
+package com.example.hospital.security;
+
+import com.example.hospital.domain.User.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 클레임만으로 만든 불변 인증 주체 (요청마다 사용자 테이블을 조회하지 않음)
+ * - 클레임이 없는 이전 토큰은 DB에서 읽은 값으로 같은 주체를 만들어 UserCache에 보관
+ */
+public final class JwtUserPrincipal implements UserDetails, AuthenticatedUser {
+
+    private final Long id;
+    private final String email;
+    private final UserRole role;
+    private final List<GrantedAuthority> authorities;
+
+    public JwtUserPrincipal(Long id, String email, UserRole role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public UserRole getRole() {
+        return role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.hospital.security;
 import com.example.hospital.domain.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,7 +12,13 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtUtils {
@@ -20,40 +27,148 @@ public class JwtUtils {
     @Value("${hospital.app.jwtSecret:defaultSecretKeyForJwtThatNeedsToBeAtLeast32CharactersLong}")
     private String jwtSecret;
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_USE = "use";
+    public static final String TOKEN_USE_STREAM = "stream";
+
     @Value("${hospital.app.jwtExpirationMs:86400000}")
     private int jwtExpirationMs;
 
+    // 검증 완료 토큰 캐시 최대 크기
+    @Value("${hospital.app.jwtCacheSize:10000}")
+    private int jwtCacheSize;
+
+    // 알림 스트림 티켓 유효 시간과 사용한 티켓 기록 최대 크기
+    @Value("${hospital.notification.stream.ticket-ttl-ms:30000}")
+    private long streamTicketTtlMs;
+
+    @Value("${hospital.notification.stream.ticket-cache-size:100000}")
+    private int streamTicketCacheSize;
+
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // 토큰 SHA-256 다이제스트 -> 검증된 클레임 (만료 시각까지만 유효)
+    private final ConcurrentHashMap<String, VerifiedClaims> verifiedTokens = new ConcurrentHashMap<>();
+
+    // 사용한 스트림 티켓 ID -> 만료 시각
+    private final ConcurrentHashMap<String, Long> redeemedTickets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     public String generateJwtToken(Authentication authentication) {
-        User userPrincipal = (User) authentication.getPrincipal();
+        return generateJwtToken((User) authentication.getPrincipal());
+    }
 
+    /**
+     * 인증 절차 없이 확인된 사용자로 토큰 발급 (소셜 로그인 등)
+     */
+    public String generateJwtToken(User userPrincipal) {
         return Jwts.builder()
                 .setSubject(userPrincipal.getUsername())
+                .claim(CLAIM_USER_ID, userPrincipal.getId())
+                .claim(CLAIM_ROLE, userPrincipal.getRole().name())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    /**
+     * 알림 스트림(EventSource) 연결용 단기 티켓 발급
+     * - EventSource는 헤더를 지정할 수 없어 URL에 실리므로, 로그에 남아도 곧 쓸 수 없도록 수명이 짧고 한 번만 쓰는 토큰
+     */
+    public String generateStreamTicket(AuthenticatedUser user) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_TOKEN_USE, TOKEN_USE_STREAM)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + streamTicketTtlMs))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public long getStreamTicketTtlMs() {
+        return streamTicketTtlMs;
+    }
+
+    public boolean isStreamTicket(Claims claims) {
+        return TOKEN_USE_STREAM.equals(claims.get(CLAIM_TOKEN_USE, String.class));
+    }
+
+    /**
+     * 스트림 티켓 검증 후 사용 처리 (티켓이 아니거나 만료/이미 사용한 티켓이면 null)
+     * - 사용 기록은 인스턴스별이므로 다른 인스턴스에서는 만료 전까지 다시 쓸 수 있음 (유효 시간을 짧게 유지)
+     */
+    public Claims redeemStreamTicket(String ticket) {
+        Claims claims = parseJwtClaims(ticket);
+        if (claims == null || !isStreamTicket(claims) || claims.getId() == null || claims.getExpiration() == null) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        if (redeemedTickets.size() >= streamTicketCacheSize) {
+            redeemedTickets.values().removeIf(expiresAt -> expiresAt <= now);
+            if (redeemedTickets.size() >= streamTicketCacheSize) {
+                // 사용 기록을 잃으면 재사용을 막을 수 없으므로 정리될 때까지 거절
+                logger.warn("Stream ticket registry is full");
+                return null;
+            }
+        }
+        if (redeemedTickets.putIfAbsent(claims.getId(), claims.getExpiration().getTime()) != null) {
+            logger.warn("Stream ticket reused: {}", claims.getId());
+            return null;
+        }
+        return claims;
     }
 
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        Claims claims = parseJwtClaims(token);
+        return claims != null ? claims.getSubject() : null;
     }
 
     public boolean validateJwtToken(String authToken) {
+        return parseJwtClaims(authToken) != null;
+    }
+
+    /**
+     * 토큰을 한 번만 검증/파싱해 클레임 반환 (유효하지 않으면 null)
+     * - 최근 검증한 토큰은 서명 검증 없이 캐시된 클레임을 사용
+     */
+    public Claims parseJwtClaims(String authToken) {
+        if (authToken == null || authToken.isEmpty()) {
+            logger.error("JWT claims string is empty");
+            return null;
+        }
+
+        String digest = digest(authToken);
+        long now = System.currentTimeMillis();
+
+        VerifiedClaims cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                return cached.claims();
+            }
+            verifiedTokens.remove(digest);
+        }
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key())
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(authToken).getBody();
+            if (claims.getExpiration() != null) {
+                cache(digest, new VerifiedClaims(claims, claims.getExpiration().getTime()), now);
+            }
+            return claims;
         } catch (SignatureException e) {
             logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -66,6 +181,31 @@ public class JwtUtils {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
 
-        return false;
+        return null;
+    }
+
+    private void cache(String digest, VerifiedClaims verified, long now) {
+        if (verifiedTokens.size() >= jwtCacheSize) {
+            // 만료된 항목부터 정리하고, 그래도 가득 차 있으면 일부를 비움
+            verifiedTokens.values().removeIf(entry -> entry.expiresAt() <= now);
+            Iterator<String> iterator = verifiedTokens.keySet().iterator();
+            while (verifiedTokens.size() >= jwtCacheSize * 9 / 10 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        verifiedTokens.put(digest, verified);
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record VerifiedClaims(Claims claims, long expiresAt) {
     }
 }
\ No newline at end of file
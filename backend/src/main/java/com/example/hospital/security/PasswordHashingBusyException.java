@@ -0,0 +1,11 @@
+package com.example.hospital.security;
+
+/**
+ * 비밀번호 해싱 작업 풀이 포화 상태여서 요청을 즉시 거절할 때 발생
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
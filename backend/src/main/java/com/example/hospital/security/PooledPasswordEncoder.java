@@ -0,0 +1,33 @@
+package com.example.hospital.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 실제 해싱/검증을 PasswordHashingExecutor 풀에서 수행하는 PasswordEncoder
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.encode(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.matches(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 BCrypt cost가 설정값보다 낮으면 로그인 시 재해싱
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Doctor;
+import com.example.hospital.domain.Reservation;
+import com.example.hospital.dto.SlotDto;
+import com.example.hospital.dto.SlotDto.DaySlotsResponse;
+import com.example.hospital.dto.SlotDto.DoctorSlotsResponse;
+import com.example.hospital.dto.SlotDto.SlotResponse;
+import com.example.hospital.repository.DoctorRepository;
+import com.example.hospital.repository.ReservationRepository;
+import com.example.hospital.repository.ReservationRepository.SlotView;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 의사별 예약 가능 시간 조회
+ * - 기간 전체의 점유 슬롯을 한 번의 범위 쿼리로 읽고, 날짜별 분 단위 비트셋으로 슬롯 격자와 대조
+ * - 예약 생성 시 중복 판단과 같은 기준(같은 날짜, 같은 시각의 취소되지 않은 예약)을 사용
+ * - 의사 진료 시간표가 있으면 시간표의 슬롯을, 없으면 설정된 기본 시간표를 사용
+ */
+@Service
+public class AvailabilityService {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private DoctorScheduleService doctorScheduleService;
+
+    @Value("${hospital.reservation.slots.open-time:09:00}")
+    private String openTime;
+
+    @Value("${hospital.reservation.slots.close-time:18:00}")
+    private String closeTime;
+
+    @Value("${hospital.reservation.slots.slot-minutes:30}")
+    private int slotMinutes;
+
+    @Value("${hospital.reservation.slots.default-days:7}")
+    private int defaultDays;
+
+    @Value("${hospital.reservation.slots.max-days:62}")
+    private int maxDays;
+
+    // 기본 진료 시간표의 슬롯 시작 시각 (자정 기준 분)
+    private int[] defaultSlotStarts;
+
+    @PostConstruct
+    public void init() {
+        int open = toMinute(LocalTime.parse(openTime, TIME_FORMAT));
+        int close = toMinute(LocalTime.parse(closeTime, TIME_FORMAT));
+        if (slotMinutes <= 0 || close <= open) {
+            throw new IllegalStateException("예약 슬롯 설정이 올바르지 않습니다.");
+        }
+
+        List<Integer> starts = new ArrayList<>();
+        for (int minute = open; minute + slotMinutes <= close; minute += slotMinutes) {
+            starts.add(minute);
+        }
+        defaultSlotStarts = starts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 의사의 기간 내 슬롯별 예약 가능 여부 조회 (from/to: yyyy-MM-dd, 포함)
+     */
+    @Transactional(readOnly = true)
+    public DoctorSlotsResponse getDoctorSlots(Long hospitalId, Long departmentId, Long doctorId,
+            String from, String to) {
+        Doctor doctor = doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 의사를 찾을 수 없습니다."));
+
+        if (doctor.getHospital() == null || !Objects.equals(doctor.getHospital().getId(), hospitalId) ||
+                doctor.getDepartment() == null || !Objects.equals(doctor.getDepartment().getId(), departmentId)) {
+            throw new IllegalArgumentException("해당 병원/진료과에 소속된 의사가 아닙니다.");
+        }
+
+        LocalDate fromDate;
+        LocalDate toDate;
+        try {
+            fromDate = StringUtils.hasText(from) ? LocalDate.parse(from, DATE_FORMAT) : LocalDate.now();
+            toDate = StringUtils.hasText(to) ? LocalDate.parse(to, DATE_FORMAT) : fromDate.plusDays(defaultDays - 1);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+        }
+
+        if (toDate.isBefore(fromDate)) {
+            throw new IllegalArgumentException("조회 종료일이 시작일보다 앞설 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) + 1 > maxDays) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + maxDays + "일입니다.");
+        }
+
+        // 기간 전체의 점유 슬롯을 한 번에 조회해 날짜별 비트셋으로 변환
+        Map<LocalDate, BitSet> takenByDate = new HashMap<>();
+        List<SlotView> takenSlots = reservationRepository.findDoctorSlotViews(hospitalId, departmentId, doctorId,
+                fromDate, toDate, Reservation.ReservationStatus.CANCELED);
+        for (SlotView slot : takenSlots) {
+            takenByDate.computeIfAbsent(slot.getReservationDate(), k -> new BitSet(MINUTES_PER_DAY))
+                    .set(toMinute(slot.getReservationTime()));
+        }
+
+        DoctorSlotSchedule schedule = doctorScheduleService.findSchedule(doctorId, fromDate, toDate);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<DaySlotsResponse> days = new ArrayList<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            BitSet taken = takenByDate.get(date);
+            List<SlotResponse> slots = new ArrayList<>();
+            if (schedule != null) {
+                for (int start = schedule.nextSlotStart(date, 0); start >= 0;
+                        start = schedule.nextSlotStart(date, start + 1)) {
+                    slots.add(toSlotResponse(date, start, taken, now));
+                }
+            } else {
+                for (int start : defaultSlotStarts) {
+                    slots.add(toSlotResponse(date, start, taken, now));
+                }
+            }
+            days.add(DaySlotsResponse.builder()
+                    .date(date.format(DATE_FORMAT))
+                    .slots(slots)
+                    .build());
+        }
+
+        return DoctorSlotsResponse.builder()
+                .hospitalId(hospitalId)
+                .departmentId(departmentId)
+                .doctorId(doctorId)
+                .from(fromDate.format(DATE_FORMAT))
+                .to(toDate.format(DATE_FORMAT))
+                .days(days)
+                .build();
+    }
+
+    private SlotResponse toSlotResponse(LocalDate date, int start, BitSet taken, LocalDateTime now) {
+        LocalTime time = LocalTime.of(start / 60, start % 60);
+        String status;
+        if (taken != null && taken.get(start)) {
+            status = SlotDto.TAKEN;
+        } else if (date.atTime(time).isBefore(now)) {
+            status = SlotDto.PAST;
+        } else {
+            status = SlotDto.AVAILABLE;
+        }
+        return SlotResponse.builder()
+                .time(time.format(TIME_FORMAT))
+                .status(status)
+                .build();
+    }
+
+    private int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Department;
+import com.example.hospital.domain.Doctor;
+import com.example.hospital.domain.DoctorSchedule;
+import com.example.hospital.domain.DoctorScheduleOverride;
+import com.example.hospital.domain.Hospital;
+import com.example.hospital.domain.HospitalDepartment;
+import com.example.hospital.dto.CacheDto.CacheRegionResponse;
+import com.example.hospital.dto.CacheDto.CatalogCacheResponse;
+import com.example.hospital.event.ExternalCatalogChangeEvent;
+import com.example.hospital.event.HospitalChangedEvent;
+import com.example.hospital.repository.HospitalRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 병원/진료과/의사 참조 데이터 2차 캐시 관리
+ * - JPA로 수정한 변경은 Hibernate가 캐시에 반영하므로(역방향 컬렉션은 auto_evict_collection_cache), 이 서비스는 DB를 직접 수정한 경우(일괄 적재, 운영 SQL)에 사용
+ * - 캐시는 인스턴스마다 따로이므로, 다른 인스턴스의 변경으로 카탈로그 버전이 바뀐 것을 확인하면 이 인스턴스의 캐시도 비움
+ * - 영역별 적중/실패 통계 조회 (hibernate.* 메트릭으로도 노출)
+ */
+@Service
+public class CatalogCacheService {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCacheService.class);
+
+    static final List<String> REGIONS = List.of(
+            "catalog.hospital", "catalog.hospital.departments", "catalog.hospital.doctors",
+            "catalog.department", "catalog.hospital-department", "catalog.doctor",
+            "catalog.doctor-schedule", "catalog.doctor-schedule-override");
+
+    private static final String HOSPITAL_DEPARTMENTS_ROLE = Hospital.class.getName() + ".hospitalDepartments";
+    private static final String HOSPITAL_DOCTORS_ROLE = Hospital.class.getName() + ".doctors";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private HospitalSearchIndex hospitalSearchIndex;
+
+    @Autowired
+    private HospitalGeoIndex hospitalGeoIndex;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private RatingAggregateService ratingAggregateService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 참조 데이터 캐시 전체 비우기 (쿼리 캐시 포함)
+     */
+    public void evictAll() {
+        evictRegions();
+        // DB를 직접 수정한 경우이므로 병원 목록 ETag와 병원명/좌표/진료과 색인도 DB 기준으로 다시 구성
+        // (SQL로 추가한 병원은 평점 집계 행이 없으므로 평점순 검색에 나오도록 함께 생성)
+        ratingAggregateService.createMissingSummaries();
+        catalogVersion.bump();
+        hospitalSearchIndex.rebuild();
+        hospitalGeoIndex.rebuild();
+        logger.info("Catalog cache evicted");
+    }
+
+    /**
+     * 다른 인스턴스나 직접 수정한 SQL로 카탈로그 버전이 바뀌면 새 버전 응답을 만들기 전에 이 인스턴스의 캐시를 비움
+     * (버전은 이미 바뀌었으므로 다시 올리지 않음)
+     */
+    @EventListener
+    public void onExternalCatalogChange(ExternalCatalogChangeEvent event) {
+        evictRegions();
+        logger.debug("Catalog cache evicted for version {}", event.version());
+    }
+
+    /**
+     * 병원 한 곳과 그 진료과/의사 목록 캐시 비우기
+     * - 병원을 DB에서 다시 읽어 JPA로 수정한 것과 같은 변경 이벤트를 발행 (검색/좌표 색인과 카탈로그 버전 갱신)
+     * - SQL로 추가한 병원이면 평점 집계 행도 생성
+     */
+    public void evictHospital(Long hospitalId) {
+        Cache cache = cache();
+        cache.evictEntityData(Hospital.class, hospitalId);
+        cache.evictCollectionData(HOSPITAL_DEPARTMENTS_ROLE, hospitalId);
+        cache.evictCollectionData(HOSPITAL_DOCTORS_ROLE, hospitalId);
+        hospitalGeoIndex.markDepartmentsStale();
+
+        HospitalChangedEvent event = hospitalRepository.findById(hospitalId)
+                .map(hospital -> new HospitalChangedEvent(hospital.getId(), hospital.getName(), hospital.getAddress(),
+                        hospital.getLatitude(), hospital.getLongitude(), false))
+                .orElseGet(() -> new HospitalChangedEvent(hospitalId, null, null, null, null, true));
+        if (!event.deleted()) {
+            ratingAggregateService.createSummaryIfMissing(hospitalId);
+        }
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * 의사 한 명과 그 진료 시간표 캐시 비우기
+     */
+    public void evictDoctor(Long doctorId) {
+        Cache cache = cache();
+        cache.evictEntityData(Doctor.class, doctorId);
+        // 시간표는 의사 ID로 조회하는 쿼리 캐시를 거치므로 쿼리 캐시도 함께 비움
+        cache.evictEntityData(DoctorSchedule.class);
+        cache.evictEntityData(DoctorScheduleOverride.class);
+        cache.evictQueryRegions();
+    }
+
+    /**
+     * 영역별 캐시 적중/실패 통계 (hibernate.generate_statistics가 켜져 있을 때만 집계되고 꺼져 있으면 0)
+     */
+    public CatalogCacheResponse getStatistics() {
+        Statistics statistics = sessionFactory().getStatistics();
+        List<CacheRegionResponse> regions = new ArrayList<>();
+        for (String region : REGIONS) {
+            CacheRegionStatistics regionStatistics;
+            try {
+                regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            } catch (IllegalArgumentException e) {
+                // 2차 캐시가 꺼져 있으면 영역이 없음
+                continue;
+            }
+            regions.add(CacheRegionResponse.builder()
+                    .region(region)
+                    .hitCount(regionStatistics.getHitCount())
+                    .missCount(regionStatistics.getMissCount())
+                    .putCount(regionStatistics.getPutCount())
+                    .elementCount(regionStatistics.getElementCountInMemory())
+                    .build());
+        }
+        return CatalogCacheResponse.builder()
+                .regions(regions)
+                .build();
+    }
+
+    private void evictRegions() {
+        Cache cache = cache();
+        cache.evictEntityData(Hospital.class);
+        cache.evictEntityData(Department.class);
+        cache.evictEntityData(HospitalDepartment.class);
+        cache.evictEntityData(Doctor.class);
+        cache.evictEntityData(DoctorSchedule.class);
+        cache.evictEntityData(DoctorScheduleOverride.class);
+        cache.evictCollectionData(HOSPITAL_DEPARTMENTS_ROLE);
+        cache.evictCollectionData(HOSPITAL_DOCTORS_ROLE);
+        cache.evictQueryRegions();
+    }
+
+    private Cache cache() {
+        return sessionFactory().getCache();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.hospital.service;
+
+import com.example.hospital.dto.HospitalDto.HospitalListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 조건 없는 병원 목록 응답을 카탈로그 버전별로 직렬화/압축해 둔 바이트 캐시
+ * - 버전이 바뀌면 다음 요청에서 다시 만들며, 페이지(커서/크기) 조합 수는 max-entries로 제한
+ * - 다른 인스턴스의 변경으로 바뀐 버전은 CatalogVersion이 이 인스턴스의 2차 캐시를 비운 뒤에 돌려주므로,
+ *   새 버전으로 저장하는 본문은 그 변경 이후의 DB 내용으로 만듦
+ */
+@Component
+public class CatalogResponseCache {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${hospital.catalog.response-cache.max-entries:64}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<String, CachedCatalog> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 버전이 일치하는 캐시가 있으면 반환하고, 없으면 loader로 만들어 저장
+     */
+    public CachedCatalog get(String requestKey, long version, Supplier<HospitalListResponse> loader) {
+        CachedCatalog cached = entries.get(requestKey);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+
+        byte[] json = serialize(loader.get());
+        CachedCatalog created = new CachedCatalog(version, json, gzip(json));
+        if (entries.size() >= maxEntries && !entries.containsKey(requestKey)) {
+            entries.clear();
+        }
+        entries.put(requestKey, created);
+        return created;
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 (q=0은 거부, gzip이 없으면 *의 q 값을 따름)
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    // q 파라미터 값 (없으면 1, 잘못된 값이면 허용하지 않는 것으로 봄)
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private byte[] serialize(HospitalListResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    public record CachedCatalog(long version, byte[] json, byte[] gzip) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.CatalogRevision;
+import com.example.hospital.event.CatalogChangedEvent;
+import com.example.hospital.event.ExternalCatalogChangeEvent;
+import com.example.hospital.event.HospitalChangedEvent;
+import com.example.hospital.repository.CatalogRevisionRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * 병원 목록/검색 응답의 카탈로그 버전 (ETag 기준)
+ * - 병원, 진료과, 병원-진료과 연결, 평점 집계가 바뀌면 커밋 후 증가
+ * - 버전은 DB 행(catalog_revisions) 하나를 인스턴스가 함께 쓰며, 다른 인스턴스의 증가는 refresh-ms 이내에 반영
+ *   (그 사이에는 이전 버전으로 304를 줄 수 있으므로 refresh-ms는 Cache-Control max-age보다 짧게 유지)
+ * - 다시 읽은 버전이 이 인스턴스가 올린 만큼보다 더 올라 있으면 다른 곳의 변경으로 보고, 새 버전을 돌려주기 전에
+ *   ExternalCatalogChangeEvent를 발행 (인스턴스마다 따로인 2차 캐시와 검색 색인을 새 버전 응답 전에 맞춤)
+ */
+@Component
+public class CatalogVersion {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogVersion.class);
+
+    @Autowired
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${hospital.catalog.version-refresh-ms:1000}")
+    private long refreshMs;
+
+    private final TransactionTemplate newTransaction;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicBoolean pendingBump = new AtomicBoolean();
+    private final AtomicBoolean bumping = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+
+    // 마지막으로 읽은 뒤 이 인스턴스가 올린 횟수 (this로 동기화, 다시 읽을 때 다른 곳의 변경과 구분)
+    private long localIncrements;
+
+    public CatalogVersion(PlatformTransactionManager transactionManager) {
+        // 커밋 후 콜백에서도 쓰므로 항상 새 트랜잭션 (호출한 트랜잭션의 영속성 컨텍스트를 거치지 않음)
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void init() {
+        newTransaction.executeWithoutResult(status ->
+                catalogRevisionRepository.createIfAbsent(System.currentTimeMillis()));
+        snapshot = load();
+    }
+
+    /**
+     * 현재 버전 (마지막으로 읽은 지 refresh-ms가 지났으면 DB에서 다시 읽음, 동시에 한 요청만 읽음)
+     */
+    public long current() {
+        Snapshot current = snapshot;
+        if (System.currentTimeMillis() - current.readAt() >= refreshMs && refreshing.compareAndSet(false, true)) {
+            try {
+                current = refresh();
+            } catch (DataAccessException e) {
+                logger.warn("Failed to refresh catalog version: {}", e.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return current.version();
+    }
+
+    /**
+     * 버전 증가 (동시에 들어온 증가는 한 번의 UPDATE로 합침)
+     * - 증가 중인 스레드가 있으면 표시만 남기고 반환하며, 증가 중인 스레드가 표시가 없어질 때까지 반복
+     */
+    public void bump() {
+        pendingBump.set(true);
+        while (pendingBump.get() && bumping.compareAndSet(false, true)) {
+            try {
+                while (pendingBump.getAndSet(false)) {
+                    synchronized (this) {
+                        newTransaction.executeWithoutResult(status -> catalogRevisionRepository.increment());
+                        localIncrements++;
+                    }
+                }
+                refresh();
+            } catch (DataAccessException e) {
+                // 커밋 후 호출되므로 예외를 올리지 않음 (다음 증가 때 함께 반영)
+                logger.error("Failed to bump catalog version: {}", e.getMessage());
+            } finally {
+                bumping.set(false);
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 버전 증가 (트랜잭션 밖이면 즉시)
+     */
+    public void bumpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump();
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHospitalChanged(HospitalChangedEvent event) {
+        bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        bump();
+    }
+
+    /**
+     * 버전과 요청 조건(쿼리 문자열)별 강한 ETag, 압축 응답은 별도 태그
+     */
+    public String etag(long version, String requestKey, boolean gzip) {
+        CRC32 crc = new CRC32();
+        crc.update(requestKey.getBytes(StandardCharsets.UTF_8));
+        String epoch = Long.toString(snapshot.epoch(), 36);
+        return "\"" + epoch + "." + version + "." + Long.toHexString(crc.getValue()) + (gzip ? "-gzip" : "") + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 확인 (If-None-Match는 약한 비교)
+     */
+    public boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 이 인스턴스가 올린 것보다 더 올라 있으면 새 스냅샷을 보이기 전에 다른 곳의 변경을 알림
+    private synchronized Snapshot refresh() {
+        Snapshot previous = snapshot;
+        Snapshot loaded = load();
+        long expected = previous.version() + localIncrements;
+        localIncrements = 0;
+        if (loaded.epoch() != previous.epoch() || loaded.version() > expected) {
+            logger.debug("Catalog changed elsewhere (version {} -> {})", previous.version(), loaded.version());
+            eventPublisher.publishEvent(new ExternalCatalogChangeEvent(loaded.version()));
+        }
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private Snapshot load() {
+        CatalogRevision revision = newTransaction.execute(status ->
+                catalogRevisionRepository.findById(CatalogRevision.ID).orElseThrow());
+        return new Snapshot(revision.getEpoch(), revision.getVersion(), System.currentTimeMillis());
+    }
+
+    private record Snapshot(long epoch, long version, long readAt) {
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Doctor;
+import com.example.hospital.domain.DoctorSchedule;
+import com.example.hospital.domain.DoctorScheduleOverride;
+import com.example.hospital.dto.ScheduleDto.OverrideRequest;
+import com.example.hospital.dto.ScheduleDto.OverrideResponse;
+import com.example.hospital.dto.ScheduleDto.ScheduleResponse;
+import com.example.hospital.dto.ScheduleDto.TimeRange;
+import com.example.hospital.dto.ScheduleDto.WeeklyScheduleRequest;
+import com.example.hospital.dto.ScheduleDto.WorkingHours;
+import com.example.hospital.repository.DoctorRepository;
+import com.example.hospital.repository.DoctorScheduleOverrideRepository;
+import com.example.hospital.repository.DoctorScheduleRepository;
+import com.example.hospital.util.SlotTemplateUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 의사 진료 시간표 관리 및 조회
+ * - 주간 템플릿과 날짜별 예외를 슬롯 시작 비트로 저장하고, 조회 시 기간 단위로만 펼침
+ * - 시간표가 등록되지 않은 의사는 기존과 같이 시간 제한 없이 예약 가능
+ */
+@Service
+public class DoctorScheduleService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final String NOT_WORKING_MESSAGE = "선택한 시간은 해당 의사의 진료 시간이 아닙니다.";
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private DoctorScheduleRepository doctorScheduleRepository;
+
+    @Autowired
+    private DoctorScheduleOverrideRepository doctorScheduleOverrideRepository;
+
+    /**
+     * 의사의 기간 내 진료 시간표 조회 (시간표가 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public DoctorSlotSchedule findSchedule(Long doctorId, LocalDate from, LocalDate to) {
+        DoctorSchedule schedule = doctorScheduleRepository.findByDoctorId(doctorId).orElse(null);
+        if (schedule == null) {
+            return null;
+        }
+
+        List<DoctorScheduleOverride> overrides = doctorScheduleOverrideRepository
+                .findByDoctorIdAndOverrideDateBetweenOrderByOverrideDateAsc(doctorId, from, to);
+        return toSlotSchedule(schedule, overrides);
+    }
+
+    /**
+     * 예약하려는 시간이 의사의 진료 슬롯인지 확인 (시간표가 없는 의사는 검사하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public void validateBookable(Long doctorId, LocalDate date, LocalTime time) {
+        DoctorSchedule schedule = doctorScheduleRepository.findByDoctorId(doctorId).orElse(null);
+        if (schedule == null) {
+            return;
+        }
+
+        DoctorScheduleOverride override = doctorScheduleOverrideRepository
+                .findByDoctorIdAndOverrideDate(doctorId, date).orElse(null);
+        DoctorSlotSchedule slots = toSlotSchedule(schedule,
+                override != null ? List.of(override) : Collections.emptyList());
+        if (!slots.isSlotStart(date, time)) {
+            throw new IllegalStateException(NOT_WORKING_MESSAGE);
+        }
+    }
+
+    /**
+     * 의사의 주간 시간표와 오늘 이후 예외일 조회
+     */
+    @Transactional(readOnly = true)
+    public ScheduleResponse getSchedule(Long doctorId) {
+        DoctorSchedule schedule = doctorScheduleRepository.findByDoctorId(doctorId)
+                .orElseThrow(() -> new IllegalArgumentException("등록된 진료 시간표가 없습니다."));
+        return toResponse(doctorId, schedule);
+    }
+
+    /**
+     * 주간 시간표 등록/변경
+     */
+    @Transactional
+    public ScheduleResponse saveSchedule(Long doctorId, WeeklyScheduleRequest request) {
+        Doctor doctor = doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 의사를 찾을 수 없습니다."));
+
+        if (request.getSlotMinutes() == null) {
+            throw new IllegalArgumentException("슬롯 길이를 입력해주세요.");
+        }
+        int slotMinutes = request.getSlotMinutes();
+
+        byte[] weeklySlots = SlotTemplateUtil.emptyWeek();
+        if (request.getHours() != null) {
+            for (WorkingHours hours : request.getHours()) {
+                int day = parseDayOfWeek(hours.getDayOfWeek()).getValue() - 1;
+                SlotTemplateUtil.addRange(weeklySlots, day, parseMinute(hours.getStart()),
+                        parseMinute(hours.getEnd()), slotMinutes);
+            }
+        }
+
+        DoctorSchedule schedule = doctorScheduleRepository.findByDoctorId(doctorId).orElse(null);
+        if (schedule == null) {
+            schedule = DoctorSchedule.builder()
+                    .doctor(doctor)
+                    .slotMinutes(slotMinutes)
+                    .weeklySlots(weeklySlots)
+                    .build();
+        } else {
+            // 슬롯 길이가 바뀌면 앞으로의 예외일도 같은 길이로 다시 계산
+            if (schedule.getSlotMinutes() != slotMinutes) {
+                for (DoctorScheduleOverride override : doctorScheduleOverrideRepository
+                        .findByDoctorIdAndOverrideDateGreaterThanEqualOrderByOverrideDateAsc(doctorId,
+                                LocalDate.now())) {
+                    byte[] slots = SlotTemplateUtil.emptyDay();
+                    for (int[] range : toRanges(override.getSlots(), 0, schedule.getSlotMinutes())) {
+                        SlotTemplateUtil.addRange(slots, 0, range[0], range[1], slotMinutes);
+                    }
+                    override.changeSlots(slots, override.getReason());
+                }
+            }
+            schedule.changeSlots(slotMinutes, weeklySlots);
+        }
+
+        DoctorSchedule savedSchedule = doctorScheduleRepository.save(schedule);
+        return toResponse(doctorId, savedSchedule);
+    }
+
+    /**
+     * 특정 날짜의 예외 진료 시간 등록/변경 (hours가 비어 있으면 휴진)
+     */
+    @Transactional
+    public ScheduleResponse saveOverride(Long doctorId, OverrideRequest request) {
+        DoctorSchedule schedule = doctorScheduleRepository.findByDoctorId(doctorId)
+                .orElseThrow(() -> new IllegalArgumentException("먼저 주간 진료 시간표를 등록해주세요."));
+
+        LocalDate date = parseDate(request.getDate());
+        byte[] slots = SlotTemplateUtil.emptyDay();
+        if (request.getHours() != null) {
+            for (TimeRange range : request.getHours()) {
+                SlotTemplateUtil.addRange(slots, 0, parseMinute(range.getStart()), parseMinute(range.getEnd()),
+                        schedule.getSlotMinutes());
+            }
+        }
+
+        DoctorScheduleOverride override = doctorScheduleOverrideRepository
+                .findByDoctorIdAndOverrideDate(doctorId, date).orElse(null);
+        if (override == null) {
+            override = DoctorScheduleOverride.builder()
+                    .doctor(schedule.getDoctor())
+                    .overrideDate(date)
+                    .slots(slots)
+                    .reason(request.getReason())
+                    .build();
+        } else {
+            override.changeSlots(slots, request.getReason());
+        }
+
+        doctorScheduleOverrideRepository.save(override);
+        return toResponse(doctorId, schedule);
+    }
+
+    /**
+     * 예외 진료 시간 삭제 (해당 날짜는 주간 시간표를 따름)
+     */
+    @Transactional
+    public ScheduleResponse deleteOverride(Long doctorId, String date) {
+        DoctorSchedule schedule = doctorScheduleRepository.findByDoctorId(doctorId)
+                .orElseThrow(() -> new IllegalArgumentException("등록된 진료 시간표가 없습니다."));
+
+        DoctorScheduleOverride override = doctorScheduleOverrideRepository
+                .findByDoctorIdAndOverrideDate(doctorId, parseDate(date))
+                .orElseThrow(() -> new IllegalArgumentException("해당 날짜의 예외 진료 시간이 없습니다."));
+
+        doctorScheduleOverrideRepository.delete(override);
+        return toResponse(doctorId, schedule);
+    }
+
+    private DoctorSlotSchedule toSlotSchedule(DoctorSchedule schedule, List<DoctorScheduleOverride> overrides) {
+        Map<LocalDate, byte[]> overrideSlots = overrides.isEmpty() ? Collections.emptyMap() : new HashMap<>();
+        for (DoctorScheduleOverride override : overrides) {
+            overrideSlots.put(override.getOverrideDate(), override.getSlots());
+        }
+        return new DoctorSlotSchedule(schedule.getSlotMinutes(), schedule.getWeeklySlots(), overrideSlots);
+    }
+
+    private ScheduleResponse toResponse(Long doctorId, DoctorSchedule schedule) {
+        List<WorkingHours> hours = new ArrayList<>();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            for (int[] range : toRanges(schedule.getWeeklySlots(), dayOfWeek.getValue() - 1,
+                    schedule.getSlotMinutes())) {
+                hours.add(WorkingHours.builder()
+                        .dayOfWeek(dayOfWeek.name())
+                        .start(formatMinute(range[0]))
+                        .end(formatMinute(range[1]))
+                        .build());
+            }
+        }
+
+        List<OverrideResponse> overrides = new ArrayList<>();
+        for (DoctorScheduleOverride override : doctorScheduleOverrideRepository
+                .findByDoctorIdAndOverrideDateGreaterThanEqualOrderByOverrideDateAsc(doctorId, LocalDate.now())) {
+            List<TimeRange> ranges = new ArrayList<>();
+            for (int[] range : toRanges(override.getSlots(), 0, schedule.getSlotMinutes())) {
+                ranges.add(TimeRange.builder()
+                        .start(formatMinute(range[0]))
+                        .end(formatMinute(range[1]))
+                        .build());
+            }
+            overrides.add(OverrideResponse.builder()
+                    .date(override.getOverrideDate().format(DATE_FORMAT))
+                    .hours(ranges)
+                    .reason(override.getReason())
+                    .build());
+        }
+
+        return ScheduleResponse.builder()
+                .doctorId(doctorId)
+                .slotMinutes(schedule.getSlotMinutes())
+                .hours(hours)
+                .overrides(overrides)
+                .build();
+    }
+
+    // 연속된 슬롯을 [시작, 종료) 진료 구간으로 묶음
+    private List<int[]> toRanges(byte[] template, int day, int slotMinutes) {
+        List<int[]> ranges = new ArrayList<>();
+        int[] current = null;
+        for (int minute = SlotTemplateUtil.nextSlotStart(template, day, 0); minute >= 0;
+                minute = SlotTemplateUtil.nextSlotStart(template, day, minute + 1)) {
+            if (current != null && current[1] == minute) {
+                current[1] = minute + slotMinutes;
+            } else {
+                current = new int[]{minute, minute + slotMinutes};
+                ranges.add(current);
+            }
+        }
+        return ranges;
+    }
+
+    private DayOfWeek parseDayOfWeek(String value) {
+        try {
+            return DayOfWeek.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("요일 형식이 올바르지 않습니다. (MONDAY ~ SUNDAY)");
+        }
+    }
+
+    private LocalDate parseDate(String value) {
+        if (!StringUtils.hasText(value)) {
+            throw new IllegalArgumentException("날짜를 입력해주세요.");
+        }
+        try {
+            return LocalDate.parse(value, DATE_FORMAT);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+        }
+    }
+
+    // HH:mm을 자정 기준 분으로 변환 (24:00은 하루의 끝으로 허용)
+    private int parseMinute(String value) {
+        if ("24:00".equals(value)) {
+            return 24 * 60;
+        }
+        if (!StringUtils.hasText(value)) {
+            throw new IllegalArgumentException("진료 시간을 입력해주세요.");
+        }
+        try {
+            LocalTime time = LocalTime.parse(value, TIME_FORMAT);
+            return time.getHour() * 60 + time.getMinute();
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("시간 형식이 올바르지 않습니다. (HH:mm)");
+        }
+    }
+
+    private String formatMinute(int minute) {
+        return String.format("%02d:%02d", minute / 60, minute % 60);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.hospital.service;
+
+import com.example.hospital.util.SlotTemplateUtil;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+
+/**
+ * 조회 기간에 대해 펼쳐 놓은 의사 진료 시간표
+ * - 주간 템플릿과 기간 내 예외일만 들고 있다가, 날짜별 슬롯은 요청 시 비트 단위로 계산 (슬롯 객체를 만들지 않음)
+ */
+public final class DoctorSlotSchedule {
+
+    private final int slotMinutes;
+    private final byte[] weeklySlots;
+    private final Map<LocalDate, byte[]> overrides;
+
+    DoctorSlotSchedule(int slotMinutes, byte[] weeklySlots, Map<LocalDate, byte[]> overrides) {
+        this.slotMinutes = slotMinutes;
+        this.weeklySlots = weeklySlots;
+        this.overrides = overrides;
+    }
+
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    /**
+     * 해당 날짜/시간이 진료 슬롯 시작 시각인지 확인
+     */
+    public boolean isSlotStart(LocalDate date, LocalTime time) {
+        if (time.getSecond() != 0 || time.getNano() != 0) {
+            return false;
+        }
+        byte[] override = overrides.get(date);
+        int minute = time.getHour() * 60 + time.getMinute();
+        return override != null
+                ? SlotTemplateUtil.isSlotStart(override, 0, minute)
+                : SlotTemplateUtil.isSlotStart(weeklySlots, dayOfWeekIndex(date), minute);
+    }
+
+    /**
+     * 해당 날짜에서 fromMinute 이후(포함) 첫 슬롯 시작 시각(자정 기준 분), 없으면 -1
+     * for (int m = next(date, 0); m >= 0; m = next(date, m + 1)) 형태로 순회
+     */
+    public int nextSlotStart(LocalDate date, int fromMinute) {
+        byte[] override = overrides.get(date);
+        return override != null
+                ? SlotTemplateUtil.nextSlotStart(override, 0, fromMinute)
+                : SlotTemplateUtil.nextSlotStart(weeklySlots, dayOfWeekIndex(date), fromMinute);
+    }
+
+    private int dayOfWeekIndex(LocalDate date) {
+        return date.getDayOfWeek().getValue() - 1;
+    }
+}
@@ -0,0 +1,326 @@
+package com.example.hospital.service;
+
+import com.example.hospital.event.CatalogChangedEvent;
+import com.example.hospital.event.ExternalCatalogChangeEvent;
+import com.example.hospital.event.HospitalChangedEvent;
+import com.example.hospital.repository.HospitalRepository;
+import com.example.hospital.repository.HospitalRepository.HospitalDepartmentView;
+import com.example.hospital.repository.HospitalRepository.HospitalGeoView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 병원 좌표 격자 색인
+ * - 위도/경도를 일정 간격(기본 0.05도, 약 5km)의 격자 칸으로 나누고 칸별 병원 목록을 보관
+ * - 가까운 순 검색은 질의 지점의 칸부터 바깥 고리 순으로 넓혀 가며, 남은 고리의 최소 거리가
+ *   현재 k번째 거리보다 멀어지면 중단하므로 전체 병원 수와 무관하게 주변 칸만 확인
+ * - 진료과 조건 검색용으로 진료과명별 병원 ID 집합을 함께 보관 (진료과/연결이 바뀌면 다음 검색 때 다시 구성)
+ * - 다른 인스턴스나 직접 수정한 SQL로 바뀐 좌표는 카탈로그 버전으로 확인되면 다음 검색 때 전체를 다시 구성
+ */
+@Component
+public class HospitalGeoIndex {
+    private static final Logger logger = LoggerFactory.getLogger(HospitalGeoIndex.class);
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Value("${hospital.geo.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hospital.geo.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, GeoPoint> points = new HashMap<>();
+    private final Map<Long, List<GeoPoint>> cells = new HashMap<>();
+
+    // 색인된 칸 좌표 범위 (반경 없이 검색할 때 고리 확장 한계)
+    private int minRow = Integer.MAX_VALUE;
+    private int maxRow = Integer.MIN_VALUE;
+    private int minCol = Integer.MAX_VALUE;
+    private int maxCol = Integer.MIN_VALUE;
+
+    private volatile boolean ready;
+
+    // 진료과명별 병원 ID (읽기 전용 집합을 통째로 교체)
+    private volatile Map<String, Set<Long>> hospitalsByDepartment = Map.of();
+    private volatile boolean departmentsStale = true;
+
+    // 다른 곳의 변경이 마지막으로 확인된 카탈로그 버전과, 색인을 구성할 때 반영된 그 값
+    private volatile long changedVersion;
+    private volatile long builtVersion;
+
+    /**
+     * 애플리케이션 기동 후 좌표가 있는 전체 병원으로 색인 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long version = changedVersion;
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            cells.clear();
+            minRow = minCol = Integer.MAX_VALUE;
+            maxRow = maxCol = Integer.MIN_VALUE;
+
+            for (HospitalGeoView view : hospitalRepository.findAllGeoViews()) {
+                add(view.getId(), view.getLatitude(), view.getLongitude());
+            }
+            loadDepartments();
+
+            ready = true;
+            builtVersion = version;
+            logger.info("Hospital geo index built with {} hospitals in {} cells", points.size(), cells.size());
+        } catch (Exception e) {
+            ready = false;
+            logger.error("Cannot build hospital geo index: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋된 병원 변경을 색인에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHospitalChanged(HospitalChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.hospitalId());
+            if (!event.deleted() && event.latitude() != null && event.longitude() != null) {
+                add(event.hospitalId(), event.latitude(), event.longitude());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋된 진료과/병원-진료과 연결 변경 표시 (일괄 변경 시 한 번만 다시 읽도록 다음 검색 때 구성)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        departmentsStale = true;
+    }
+
+    /**
+     * 다른 인스턴스나 직접 수정한 SQL로 바뀐 좌표/진료과는 이벤트로 오지 않으므로 다음 검색 때 다시 구성하도록 표시
+     */
+    @EventListener
+    public void onExternalCatalogChange(ExternalCatalogChangeEvent event) {
+        changedVersion = event.version();
+        departmentsStale = true;
+    }
+
+    /**
+     * DB를 직접 수정한 경우 (카탈로그 캐시 비우기와 함께 호출)
+     */
+    public void markDepartmentsStale() {
+        departmentsStale = true;
+    }
+
+    /**
+     * 진료과를 가진 병원 ID 집합 (읽기 전용, 없는 진료과면 빈 집합)
+     */
+    public Set<Long> hospitalsWithDepartment(String departmentName) {
+        if (departmentsStale) {
+            synchronized (this) {
+                if (departmentsStale) {
+                    loadDepartments();
+                }
+            }
+        }
+        return hospitalsByDepartment.getOrDefault(departmentName, Set.of());
+    }
+
+    /**
+     * 검색에 쓸 수 있는지 (구성한 뒤 다른 곳의 변경이 확인됐으면 먼저 다시 구성)
+     */
+    public boolean isReady() {
+        if (enabled && changedVersion > builtVersion) {
+            synchronized (this) {
+                if (changedVersion > builtVersion) {
+                    rebuild();
+                }
+            }
+        }
+        return enabled && ready;
+    }
+
+    /**
+     * 기준 좌표에서 가까운 순으로 최대 limit개 병원 조회 (radiusKm 이내, allowedIds가 null이 아니면 해당 병원만)
+     * 색인이 준비되지 않았으면 null
+     */
+    public List<GeoMatch> nearest(double latitude, double longitude, int limit, double radiusKm,
+            Set<Long> allowedIds) {
+        if (!isReady()) {
+            return null;
+        }
+
+        // 거리가 먼 후보가 먼저 나오는 최대 힙 (크기 limit 유지)
+        PriorityQueue<GeoMatch> best = new PriorityQueue<>(limit + 1,
+                (a, b) -> Double.compare(b.distanceKm(), a.distanceKm()));
+
+        lock.readLock().lock();
+        try {
+            if (points.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            int row = row(latitude);
+            int col = col(longitude);
+            int maxRing = Math.max(Math.max(Math.abs(row - minRow), Math.abs(row - maxRow)),
+                    Math.max(Math.abs(col - minCol), Math.abs(col - maxCol)));
+
+            for (int ring = 0; ring <= maxRing; ring++) {
+                double ringDistance = minRingDistanceKm(latitude, ring);
+                if (ringDistance > radiusKm) {
+                    break;
+                }
+                if (best.size() == limit && ringDistance > best.peek().distanceKm()) {
+                    break;
+                }
+
+                for (int r = row - ring; r <= row + ring; r++) {
+                    boolean edgeRow = r == row - ring || r == row + ring;
+                    // 고리의 가장자리 칸만 방문 (위/아래 줄은 전체, 나머지 줄은 양 끝)
+                    for (int c = col - ring; c <= col + ring; c += edgeRow || ring == 0 ? 1 : 2 * ring) {
+                        List<GeoPoint> cell = cells.get(cellKey(r, c));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (GeoPoint point : cell) {
+                            if (allowedIds != null && !allowedIds.contains(point.id())) {
+                                continue;
+                            }
+                            double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+                            if (distance > radiusKm) {
+                                continue;
+                            }
+                            if (best.size() < limit) {
+                                best.add(new GeoMatch(point.id(), distance));
+                            } else if (distance < best.peek().distanceKm()) {
+                                best.poll();
+                                best.add(new GeoMatch(point.id(), distance));
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<GeoMatch> result = new ArrayList<>(best);
+        result.sort((a, b) -> a.distanceKm() != b.distanceKm()
+                ? Double.compare(a.distanceKm(), b.distanceKm())
+                : Long.compare(a.hospitalId(), b.hospitalId()));
+        return result;
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (하버사인, km)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                        Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // ring번째 고리의 칸까지의 최소 거리 하한 (경도 방향 칸 폭은 고위도로 갈수록 좁아지므로 고리의 최고 위도 기준)
+    private double minRingDistanceKm(double latitude, int ring) {
+        if (ring <= 1) {
+            return 0;
+        }
+        double farthestLatitude = Math.min(89.9, Math.abs(latitude) + ring * cellDegrees);
+        double cellKm = cellDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(farthestLatitude));
+        return (ring - 1) * cellKm;
+    }
+
+    private void loadDepartments() {
+        // 읽는 도중 들어온 변경은 다음 검색 때 다시 반영되도록 먼저 표시를 지움
+        departmentsStale = false;
+        Map<String, Set<Long>> loaded = new HashMap<>();
+        for (HospitalDepartmentView view : hospitalRepository.findAllDepartmentViews()) {
+            loaded.computeIfAbsent(view.getDepartmentName(), k -> new HashSet<>()).add(view.getHospitalId());
+        }
+        Map<String, Set<Long>> frozen = new HashMap<>();
+        loaded.forEach((name, ids) -> frozen.put(name, Set.copyOf(ids)));
+        hospitalsByDepartment = Map.copyOf(frozen);
+    }
+
+    private void add(Long id, double latitude, double longitude) {
+        GeoPoint point = new GeoPoint(id, latitude, longitude);
+        points.put(id, point);
+
+        int row = row(latitude);
+        int col = col(longitude);
+        cells.computeIfAbsent(cellKey(row, col), k -> new ArrayList<>()).add(point);
+        minRow = Math.min(minRow, row);
+        maxRow = Math.max(maxRow, row);
+        minCol = Math.min(minCol, col);
+        maxCol = Math.max(maxCol, col);
+    }
+
+    private void remove(Long id) {
+        GeoPoint point = points.remove(id);
+        if (point == null) {
+            return;
+        }
+        long key = cellKey(row(point.latitude()), col(point.longitude()));
+        List<GeoPoint> cell = cells.get(key);
+        if (cell != null) {
+            cell.removeIf(p -> p.id().equals(id));
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor(latitude / cellDegrees);
+    }
+
+    private int col(double longitude) {
+        return (int) Math.floor(longitude / cellDegrees);
+    }
+
+    private long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    private record GeoPoint(Long id, double latitude, double longitude) {
+    }
+
+    /**
+     * 위치 검색 결과 (병원 ID, 거리 km)
+     */
+    public record GeoMatch(Long hospitalId, double distanceKm) {
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.hospital.service;
+
+import com.example.hospital.event.ExternalCatalogChangeEvent;
+import com.example.hospital.event.HospitalChangedEvent;
+import com.example.hospital.repository.HospitalRepository;
+import com.example.hospital.repository.HospitalRepository.HospitalTextView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 병원명/주소 부분 문자열 검색용 n-gram 역색인
+ * - 문자(코드 포인트) 단위 1-gram, 2-gram을 색인하므로 한글 음절 1~2자 검색도 후보를 좁힐 수 있음
+ * - 후보는 반드시 contains로 재검증하며, 비교 전 문자열을 MySQL 기본 콜레이션(utf8mb4_0900_ai_ci)의
+ *   LIKE '%값%'에 가깝게 접음: 대소문자 무시, 악센트(결합 부호) 무시, 전각/반각 등 호환 문자 통일
+ * - 알려진 차이: 콜레이션 확장/축약(예: 'ß'와 'ss', 합자)과 결합 부호가 아닌 무시 가능 문자는 MySQL과 다르게 비교될 수 있음
+ * - 흔한 gram(예: "병원")처럼 후보가 많으면 교집합을 만들지 않고 ID 순서로 훑으며 한 페이지만 채우고 멈춤
+ * - 이 인스턴스의 변경은 이벤트로 바로 반영하고, 다른 인스턴스나 직접 수정한 SQL의 변경은 카탈로그 버전으로 확인되면
+ *   다음 검색 때 전체를 다시 구성 (다시 구성하지 못하면 준비되지 않은 것으로 보고 DB 검색)
+ */
+@Component
+public class HospitalSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(HospitalSearchIndex.class);
+
+    private static final Pattern NONSPACING_MARKS = Pattern.compile("\\p{Mn}+");
+
+    // 가장 작은 posting이 전체의 1/8을 넘으면 교집합 대신 ID 순서 순회로 페이지를 채움
+    private static final int SELECTIVE_RATIO = 8;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Value("${hospital.search.index.enabled:true}")
+    private boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ID 순서로 순회하기 위해 정렬 맵 사용
+    private final TreeMap<Long, IndexedText> entries = new TreeMap<>();
+    private final Map<String, Set<Long>> nameGrams = new HashMap<>();
+    private final Map<String, Set<Long>> addressGrams = new HashMap<>();
+
+    private volatile boolean ready;
+
+    // 다른 곳의 변경이 마지막으로 확인된 카탈로그 버전과, 색인을 구성할 때 반영된 그 값
+    private volatile long changedVersion;
+    private volatile long builtVersion;
+
+    /**
+     * 애플리케이션 기동 후 전체 병원으로 색인 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long version = changedVersion;
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            nameGrams.clear();
+            addressGrams.clear();
+
+            for (HospitalTextView view : hospitalRepository.findAllTextViews()) {
+                add(view.getId(), view.getName(), view.getAddress());
+            }
+
+            ready = true;
+            builtVersion = version;
+            logger.info("Hospital search index built with {} hospitals", entries.size());
+        } catch (Exception e) {
+            ready = false;
+            logger.error("Cannot build hospital search index, falling back to database: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋된 병원 변경을 색인에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHospitalChanged(HospitalChangedEvent event) {
+        if (event.deleted()) {
+            delete(event.hospitalId());
+        } else {
+            put(event.hospitalId(), event.name(), event.address());
+        }
+    }
+
+    /**
+     * 다른 인스턴스나 직접 수정한 SQL로 바뀐 병원은 이벤트로 오지 않으므로 다음 검색 때 다시 구성하도록 표시
+     */
+    @EventListener
+    public void onExternalCatalogChange(ExternalCatalogChangeEvent event) {
+        changedVersion = event.version();
+    }
+
+    /**
+     * 병원 추가/수정 반영
+     */
+    public void put(Long id, String name, String address) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+            add(id, name, address);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 병원 삭제 반영
+     */
+    public void delete(Long id) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색에 쓸 수 있는지 (구성한 뒤 다른 곳의 변경이 확인됐으면 먼저 다시 구성)
+     */
+    public boolean isReady() {
+        if (enabled && changedVersion > builtVersion) {
+            synchronized (this) {
+                if (changedVersion > builtVersion) {
+                    rebuild();
+                }
+            }
+        }
+        return enabled && ready;
+    }
+
+    /**
+     * 병원명/주소를 모두 포함하는 병원 중 afterId 다음부터 최대 limit건의 ID를 오름차순으로 반환
+     * - within이 있으면 그 안의 병원만 대상 (진료과 조건 등)
+     * - includeCount이면 전체 일치 건수도 계산
+     * 색인이 준비되지 않았으면 null
+     */
+    public SearchPage search(String name, String address, Set<Long> within, long afterId, int limit,
+            boolean includeCount) {
+        if (!isReady()) {
+            return null;
+        }
+
+        String nameQuery = name != null ? normalize(name) : null;
+        String addressQuery = address != null ? normalize(address) : null;
+
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> postings = new ArrayList<>();
+            if ((nameQuery != null && !addPostings(nameGrams, nameQuery, postings)) ||
+                    (addressQuery != null && !addPostings(addressGrams, addressQuery, postings))) {
+                return new SearchPage(Collections.emptyList(), includeCount ? 0L : null);
+            }
+            if (within != null) {
+                postings.add(within);
+            }
+            postings.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+            boolean selective = !postings.isEmpty() &&
+                    postings.get(0).size() <= entries.size() / SELECTIVE_RATIO;
+            if (selective || includeCount) {
+                List<Long> ids = new ArrayList<>();
+                for (Long id : postings.isEmpty() ? entries.keySet() : postings.get(0)) {
+                    if (containsAll(postings, id) && matches(entries.get(id), nameQuery, addressQuery)) {
+                        ids.add(id);
+                    }
+                }
+                Collections.sort(ids);
+
+                int position = Collections.binarySearch(ids, afterId);
+                int start = position >= 0 ? position + 1 : -position - 1;
+                List<Long> page = new ArrayList<>(ids.subList(start, Math.min(start + limit, ids.size())));
+                return new SearchPage(page, includeCount ? (long) ids.size() : null);
+            }
+
+            // 후보가 많으면 ID 순서로 훑으며 한 페이지만 채움
+            List<Long> page = new ArrayList<>(limit);
+            for (Map.Entry<Long, IndexedText> entry : entries.tailMap(afterId, false).entrySet()) {
+                if (page.size() >= limit) {
+                    break;
+                }
+                if ((within == null || within.contains(entry.getKey())) &&
+                        matches(entry.getValue(), nameQuery, addressQuery)) {
+                    page.add(entry.getKey());
+                }
+            }
+            return new SearchPage(page, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쿼리의 모든 gram posting을 추가, 색인에 없는 gram이 있으면 false (일치하는 병원 없음)
+    private boolean addPostings(Map<String, Set<Long>> grams, String query, List<Set<Long>> postings) {
+        for (String gram : queryGrams(query)) {
+            Set<Long> posting = grams.get(gram);
+            if (posting == null) {
+                return false;
+            }
+            postings.add(posting);
+        }
+        return true;
+    }
+
+    private boolean containsAll(List<Set<Long>> postings, Long id) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(IndexedText text, String nameQuery, String addressQuery) {
+        return text != null &&
+                (nameQuery == null || text.name().contains(nameQuery)) &&
+                (addressQuery == null || text.address().contains(addressQuery));
+    }
+
+    private void add(Long id, String name, String address) {
+        IndexedText text = new IndexedText(normalize(name), normalize(address));
+        entries.put(id, text);
+        for (String gram : grams(text.name())) {
+            nameGrams.computeIfAbsent(gram, k -> new HashSet<>()).add(id);
+        }
+        for (String gram : grams(text.address())) {
+            addressGrams.computeIfAbsent(gram, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void remove(Long id) {
+        IndexedText text = entries.remove(id);
+        if (text == null) {
+            return;
+        }
+        for (String gram : grams(text.name())) {
+            removePosting(nameGrams, gram, id);
+        }
+        for (String gram : grams(text.address())) {
+            removePosting(addressGrams, gram, id);
+        }
+    }
+
+    private void removePosting(Map<String, Set<Long>> grams, String gram, Long id) {
+        Set<Long> posting = grams.get(gram);
+        if (posting != null) {
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                grams.remove(gram);
+            }
+        }
+    }
+
+    // 색인용: 코드 포인트 기준 모든 1-gram, 2-gram
+    private Set<String> grams(String text) {
+        int[] codePoints = text.codePoints().toArray();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색용: 한 글자 검색은 1-gram, 그 외에는 2-gram만 사용
+    private Set<String> queryGrams(String query) {
+        int[] codePoints = query.codePoints().toArray();
+        Set<String> grams = new HashSet<>();
+        if (codePoints.length == 1) {
+            grams.add(new String(codePoints, 0, 1));
+            return grams;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    // 소문자 -> 호환 분해(전각/반각, 원문자 등 통일) -> 악센트 제거 -> 재조합(한글 음절 복원)
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.toLowerCase(Locale.ROOT), Normalizer.Form.NFKD);
+        return Normalizer.normalize(NONSPACING_MARKS.matcher(decomposed).replaceAll(""), Normalizer.Form.NFC);
+    }
+
+    /**
+     * 검색 결과 한 페이지 (matchedCount는 요청한 경우에만 채움)
+     */
+    public record SearchPage(List<Long> ids, Long matchedCount) {
+    }
+
+    private record IndexedText(String name, String address) {
+    }
+}
@@ -1,66 +1,323 @@
 package com.example.hospital.service;
 
 import com.example.hospital.domain.Hospital;
+import com.example.hospital.domain.HospitalRatingSummary;
+import com.example.hospital.dto.HospitalDto.DepartmentResponse;
 import com.example.hospital.dto.HospitalDto.HospitalListResponse;
+import com.example.hospital.dto.HospitalDto.HospitalResponse;
+import com.example.hospital.dto.HospitalDto.NearbyRequest;
 import com.example.hospital.dto.HospitalDto.SearchRequest;
 import com.example.hospital.repository.HospitalRepository;
+import com.example.hospital.repository.HospitalRepository.HospitalDepartmentView;
+import com.example.hospital.repository.HospitalSpecifications;
+import com.example.hospital.util.CursorUtil;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "hospital.service.hospital", histogram = true)
 public class HospitalService {
 
+    // 진료과 일괄 조회 시 IN 절에 넣을 최대 병원 수
+    private static final int DEPARTMENT_QUERY_BATCH_SIZE = 1000;
+
+    private static final String SORT_RATING = "rating";
+
     @Autowired
     private HospitalRepository hospitalRepository;
 
+    @Autowired
+    private HospitalSearchIndex hospitalSearchIndex;
+
+    @Autowired
+    private RatingAggregateService ratingAggregateService;
+
+    @Autowired
+    private HospitalGeoIndex hospitalGeoIndex;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Value("${hospital.geo.nearby.default-limit:20}")
+    private int defaultNearbyLimit;
+
+    @Value("${hospital.geo.nearby.max-limit:100}")
+    private int maxNearbyLimit;
+
+    @Value("${hospital.geo.nearby.max-radius-km:50}")
+    private double maxNearbyRadiusKm;
+
+    @Value("${hospital.search.page-size.default:50}")
+    private int defaultPageSize;
+
+    @Value("${hospital.search.page-size.max:200}")
+    private int maxPageSize;
+
+    /**
+     * 병원 검색 (id 기준 키셋 페이지네이션)
+     */
     public HospitalListResponse searchHospitals(SearchRequest request) {
-        List<Hospital> hospitals;
-
-        // 검색 조건에 따라 적절한 메서드 호출
-        if (hasValue(request.getName()) && hasValue(request.getDepartmentName()) && hasValue(request.getAddress())) {
-            // 모든 조건이 있는 경우
-            hospitals = hospitalRepository.findByNameContainingAndDepartmentNameAndAddressContaining(
-                    request.getName(),
-                    request.getDepartmentName(),
-                    request.getAddress());
-        } else if (hasValue(request.getName()) && hasValue(request.getDepartmentName())) {
-            // 병원명 + 진료과목
-            hospitals = hospitalRepository.findByNameContainingAndDepartmentName(
-                    request.getName(),
-                    request.getDepartmentName());
-        } else if (hasValue(request.getDepartmentName()) && hasValue(request.getAddress())) {
-            // 진료과목 + 주소
-            hospitals = hospitalRepository.findByDepartmentNameAndAddressContaining(
-                    request.getDepartmentName(),
-                    request.getAddress());
-        } else if (hasValue(request.getName()) && hasValue(request.getAddress())) {
-            // 병원명 + 주소
-            hospitals = hospitalRepository.findByNameContainingAndAddressContaining(
-                    request.getName(),
-                    request.getAddress());
-        } else if (hasValue(request.getDepartmentName())) {
-            // 진료과목만
-            hospitals = hospitalRepository.findByDepartmentName(request.getDepartmentName());
-        } else if (hasValue(request.getName())) {
-            // 병원명만
-            hospitals = hospitalRepository.findByNameContaining(request.getName());
-        } else if (hasValue(request.getAddress())) {
-            // 주소만
-            hospitals = hospitalRepository.findByAddressContaining(request.getAddress());
-        } else {
-            // 검색 조건이 없으면 전체 검색
-            hospitals = hospitalRepository.findAll();
-        }
-
-        return HospitalListResponse.fromEntities(hospitals);
+        int size = resolvePageSize(request.getSize());
+        boolean includeCount = Boolean.TRUE.equals(request.getIncludeCount());
+
+        if (SORT_RATING.equalsIgnoreCase(request.getSort())) {
+            return searchOrderByRating(request, size, includeCount);
+        }
+        if (hasValue(request.getSort())) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 방식입니다.");
+        }
+
+        long afterId = resolveAfterId(request.getCursor());
+
+        // 병원명/주소 조건은 n-gram 색인으로 먼저 처리 (색인이 준비되지 않았으면 DB 검색)
+        if (hasValue(request.getName()) || hasValue(request.getAddress())) {
+            // 다른 인스턴스의 변경이 있었으면 색인을 다시 구성하도록 버전을 먼저 확인
+            catalogVersion.current();
+            if (hospitalSearchIndex.isReady()) {
+                HospitalListResponse response = searchWithIndex(request, afterId, size, includeCount);
+                if (response != null) {
+                    return response;
+                }
+            }
+        }
+
+        return searchWithRepository(request, afterId, size, includeCount);
+    }
+
+    private HospitalListResponse searchWithIndex(SearchRequest request, long afterId, int size,
+            boolean includeCount) {
+        Set<Long> departmentHospitalIds = null;
+        if (hasValue(request.getDepartmentName())) {
+            departmentHospitalIds = new HashSet<>(
+                    hospitalRepository.findIdsByDepartmentName(request.getDepartmentName()));
+        }
+
+        // 커서 다음 위치부터 한 페이지(+1건)만 조회
+        HospitalSearchIndex.SearchPage result = hospitalSearchIndex.search(
+                hasValue(request.getName()) ? request.getName() : null,
+                hasValue(request.getAddress()) ? request.getAddress() : null,
+                departmentHospitalIds, afterId, size + 1, includeCount);
+        if (result == null) {
+            return null;
+        }
+
+        List<Hospital> hospitals = new ArrayList<>(hospitalRepository.findAllById(result.ids()));
+        hospitals.sort(Comparator.comparing(Hospital::getId));
+        return toPageResponse(hospitals, size, result.matchedCount());
     }
 
-    public HospitalListResponse getAllHospitals() {
-        List<Hospital> hospitals = hospitalRepository.findAll();
-        return HospitalListResponse.fromEntities(hospitals);
+    private HospitalListResponse searchWithRepository(SearchRequest request, long afterId, int size,
+            boolean includeCount) {
+        Specification<Hospital> filter = searchFilter(request);
+
+        List<Hospital> hospitals = hospitalRepository.searchOrderById(
+                filter.and(HospitalSpecifications.idGreaterThan(afterId)), size + 1);
+        Long matchedCount = includeCount ? hospitalRepository.countMatching(filter) : null;
+
+        return toPageResponse(hospitals, size, matchedCount);
+    }
+
+    /**
+     * 값이 있는 검색 조건만 AND로 조합 (조건이 없으면 전체)
+     */
+    private Specification<Hospital> searchFilter(SearchRequest request) {
+        Specification<Hospital> filter = Specification.where(null);
+        if (hasValue(request.getName())) {
+            filter = filter.and(HospitalSpecifications.nameContains(request.getName()));
+        }
+        if (hasValue(request.getAddress())) {
+            filter = filter.and(HospitalSpecifications.addressContains(request.getAddress()));
+        }
+        if (hasValue(request.getDepartmentName())) {
+            filter = filter.and(HospitalSpecifications.hasDepartment(request.getDepartmentName()));
+        }
+        return filter;
+    }
+
+    /**
+     * 평점 높은 순 검색 (평점, ID 기준 키셋 페이지)
+     */
+    private HospitalListResponse searchOrderByRating(SearchRequest request, int size, boolean includeCount) {
+        double afterRating = Double.MAX_VALUE;
+        long afterId = Long.MAX_VALUE;
+        if (hasValue(request.getCursor())) {
+            String[] cursor = CursorUtil.decode(request.getCursor(), 2);
+            try {
+                afterRating = Double.parseDouble(cursor[0]);
+                afterId = Long.parseLong(cursor[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+            }
+        }
+
+        // ID순 검색과 같은 Specification 조건 (LIKE 와일드카드 이스케이프, 값이 있는 조건만 SQL에 포함)
+        Specification<Hospital> filter = searchFilter(request);
+        List<Hospital> fetched = hospitalRepository.searchOrderByRating(filter, afterRating, afterId, size + 1);
+        boolean hasNext = fetched.size() > size;
+        List<Hospital> page = hasNext ? fetched.subList(0, size) : fetched;
+
+        Map<Long, HospitalRatingSummary> ratings = ratingAggregateService.findSummaries(
+                page.stream().map(Hospital::getId).collect(Collectors.toList()));
+        HospitalListResponse response = toListResponse(page, ratings);
+        response.setHasNext(hasNext);
+        if (includeCount) {
+            response.setMatchedCount(hospitalRepository.countMatching(filter));
+        }
+        if (hasNext) {
+            Hospital last = page.get(page.size() - 1);
+            response.setNextCursor(CursorUtil.encode(ratings.get(last.getId()).getAverageRating(), last.getId()));
+        }
+        return response;
+    }
+
+    /**
+     * 기준 좌표에서 가까운 병원 조회 (가까운 순, 반경/진료과목 조건)
+     */
+    public HospitalListResponse findNearby(NearbyRequest request) {
+        if (request.getLatitude() == null || request.getLongitude() == null ||
+                Math.abs(request.getLatitude()) > 90 || Math.abs(request.getLongitude()) > 180) {
+            throw new IllegalArgumentException("위도/경도를 올바르게 입력해주세요.");
+        }
+        // 다른 인스턴스의 변경이 있었으면 색인을 다시 구성하도록 버전을 먼저 확인
+        catalogVersion.current();
+        if (!hospitalGeoIndex.isReady()) {
+            throw new IllegalStateException("위치 검색을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        int limit = request.getLimit() == null || request.getLimit() <= 0
+                ? defaultNearbyLimit
+                : Math.min(request.getLimit(), maxNearbyLimit);
+        double radiusKm = request.getRadiusKm() == null || request.getRadiusKm() <= 0
+                ? maxNearbyRadiusKm
+                : Math.min(request.getRadiusKm(), maxNearbyRadiusKm);
+
+        Set<Long> allowedIds = null;
+        if (hasValue(request.getDepartmentName())) {
+            allowedIds = hospitalGeoIndex.hospitalsWithDepartment(request.getDepartmentName());
+        }
+
+        List<HospitalGeoIndex.GeoMatch> matches = hospitalGeoIndex.nearest(request.getLatitude(),
+                request.getLongitude(), limit, radiusKm, allowedIds);
+
+        Map<Long, Hospital> hospitalsById = new HashMap<>();
+        for (Hospital hospital : hospitalRepository.findAllById(matches.stream()
+                .map(HospitalGeoIndex.GeoMatch::hospitalId)
+                .collect(Collectors.toList()))) {
+            hospitalsById.put(hospital.getId(), hospital);
+        }
+
+        List<Hospital> hospitals = new ArrayList<>();
+        Map<Long, Double> distances = new HashMap<>();
+        for (HospitalGeoIndex.GeoMatch match : matches) {
+            Hospital hospital = hospitalsById.get(match.hospitalId());
+            if (hospital != null) {
+                hospitals.add(hospital);
+                distances.put(hospital.getId(), Math.round(match.distanceKm() * 100) / 100.0);
+            }
+        }
+
+        HospitalListResponse response = toListResponse(hospitals, ratingAggregateService.findSummaries(
+                distances.keySet()));
+        for (HospitalResponse hospital : response.getHospitals()) {
+            hospital.setDistanceKm(distances.get(hospital.getId()));
+        }
+        return response;
+    }
+
+    public HospitalListResponse getAllHospitals(String cursor, Integer size, Boolean includeCount, String sort) {
+        return searchHospitals(SearchRequest.builder()
+                .cursor(cursor)
+                .size(size)
+                .includeCount(includeCount)
+                .sort(sort)
+                .build());
+    }
+
+    /**
+     * 한 페이지(+1건)로 조회한 결과를 페이지 응답으로 변환
+     */
+    private HospitalListResponse toPageResponse(List<Hospital> fetched, int size, Long matchedCount) {
+        boolean hasNext = fetched.size() > size;
+        List<Hospital> page = hasNext ? fetched.subList(0, size) : fetched;
+
+        HospitalListResponse response = toListResponse(page, ratingAggregateService.findSummaries(
+                page.stream().map(Hospital::getId).collect(Collectors.toList())));
+        response.setMatchedCount(matchedCount);
+        response.setHasNext(hasNext);
+        response.setNextCursor(hasNext ? CursorUtil.encode(page.get(page.size() - 1).getId()) : null);
+        return response;
+    }
+
+    /**
+     * 병원 목록 응답 생성 (진료과 정보는 IN 쿼리로 일괄 조회, 평점은 미리 조회한 집계 사용)
+     */
+    private HospitalListResponse toListResponse(List<Hospital> hospitals,
+            Map<Long, HospitalRatingSummary> ratings) {
+        Map<Long, List<DepartmentResponse>> departmentsByHospitalId = new HashMap<>();
+        List<Long> hospitalIds = hospitals.stream().map(Hospital::getId).collect(Collectors.toList());
+
+        for (int from = 0; from < hospitalIds.size(); from += DEPARTMENT_QUERY_BATCH_SIZE) {
+            List<Long> batch = hospitalIds.subList(from, Math.min(from + DEPARTMENT_QUERY_BATCH_SIZE,
+                    hospitalIds.size()));
+            for (HospitalDepartmentView view : hospitalRepository.findDepartmentViewsByHospitalIds(batch)) {
+                departmentsByHospitalId.computeIfAbsent(view.getHospitalId(), k -> new ArrayList<>())
+                        .add(DepartmentResponse.builder()
+                                .id(view.getDepartmentId())
+                                .name(view.getDepartmentName())
+                                .build());
+            }
+        }
+
+        HospitalListResponse response = HospitalListResponse.fromEntities(hospitals, departmentsByHospitalId);
+        for (HospitalResponse hospital : response.getHospitals()) {
+            applyRating(hospital, ratings.get(hospital.getId()));
+        }
+        return response;
+    }
+
+    private void applyRating(HospitalResponse hospital, HospitalRatingSummary rating) {
+        if (rating == null) {
+            hospital.setAverageRating(0.0);
+            hospital.setReviewCount(0L);
+            hospital.setRatingCounts(List.of(0L, 0L, 0L, 0L, 0L));
+            return;
+        }
+        hospital.setAverageRating(Math.round(rating.getAverageRating() * 10) / 10.0);
+        hospital.setReviewCount(rating.getReviewCount());
+        hospital.setRatingCounts(Arrays.stream(rating.getRatingCounts()).boxed().collect(Collectors.toList()));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private long resolveAfterId(String cursor) {
+        if (!hasValue(cursor)) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(CursorUtil.decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+        }
     }
 
     private boolean hasValue(String value) {
@@ -0,0 +1,274 @@
+package com.example.hospital.service;
+
+import com.example.hospital.dto.NotificationDto.NotificationEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스에 쌓인 예약 알림을 notifications로 일괄 발송
+ * - 단일 작업 스레드 + 크기 1 대기열: 이미 발송 작업이 예약되어 있으면 추가 요청은 버려도 그 작업이 함께 처리함
+ * - 알림 저장과 아웃박스 발송 표시를 한 트랜잭션으로 처리하고, 실패하면 다음 폴링에서 다시 시도 (최소 1회 발송)
+ * - 여러 인스턴스가 동시에 실행되어도 같은 행을 두 번 발송하지 않음 (MySQL은 SKIP LOCKED로 나눠 갖고, 그 밖의 DB는 잠금을 기다림)
+ * - 커밋된 알림은 NotificationStreamHub로 접속 중인 사용자에게 바로 전달하고, 다른 인스턴스에 연결된 사용자는
+ *   그 인스턴스가 발송 완료 행을 주기적으로 읽어 전달 (같은 행은 인스턴스마다 한 번만 전달)
+ */
+@Component
+public class NotificationDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final String SELECT_OUTBOX = "SELECT o.id, o.user_id, o.reservation_id, o.event_type, o.reservation_date, " +
+            "o.reservation_time, o.dispatched_at, h.name AS hospital_name, r.status AS reservation_status " +
+            "FROM notification_outbox o " +
+            "LEFT JOIN reservations r ON r.id = o.reservation_id " +
+            "LEFT JOIN hospitals h ON h.id = r.hospital_id ";
+
+    private static final String SELECT_PENDING = SELECT_OUTBOX +
+            "WHERE o.dispatched_at IS NULL ORDER BY o.id LIMIT ? ";
+
+    private static final String SELECT_DISPATCHED_SINCE = SELECT_OUTBOX +
+            "WHERE o.dispatched_at >= ? ORDER BY o.dispatched_at, o.id";
+
+    // MySQL: 아웃박스 행만 잠그고 다른 인스턴스가 잠근 행은 건너뜀
+    // 그 밖(테스트/벤치마크의 H2): OF/SKIP LOCKED가 없으므로 잠긴 행은 앞선 발송이 끝날 때까지 기다림
+    private static final String LOCK_SKIP_LOCKED = "FOR UPDATE OF o SKIP LOCKED";
+    private static final String LOCK_WAIT = "FOR UPDATE";
+
+    private static final String INSERT_NOTIFICATION =
+            "INSERT INTO notifications (user_id, message, created_at, is_read) VALUES (?, ?, ?, false)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationStreamHub notificationStreamHub;
+
+    @Autowired
+    private UnreadCounterCache unreadCounterCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private String selectPending;
+
+    @Value("${hospital.notification.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hospital.notification.batch-size:500}")
+    private int batchSize;
+
+    @Value("${hospital.notification.retention-days:7}")
+    private int retentionDays;
+
+    // 발송 시각을 다시 읽을 여유 (커밋 지연과 인스턴스 간 시계 차이를 덮을 만큼)
+    @Value("${hospital.notification.stream.relay-lag-ms:5000}")
+    private long relayLagMs;
+
+    // 이 인스턴스에서 스트림으로 전달한 아웃박스 행 ID와 발송 시각 (다시 읽는 구간을 벗어나면 정리)
+    private final Map<Long, LocalDateTime> streamed = new ConcurrentHashMap<>();
+    private volatile LocalDateTime relayedUntil = LocalDateTime.now();
+
+    private final ThreadPoolExecutor worker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), runnable -> {
+                Thread thread = new Thread(runnable, "notification-dispatcher");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+    public NotificationDispatcher(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void init() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        selectPending = SELECT_PENDING + ("MySQL".equalsIgnoreCase(database) ? LOCK_SKIP_LOCKED : LOCK_WAIT);
+    }
+
+    /**
+     * 발송 작업 요청 (이미 대기 중인 작업이 있으면 무시)
+     */
+    public void wakeUp() {
+        if (enabled) {
+            worker.execute(this::drain);
+        }
+    }
+
+    /**
+     * 커밋 직후 깨우기를 놓친 경우(재시작, 발송 실패)를 위한 주기 폴링
+     */
+    @Scheduled(fixedDelayString = "${hospital.notification.poll-interval-ms:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 행 정리
+     */
+    @Scheduled(fixedDelayString = "${hospital.notification.purge-interval-ms:3600000}")
+    public void purgeDispatched() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = jdbcTemplate.update("DELETE FROM notification_outbox WHERE dispatched_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays)));
+        if (deleted > 0) {
+            logger.info("Purged {} dispatched notification outbox rows", deleted);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발송한 알림을 이 인스턴스에 연결된 사용자에게 전달
+     * - 마지막 확인 시각에서 relay-lag-ms만큼 앞선 시점 이후 발송된 행을 읽고, 이미 전달한 행(이 인스턴스가 발송한 행 포함)은 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${hospital.notification.stream.relay-interval-ms:1000}")
+    public void relayDispatchedElsewhere() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime since = relayedUntil.minusNanos(relayLagMs * 1_000_000);
+        relayedUntil = LocalDateTime.now();
+        streamed.values().removeIf(dispatchedAt -> dispatchedAt.isBefore(since));
+        if (notificationStreamHub.getConnectionCount() == 0) {
+            return;
+        }
+
+        List<PendingNotification> dispatched = jdbcTemplate.query(SELECT_DISPATCHED_SINCE, this::toNotification,
+                Timestamp.valueOf(since));
+        for (PendingNotification notification : dispatched) {
+            if (notificationStreamHub.hasSubscribers(notification.userId())) {
+                stream(notification);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            while (dispatchBatch() == batchSize) {
+                // 한 배치가 가득 찼으면 남은 행이 있을 수 있으므로 계속 처리
+            }
+        } catch (Exception e) {
+            logger.error("Notification dispatch failed, will retry on next poll: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 미발송 행을 최대 batch-size건 잠가 알림으로 저장하고 발송 표시 (실패하면 전체 롤백되어 다음에 다시 시도)
+     * @return 발송한 건수
+     */
+    int dispatchBatch() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<PendingNotification> dispatched = transactionTemplate.execute(status -> {
+            List<PendingNotification> pending = jdbcTemplate.query(selectPending, this::toNotification, batchSize);
+            if (pending.isEmpty()) {
+                return pending;
+            }
+
+            Timestamp now = Timestamp.valueOf(createdAt);
+            jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, pending, pending.size(), (ps, notification) -> {
+                ps.setLong(1, notification.userId());
+                ps.setString(2, notification.message());
+                ps.setTimestamp(3, now);
+            });
+
+            String placeholders = String.join(",", Collections.nCopies(pending.size(), "?"));
+            Object[] args = new Object[pending.size() + 1];
+            args[0] = now;
+            for (int i = 0; i < pending.size(); i++) {
+                args[i + 1] = pending.get(i).id();
+            }
+            jdbcTemplate.update("UPDATE notification_outbox SET dispatched_at = ? WHERE id IN (" +
+                    placeholders + ")", args);
+            return pending;
+        });
+        if (dispatched == null) {
+            return 0;
+        }
+
+        for (PendingNotification notification : dispatched) {
+            unreadCounterCache.adjust(notification.userId(), 1);
+            stream(notification.withDispatchedAt(createdAt));
+        }
+        return dispatched.size();
+    }
+
+    // 아직 이 인스턴스에서 전달하지 않은 행만 스트림으로 전달
+    private void stream(PendingNotification notification) {
+        if (streamed.putIfAbsent(notification.id(), notification.dispatchedAt()) != null) {
+            return;
+        }
+        notificationStreamHub.publish(notification.userId(), NotificationEvent.builder()
+                .type(notification.eventType())
+                .reservationId(notification.reservationId())
+                .status(notification.reservationStatus())
+                .message(notification.message())
+                .createdAt(notification.dispatchedAt().withNano(0).toString())
+                .build());
+    }
+
+    private PendingNotification toNotification(ResultSet rs, int rowNum) throws SQLException {
+        return new PendingNotification(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                rs.getLong("reservation_id"),
+                rs.getString("event_type"),
+                rs.getObject("reservation_date", LocalDate.class),
+                rs.getObject("reservation_time", LocalTime.class),
+                rs.getString("hospital_name"),
+                rs.getString("reservation_status"),
+                rs.getObject("dispatched_at", LocalDateTime.class));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+
+    private record PendingNotification(Long id, Long userId, Long reservationId, String eventType,
+            LocalDate reservationDate, LocalTime reservationTime, String hospitalName, String reservationStatus,
+            LocalDateTime dispatchedAt) {
+
+        PendingNotification withDispatchedAt(LocalDateTime value) {
+            return new PendingNotification(id, userId, reservationId, eventType, reservationDate, reservationTime,
+                    hospitalName, reservationStatus, value);
+        }
+
+        String message() {
+            String subject = (hospitalName != null ? hospitalName + " " : "") + reservationDate + " " +
+                    String.format("%02d:%02d", reservationTime.getHour(), reservationTime.getMinute()) + " 진료 예약";
+            switch (eventType) {
+                case "CREATED":
+                    return subject + "이 접수되었습니다.";
+                case "UPDATED":
+                    return subject + "이 변경되었습니다.";
+                case "CANCELED":
+                    return subject + "이 취소되었습니다.";
+                default:
+                    return subject + " 정보가 변경되었습니다.";
+            }
+        }
+    }
+}
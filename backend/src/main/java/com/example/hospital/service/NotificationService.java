@@ -0,0 +1,140 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Notification;
+import com.example.hospital.domain.NotificationOutbox;
+import com.example.hospital.domain.Reservation;
+import com.example.hospital.dto.NotificationDto.NotificationListResponse;
+import com.example.hospital.dto.NotificationDto.NotificationResponse;
+import com.example.hospital.dto.NotificationDto.UnreadCountResponse;
+import com.example.hospital.repository.NotificationOutboxRepository;
+import com.example.hospital.repository.NotificationRepository;
+import com.example.hospital.util.CursorUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 변경 알림 등록 및 사용자 알림 조회/읽음 처리
+ * - 호출한 트랜잭션 안에서 아웃박스 한 건만 기록하고, 실제 알림 생성은 커밋 후 백그라운드에서 처리
+ */
+@Service
+public class NotificationService {
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UnreadCounterCache unreadCounterCache;
+
+    @Value("${hospital.notification.page-size.default:20}")
+    private int defaultPageSize;
+
+    @Value("${hospital.notification.page-size.max:100}")
+    private int maxPageSize;
+
+    @Value("${hospital.notification.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 예약 변경 알림을 아웃박스에 등록 (예약 변경과 같은 트랜잭션에서 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Reservation reservation, NotificationOutbox.EventType eventType) {
+        if (!enabled) {
+            return;
+        }
+
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .userId(reservation.getUser().getId())
+                .reservationId(reservation.getId())
+                .eventType(eventType)
+                .reservationDate(reservation.getReservationDate())
+                .reservationTime(reservation.getReservationTime())
+                .build());
+
+        // 커밋되면 주기 폴링을 기다리지 않고 바로 발송 (이미 대기 중인 발송 작업이 있으면 그 작업이 함께 처리)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationDispatcher.wakeUp();
+                }
+            });
+        }
+    }
+
+    /**
+     * 사용자 알림 목록 조회 (최신순, 커서 기반 페이지)
+     */
+    @Transactional(readOnly = true)
+    public NotificationListResponse getNotifications(Long userId, String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        long beforeId = Long.MAX_VALUE;
+        if (StringUtils.hasText(cursor)) {
+            try {
+                beforeId = Long.parseLong(CursorUtil.decode(cursor, 1)[0]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+            }
+        }
+
+        List<Notification> fetched = notificationRepository.findPageByUserId(userId, beforeId,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasNext = fetched.size() > pageSize;
+        List<Notification> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+        return NotificationListResponse.builder()
+                .notifications(page.stream().map(NotificationResponse::fromEntity).collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? CursorUtil.encode(page.get(page.size() - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * 미읽음 알림 수 조회 (메모리 카운터)
+     */
+    public UnreadCountResponse getUnreadCount(Long userId) {
+        return UnreadCountResponse.builder()
+                .unreadCount(unreadCounterCache.get(userId))
+                .build();
+    }
+
+    /**
+     * 알림 하나 읽음 처리
+     */
+    @Transactional
+    public void markRead(Long userId, Long notificationId) {
+        int updated = notificationRepository.markRead(notificationId, userId);
+        if (updated == 0 && !notificationRepository.existsByIdAndUserId(notificationId, userId)) {
+            throw new AccessDeniedException("해당 알림을 찾을 수 없거나 접근 권한이 없습니다.");
+        }
+        if (updated > 0) {
+            unreadCounterCache.adjustAfterCommit(userId, -updated);
+        }
+    }
+
+    /**
+     * 사용자의 모든 알림 읽음 처리 (단일 UPDATE)
+     */
+    @Transactional
+    public void markAllRead(Long userId) {
+        notificationRepository.markAllRead(userId);
+        unreadCounterCache.resetAfterCommit(userId);
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.hospital.service;
+
+import com.example.hospital.dto.NotificationDto.NotificationEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 알림 SSE 연결 관리
+ * - 연결은 서블릿 비동기 요청으로 유지되므로 대기 중인 연결은 스레드를 점유하지 않음
+ * - 사용자별로 최근 이벤트를 짧게 보관해 재연결 시 Last-Event-ID 이후 이벤트를 다시 보냄
+ * - 어느 인스턴스가 발송했든 알림은 연결된 인스턴스의 허브로 전달됨 (다른 인스턴스가 발송한 알림은 NotificationDispatcher가
+ *   발송 완료 행을 주기적으로 읽어 전달하므로 relay-interval-ms만큼 늦을 수 있음)
+ * - 이벤트 ID는 인스턴스 단위로 증가하므로 재시작이나 다른 인스턴스로 재연결한 경우 누락분은 알림 목록 조회로 보완
+ * - 소켓 쓰기는 전용 쓰기 스레드에서 수행해 발송/스케줄러 스레드가 느린 클라이언트에 묶이지 않음
+ *   (연결마다 같은 스레드로 보내 순서를 유지하고, 대기열이 가득 차면 연결을 끊어 재연결 시 재전송으로 따라잡게 함)
+ */
+@Component
+public class NotificationStreamHub {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamHub.class);
+
+    private static final String EVENT_NAME = "notification";
+
+    @Value("${hospital.notification.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${hospital.notification.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${hospital.notification.stream.replay-size:50}")
+    private int replaySize;
+
+    @Value("${hospital.notification.stream.replay-ttl-ms:600000}")
+    private long replayTtlMs;
+
+    @Value("${hospital.notification.stream.writer-threads:4}")
+    private int writerThreads;
+
+    @Value("${hospital.notification.stream.writer-queue-capacity:10000}")
+    private int writerQueueCapacity;
+
+    private ThreadPoolExecutor[] writers;
+
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    private final Map<Long, ReplayBuffer> replayBuffers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void startWriters() {
+        writers = new ThreadPoolExecutor[writerThreads];
+        for (int i = 0; i < writerThreads; i++) {
+            String name = "notification-stream-" + (i + 1);
+            writers[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(writerQueueCapacity), runnable -> {
+                        Thread thread = new Thread(runnable, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    @PreDestroy
+    public void stopWriters() {
+        for (ThreadPoolExecutor writer : writers) {
+            writer.shutdownNow();
+        }
+    }
+
+    /**
+     * 사용자 알림 스트림 구독 (lastEventId 이후 보관 중인 이벤트가 있으면 먼저 전송)
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        List<SseEmitter> userEmitters = emitters.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>());
+
+        // 사용자당 연결 수 제한 (가장 오래된 연결부터 종료)
+        while (userEmitters.size() >= maxConnectionsPerUser) {
+            SseEmitter oldest = userEmitters.remove(0);
+            oldest.complete();
+        }
+        userEmitters.add(emitter);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        // 연결 직후 응답 헤더를 내보내기 위한 첫 이벤트와 재전송도 같은 쓰기 스레드에서 보내 이후 이벤트보다 앞서게 함
+        write(userId, emitter, () -> {
+            emitter.send(SseEmitter.event().comment("connected"));
+            replay(userId, emitter, lastEventId);
+        });
+        return emitter;
+    }
+
+    /**
+     * 사용자에게 알림 이벤트 전송 (연결이 없어도 재연결 대비로 보관)
+     */
+    public void publish(Long userId, NotificationEvent event) {
+        long eventId = eventSequence.incrementAndGet();
+        replayBuffers.computeIfAbsent(userId, k -> new ReplayBuffer()).add(eventId, event, replaySize);
+
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            write(userId, emitter, () -> emitter.send(SseEmitter.event()
+                    .id(String.valueOf(eventId))
+                    .name(EVENT_NAME)
+                    .data(event, MediaType.APPLICATION_JSON)));
+        }
+    }
+
+    public boolean hasSubscribers(Long userId) {
+        return emitters.containsKey(userId);
+    }
+
+    public int getConnectionCount() {
+        return emitters.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송, 오래된 재전송 버퍼 정리
+     */
+    @Scheduled(fixedDelayString = "${hospital.notification.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Map.Entry<Long, List<SseEmitter>> entry : emitters.entrySet()) {
+            for (SseEmitter emitter : entry.getValue()) {
+                write(entry.getKey(), emitter, () -> emitter.send(SseEmitter.event().comment("heartbeat")));
+            }
+        }
+
+        long expiredBefore = System.currentTimeMillis() - replayTtlMs;
+        replayBuffers.entrySet().removeIf(entry -> entry.getValue().lastAddedAt() < expiredBefore);
+    }
+
+    private void replay(Long userId, SseEmitter emitter, String lastEventId) throws IOException {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+
+        long afterId;
+        try {
+            afterId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        ReplayBuffer buffer = replayBuffers.get(userId);
+        if (buffer == null) {
+            return;
+        }
+        for (BufferedEvent buffered : buffer.after(afterId)) {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(buffered.id()))
+                    .name(EVENT_NAME)
+                    .data(buffered.event(), MediaType.APPLICATION_JSON));
+        }
+    }
+
+    // 연결별 쓰기 스레드에 전송 작업 등록 (대기열이 가득 찬 느린 연결은 종료)
+    private void write(Long userId, SseEmitter emitter, StreamWrite write) {
+        ThreadPoolExecutor writer = writers[Math.floorMod(System.identityHashCode(emitter), writers.length)];
+        try {
+            writer.execute(() -> {
+                try {
+                    write.run();
+                } catch (IOException | IllegalStateException e) {
+                    logger.debug("Dropping notification stream for user {}: {}", userId, e.getMessage());
+                    remove(userId, emitter);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("Notification stream writer is saturated, closing a stream for user {}", userId);
+            remove(userId, emitter);
+            emitter.complete();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StreamWrite {
+        void run() throws IOException;
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (k, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private record BufferedEvent(long id, NotificationEvent event) {
+    }
+
+    /**
+     * 사용자별 최근 이벤트 보관 (최대 replaySize건)
+     */
+    private static final class ReplayBuffer {
+        private final ArrayDeque<BufferedEvent> events = new ArrayDeque<>();
+        private volatile long lastAddedAt;
+
+        synchronized void add(long id, NotificationEvent event, int capacity) {
+            if (events.size() >= capacity) {
+                events.pollFirst();
+            }
+            events.addLast(new BufferedEvent(id, event));
+            lastAddedAt = System.currentTimeMillis();
+        }
+
+        synchronized List<BufferedEvent> after(long afterId) {
+            List<BufferedEvent> result = new ArrayList<>();
+            for (BufferedEvent buffered : events) {
+                if (buffered.id() > afterId) {
+                    result.add(buffered);
+                }
+            }
+            return result;
+        }
+
+        long lastAddedAt() {
+            return lastAddedAt;
+        }
+    }
+}
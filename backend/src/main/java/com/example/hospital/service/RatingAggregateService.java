@@ -0,0 +1,289 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.HospitalRatingSummary;
+import com.example.hospital.dto.ReviewDto.RatingRebuildResponse;
+import com.example.hospital.event.HospitalChangedEvent;
+import com.example.hospital.repository.HospitalRatingSummaryRepository;
+import com.example.hospital.repository.ReviewRepository;
+import com.example.hospital.repository.ReviewRepository.ReviewRatingAggregateView;
+import com.example.hospital.repository.ReviewRepository.ReviewRatingView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 병원 평점 집계 관리
+ * - 리뷰 변경 시 증감분을 같은 트랜잭션에서 upsert
+ * - 재계산 작업은 리뷰를 병원 ID 순으로 스트리밍하며 병원 하나씩 집계해 저장된 값과 비교 (메모리는 병원 수에 비례)
+ * - 값이 다른 병원만 집계 행을 잠근 뒤 다시 집계해 덮어씀 (스트리밍 중 커밋된 증감분을 덮어쓰지 않음)
+ * - 평점순 검색이 집계 행과 내부 조인하므로 병원을 추가한 트랜잭션에서 0건 집계 행을 만들고,
+ *   SQL로 직접 적재한 병원은 기동/캐시 비우기/재계산 때 채움
+ */
+@Service
+public class RatingAggregateService {
+    private static final Logger logger = LoggerFactory.getLogger(RatingAggregateService.class);
+
+    @Autowired
+    private HospitalRatingSummaryRepository hospitalRatingSummaryRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final TransactionTemplate writeTransaction;
+
+    public RatingAggregateService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 리뷰 추가 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewAdded(Long hospitalId, int rating) {
+        long[] histogram = new long[5];
+        histogram[rating - 1] = 1;
+        applyDelta(hospitalId, 1, rating, histogram);
+    }
+
+    /**
+     * 리뷰 평점 변경 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewChanged(Long hospitalId, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        long[] histogram = new long[5];
+        histogram[oldRating - 1] = -1;
+        histogram[newRating - 1] = 1;
+        applyDelta(hospitalId, 0, newRating - oldRating, histogram);
+    }
+
+    /**
+     * 리뷰 삭제 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewRemoved(Long hospitalId, int rating) {
+        long[] histogram = new long[5];
+        histogram[rating - 1] = -1;
+        applyDelta(hospitalId, -1, -rating, histogram);
+    }
+
+    /**
+     * JPA로 추가한 병원의 0건 집계 행을 같은 트랜잭션에서 생성 (수정 이벤트는 이미 행이 있으므로 건너뜀)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onHospitalChanged(HospitalChangedEvent event) {
+        if (!event.deleted()) {
+            createSummaryIfMissing(event.hospitalId());
+        }
+    }
+
+    /**
+     * 병원 하나의 집계 행이 없으면 0건 집계 행 생성 (진행 중인 트랜잭션이 있으면 참여)
+     */
+    public void createSummaryIfMissing(Long hospitalId) {
+        writeTransaction.executeWithoutResult(status -> {
+            if (!hospitalRatingSummaryRepository.existsById(hospitalId)) {
+                hospitalRatingSummaryRepository.applyDelta(hospitalId, 0, 0, 0, 0, 0, 0, 0);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        createMissingSummaries();
+    }
+
+    /**
+     * 집계 행이 없는 병원(SQL로 직접 적재한 병원 등)에 0건 집계 행 생성, 생성한 행 수 반환
+     */
+    public int createMissingSummaries() {
+        Integer created;
+        try {
+            created = writeTransaction.execute(status -> hospitalRatingSummaryRepository.createMissing());
+        } catch (DataIntegrityViolationException e) {
+            // 그 사이 리뷰 증감분이나 다른 인스턴스가 같은 병원의 행을 만듦 -> 다음 기동/재계산 때 이어서 처리
+            logger.warn("Creating empty rating summaries stopped: {}", e.getMessage());
+            return 0;
+        }
+        if (created != null && created > 0) {
+            logger.info("Created {} empty rating summaries", created);
+        }
+        return created == null ? 0 : created;
+    }
+
+    /**
+     * 병원 ID별 평점 집계 조회 (집계가 없는 병원은 결과에 없음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, HospitalRatingSummary> findSummaries(Collection<Long> hospitalIds) {
+        Map<Long, HospitalRatingSummary> summaries = new HashMap<>();
+        if (hospitalIds.isEmpty()) {
+            return summaries;
+        }
+        for (HospitalRatingSummary summary : hospitalRatingSummaryRepository.findByHospitalIdIn(hospitalIds)) {
+            summaries.put(summary.getHospitalId(), summary);
+        }
+        return summaries;
+    }
+
+    /**
+     * 리뷰 전체로 평점 집계를 다시 계산하고 저장된 값과 다르면 덮어씀
+     * 스트리밍 결과는 보정 대상을 고르는 데만 쓰고, 덮어쓸 값은 병원별로 집계 행을 잠근 트랜잭션에서 다시 집계
+     */
+    public RatingRebuildResponse rebuild() {
+        long startedAt = System.currentTimeMillis();
+        createMissingSummaries();
+
+        Map<Long, long[]> stored = new HashMap<>();
+        for (HospitalRatingSummary summary : hospitalRatingSummaryRepository.findAll()) {
+            stored.put(summary.getHospitalId(), toAggregate(summary));
+        }
+
+        // 스트리밍 중에는 같은 연결로 다른 쿼리를 실행할 수 없으므로 보정 대상만 모아 두었다가 처리
+        List<Long> candidates = new ArrayList<>();
+        long[] reviewCount = new long[1];
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ReviewRatingView> ratings = reviewRepository.streamRatings()) {
+                Iterator<ReviewRatingView> iterator = ratings.iterator();
+                Long currentHospitalId = null;
+                long[] current = null;
+                while (iterator.hasNext()) {
+                    ReviewRatingView view = iterator.next();
+                    if (view.getHospitalId() == null || view.getRating() == null ||
+                            view.getRating() < 1 || view.getRating() > 5) {
+                        continue;
+                    }
+                    if (!view.getHospitalId().equals(currentHospitalId)) {
+                        collectCandidate(currentHospitalId, current, stored, candidates);
+                        currentHospitalId = view.getHospitalId();
+                        current = new long[7];
+                    }
+                    current[0]++;
+                    current[1] += view.getRating();
+                    current[1 + view.getRating()]++;
+                    reviewCount[0]++;
+                }
+                collectCandidate(currentHospitalId, current, stored, candidates);
+            }
+        });
+
+        // 비교하지 않고 남은 병원은 리뷰가 모두 사라진 병원이므로 집계를 0으로
+        int hospitalCount = 0;
+        long[] empty = new long[7];
+        for (Map.Entry<Long, long[]> entry : stored.entrySet()) {
+            if (entry.getValue() == null) {
+                hospitalCount++;
+            } else if (!Arrays.equals(entry.getValue(), empty)) {
+                hospitalCount++;
+                candidates.add(entry.getKey());
+            }
+        }
+
+        int correctedCount = 0;
+        for (Long hospitalId : candidates) {
+            if (Boolean.TRUE.equals(writeTransaction.execute(status -> correct(hospitalId)))) {
+                correctedCount++;
+            }
+        }
+
+        RatingRebuildResponse response = RatingRebuildResponse.builder()
+                .hospitalCount(hospitalCount)
+                .correctedCount(correctedCount)
+                .reviewCount(reviewCount[0])
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .build();
+        if (correctedCount > 0) {
+            catalogVersion.bump();
+            logger.warn("Rating aggregate rebuild corrected {} of {} hospitals", correctedCount, hospitalCount);
+        }
+        return response;
+    }
+
+    /**
+     * 설정된 주기로 평점 집계 재계산 (기본 비활성)
+     */
+    @Scheduled(cron = "${hospital.rating.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    private void applyDelta(Long hospitalId, long countDelta, long sumDelta, long[] histogram) {
+        hospitalRatingSummaryRepository.applyDelta(hospitalId, countDelta, sumDelta,
+                histogram[0], histogram[1], histogram[2], histogram[3], histogram[4]);
+        // 병원 목록 응답에 평점이 포함되므로 카탈로그 버전 갱신
+        catalogVersion.bumpAfterCommit();
+    }
+
+    // 재계산한 병원 집계를 저장된 값과 비교 (비교한 병원은 stored에서 null로 표시해 남은 병원과 구분)
+    private void collectCandidate(Long hospitalId, long[] aggregate, Map<Long, long[]> stored,
+            List<Long> candidates) {
+        if (hospitalId == null) {
+            return;
+        }
+        long[] existing = stored.put(hospitalId, null);
+        if (!Arrays.equals(existing, aggregate)) {
+            candidates.add(hospitalId);
+        }
+    }
+
+    /**
+     * 병원 하나의 집계 보정 (쓰기 트랜잭션 안에서 호출, 값을 바꿨으면 true)
+     * 증감분 0인 upsert로 집계 행을 먼저 잠그므로 진행 중인 리뷰 트랜잭션은 커밋된 뒤에 다시 집계되고,
+     * 이후 리뷰 트랜잭션의 증감분은 이 트랜잭션이 커밋될 때까지 기다렸다가 덮어쓴 값 위에 반영됨
+     */
+    boolean correct(Long hospitalId) {
+        hospitalRatingSummaryRepository.applyDelta(hospitalId, 0, 0, 0, 0, 0, 0, 0);
+
+        long[] stored = hospitalRatingSummaryRepository.findById(hospitalId)
+                .map(this::toAggregate)
+                .orElse(new long[7]);
+        long[] actual = toAggregate(reviewRepository.aggregateRatings(hospitalId));
+        if (Arrays.equals(stored, actual)) {
+            return false;
+        }
+        hospitalRatingSummaryRepository.overwrite(hospitalId, actual[0], actual[1],
+                actual[2], actual[3], actual[4], actual[5], actual[6]);
+        return true;
+    }
+
+    // [리뷰 수, 평점 합, 1점 수, ..., 5점 수]
+    private long[] toAggregate(HospitalRatingSummary summary) {
+        long[] counts = summary.getRatingCounts();
+        return new long[]{summary.getReviewCount(), summary.getRatingSum(),
+                counts[0], counts[1], counts[2], counts[3], counts[4]};
+    }
+
+    private long[] toAggregate(ReviewRatingAggregateView view) {
+        return new long[]{view.getReviewCount(), view.getRatingSum(), view.getRating1Count(),
+                view.getRating2Count(), view.getRating3Count(), view.getRating4Count(), view.getRating5Count()};
+    }
+}
@@ -3,8 +3,10 @@ package com.example.hospital.service;
 import com.example.hospital.domain.Department;
 import com.example.hospital.domain.Doctor;
 import com.example.hospital.domain.Hospital;
+import com.example.hospital.domain.NotificationOutbox;
 import com.example.hospital.domain.Reservation;
-import com.example.hospital.domain.User;
+import com.example.hospital.domain.ReservationSlotClaim;
+import com.example.hospital.dto.ReservationDto.ReservationHistoryRequest;
 import com.example.hospital.dto.ReservationDto.ReservationListResponse;
 import com.example.hospital.dto.ReservationDto.ReservationRequest;
 import com.example.hospital.dto.ReservationDto.ReservationResponse;
@@ -13,20 +15,41 @@ import com.example.hospital.repository.DepartmentRepository;
 import com.example.hospital.repository.DoctorRepository;
 import com.example.hospital.repository.HospitalRepository;
 import com.example.hospital.repository.ReservationRepository;
+import com.example.hospital.repository.ReservationRepository.ReservationView;
+import com.example.hospital.repository.ReservationSlotClaimRepository;
+import com.example.hospital.repository.UserRepository;
+import com.example.hospital.util.CursorUtil;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
 
 @Service
+@Timed(value = "hospital.service.reservation", histogram = true)
 public class ReservationService {
 
+    private static final String SLOT_TAKEN_MESSAGE = "선택한 시간에 이미 예약이 있습니다. 다른 시간을 선택해주세요.";
+
+    // 예약 이력 날짜 필터 기본값 (MySQL DATE 범위)
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
     @Autowired
     private ReservationRepository reservationRepository;
 
@@ -39,11 +62,35 @@ public class ReservationService {
     @Autowired
     private DoctorRepository doctorRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SlotOccupancyIndex slotOccupancyIndex;
+
+    @Autowired
+    private ReservationSlotClaimRepository reservationSlotClaimRepository;
+
+    @Autowired
+    private ReservationSlotLocks reservationSlotLocks;
+
+    @Autowired
+    private DoctorScheduleService doctorScheduleService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Value("${hospital.reservation.history.page-size.default:20}")
+    private int defaultHistoryPageSize;
+
+    @Value("${hospital.reservation.history.page-size.max:100}")
+    private int maxHistoryPageSize;
+
     /**
      * 새로운 진료 예약 생성
      */
     @Transactional
-    public ReservationResponse createReservation(ReservationRequest request, User currentUser) {
+    public ReservationResponse createReservation(ReservationRequest request, Long userId) {
         // 요청한 병원, 부서, 의사가 존재하는지 확인
         Hospital hospital = hospitalRepository.findById(request.getHospitalId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 병원을 찾을 수 없습니다."));
@@ -61,20 +108,29 @@ public class ReservationService {
         LocalDate reservationDate = LocalDate.parse(request.getReservationDate(),
                 DateTimeFormatter.ofPattern("yyyy-MM-dd"));
         LocalTime reservationTime = LocalTime.parse(request.getReservationTime(), DateTimeFormatter.ofPattern("HH:mm"));
+        Long doctorId = doctor != null ? doctor.getId() : null;
+
+        // 의사 진료 시간표가 있으면 진료 슬롯인지 확인
+        if (doctorId != null) {
+            doctorScheduleService.validateBookable(doctorId, reservationDate, reservationTime);
+        }
+
+        // 같은 슬롯을 노리는 요청끼리만 직렬화
+        String slotKey = ReservationSlotClaim.slotKey(hospital.getId(), department.getId(), doctorId,
+                reservationDate, reservationTime);
+        reservationSlotLocks.lockUntilTransactionEnds(slotKey);
 
         // 예약 시간이 이미 사용 중인지 확인
-        boolean isTimeSlotTaken = reservationRepository
-                .existsByHospitalIdAndDepartmentIdAndDoctorIdAndReservationDateAndReservationTimeAndStatusNot(
-                        hospital.getId(), department.getId(), doctor != null ? doctor.getId() : null,
-                        reservationDate, reservationTime, Reservation.ReservationStatus.CANCELED);
+        boolean isTimeSlotTaken = slotOccupancyIndex.isTaken(
+                hospital.getId(), department.getId(), doctorId, reservationDate, reservationTime);
 
         if (isTimeSlotTaken) {
-            throw new IllegalStateException("선택한 시간에 이미 예약이 있습니다. 다른 시간을 선택해주세요.");
+            throw new IllegalStateException(SLOT_TAKEN_MESSAGE);
         }
 
         // 새 예약 생성
         Reservation reservation = Reservation.builder()
-                .user(currentUser)
+                .user(userRepository.getReferenceById(userId))
                 .hospital(hospital)
                 .department(department)
                 .doctor(doctor)
@@ -85,6 +141,11 @@ public class ReservationService {
                 .build();
 
         Reservation savedReservation = reservationRepository.save(reservation);
+        claimSlot(slotKey, savedReservation.getId());
+        slotOccupancyIndex.occupyAfterCommit(hospital.getId(), department.getId(), doctorId,
+                reservationDate, reservationTime);
+        notificationService.enqueue(savedReservation, NotificationOutbox.EventType.CREATED);
+
         return ReservationResponse.fromEntity(savedReservation);
     }
 
@@ -93,9 +154,9 @@ public class ReservationService {
      */
     @Transactional
     public ReservationResponse updateReservation(Long reservationId, ReservationUpdateRequest request,
-            User currentUser) {
+            Long userId) {
         // 예약 정보 조회 및 권한 확인
-        Reservation reservation = reservationRepository.findByIdAndUser(reservationId, currentUser)
+        Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
                 .orElseThrow(() -> new AccessDeniedException("해당 예약을 찾을 수 없거나 접근 권한이 없습니다."));
 
         // 이미 취소된 예약인지 확인
@@ -131,25 +192,42 @@ public class ReservationService {
                 ? LocalTime.parse(request.getReservationTime(), DateTimeFormatter.ofPattern("HH:mm"))
                 : reservation.getReservationTime();
 
-        // 날짜/시간이나 의사가 변경된 경우, 시간대 중복 확인
-        if (!newDate.equals(reservation.getReservationDate()) ||
+        Long currentDoctorId = reservation.getDoctor() != null ? reservation.getDoctor().getId() : null;
+        Long newDoctorId = doctor != null ? doctor.getId() : null;
+        boolean slotChanged = !newDate.equals(reservation.getReservationDate()) ||
                 !newTime.equals(reservation.getReservationTime()) ||
-                (doctor != null && !doctor.equals(reservation.getDoctor()))) {
-
-            boolean isTimeSlotTaken = reservationRepository
-                    .existsByHospitalIdAndDepartmentIdAndDoctorIdAndReservationDateAndReservationTimeAndStatusNot(
-                            reservation.getHospital().getId(),
-                            reservation.getDepartment().getId(),
-                            doctor != null ? doctor.getId() : null,
-                            newDate,
-                            newTime,
-                            Reservation.ReservationStatus.CANCELED);
-
-            // 자신의 예약은 제외
-            if (isTimeSlotTaken &&
-                    !reservationRepository.findByIdAndUser(reservationId, currentUser).isPresent()) {
-                throw new IllegalStateException("선택한 시간에 이미 예약이 있습니다. 다른 시간을 선택해주세요.");
+                !Objects.equals(newDoctorId, currentDoctorId);
+
+        // 날짜/시간이나 의사가 변경된 경우, 시간대 중복 확인 (변경 전 슬롯은 자신의 예약이므로 검사 대상이 아님)
+        if (slotChanged) {
+            if (newDoctorId != null) {
+                doctorScheduleService.validateBookable(newDoctorId, newDate, newTime);
+            }
+
+            String slotKey = ReservationSlotClaim.slotKey(reservation.getHospital().getId(),
+                    reservation.getDepartment().getId(), newDoctorId, newDate, newTime);
+            reservationSlotLocks.lockUntilTransactionEnds(slotKey);
+
+            boolean isTimeSlotTaken = slotOccupancyIndex.isTaken(
+                    reservation.getHospital().getId(),
+                    reservation.getDepartment().getId(),
+                    newDoctorId,
+                    newDate,
+                    newTime);
+
+            if (isTimeSlotTaken) {
+                throw new IllegalStateException(SLOT_TAKEN_MESSAGE);
             }
+
+            // 기존 슬롯 선점 해제 후 새 슬롯 선점
+            reservationSlotClaimRepository.deleteByReservationId(reservation.getId());
+            claimSlot(slotKey, reservation.getId());
+
+            slotOccupancyIndex.releaseAfterCommit(reservation.getHospital().getId(),
+                    reservation.getDepartment().getId(), currentDoctorId,
+                    reservation.getReservationDate(), reservation.getReservationTime());
+            slotOccupancyIndex.occupyAfterCommit(reservation.getHospital().getId(),
+                    reservation.getDepartment().getId(), newDoctorId, newDate, newTime);
         }
 
         // 예약 정보 업데이트
@@ -165,52 +243,97 @@ public class ReservationService {
         reservation.setStatus(Reservation.ReservationStatus.REQUESTED);
 
         Reservation updatedReservation = reservationRepository.save(reservation);
+        notificationService.enqueue(updatedReservation, NotificationOutbox.EventType.UPDATED);
         return ReservationResponse.fromEntity(updatedReservation);
     }
 
     /**
 
-     * 사용자의 모든 예약 조회
+     * 사용자의 예약 이력 조회 (날짜 범위/상태 필터, 커서 기반 페이지)
      */
     @Transactional(readOnly = true)
-    public ReservationListResponse getUserReservations(User currentUser) {
-        List<Reservation> reservations = reservationRepository.findByUser(currentUser);
-        return ReservationListResponse.fromEntities(reservations);
+    public ReservationListResponse getUserReservations(Long userId, ReservationHistoryRequest request) {
+        int size = request.getSize() == null || request.getSize() <= 0
+                ? defaultHistoryPageSize
+                : Math.min(request.getSize(), maxHistoryPageSize);
+
+        Collection<Reservation.ReservationStatus> statuses = request.getStatuses() == null ||
+                request.getStatuses().isEmpty()
+                ? EnumSet.allOf(Reservation.ReservationStatus.class)
+                : request.getStatuses();
+
+        LocalDate fromDate = MIN_DATE;
+        LocalDate toDate = MAX_DATE;
+        LocalDate afterDate = MIN_DATE;
+        LocalTime afterTime = LocalTime.MIN;
+        long afterId = 0L;
+        try {
+            if (StringUtils.hasText(request.getFrom())) {
+                fromDate = LocalDate.parse(request.getFrom(), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+            }
+            if (StringUtils.hasText(request.getTo())) {
+                toDate = LocalDate.parse(request.getTo(), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+            }
+            if (StringUtils.hasText(request.getCursor())) {
+                String[] cursor = CursorUtil.decode(request.getCursor(), 3);
+                afterDate = LocalDate.parse(cursor[0]);
+                afterTime = LocalTime.ofSecondOfDay(Long.parseLong(cursor[1]));
+                afterId = Long.parseLong(cursor[2]);
+            }
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 조회 조건입니다.");
+        }
+
+        List<ReservationView> fetched = reservationRepository.findHistoryViewsByUserId(userId, statuses,
+                fromDate, toDate, afterDate, afterTime, afterId, PageRequest.of(0, size + 1));
+
+        boolean hasNext = fetched.size() > size;
+        List<ReservationView> page = hasNext ? fetched.subList(0, size) : fetched;
+
+        ReservationListResponse response = ReservationListResponse.fromViews(page);
+        response.setHasNext(hasNext);
+        if (hasNext) {
+            ReservationView last = page.get(page.size() - 1);
+            response.setNextCursor(CursorUtil.encode(last.getReservationDate(),
+                    last.getReservationTime().toSecondOfDay(), last.getId()));
+        }
+        return response;
     }
 
     /**
      * 사용자의 활성화된 예약만 조회 (취소/거절/완료 상태 제외)
      */
     @Transactional(readOnly = true)
-    public ReservationListResponse getActiveUserReservations(User currentUser) {
+    public ReservationListResponse getActiveUserReservations(Long userId, Integer limit) {
         List<Reservation.ReservationStatus> excludedStatuses = Arrays.asList(
                 Reservation.ReservationStatus.CANCELED,
                 Reservation.ReservationStatus.REJECTED,
                 Reservation.ReservationStatus.COMPLETED);
 
-        List<Reservation> activeReservations = reservationRepository
-                .findByUserAndStatusNotInOrderByReservationDateAscReservationTimeAsc(currentUser, excludedStatuses);
+        List<ReservationView> activeReservations = reservationRepository
+                .findActiveViewsByUserId(userId, excludedStatuses,
+                        limit != null && limit > 0 ? PageRequest.of(0, limit) : Pageable.unpaged());
 
-        return ReservationListResponse.fromEntities(activeReservations);
+        return ReservationListResponse.fromViews(activeReservations);
     }
 
     /**
      * 예약 상세 정보 조회
      */
     @Transactional(readOnly = true)
-    public ReservationResponse getReservationDetail(Long reservationId, User currentUser) {
-        Reservation reservation = reservationRepository.findByIdAndUser(reservationId, currentUser)
+    public ReservationResponse getReservationDetail(Long reservationId, Long userId) {
+        ReservationView reservation = reservationRepository.findViewByIdAndUserId(reservationId, userId)
                 .orElseThrow(() -> new AccessDeniedException("해당 예약을 찾을 수 없거나 접근 권한이 없습니다."));
 
-        return ReservationResponse.fromEntity(reservation);
+        return ReservationResponse.fromView(reservation);
     }
 
     /**
      * 예약 취소
      */
     @Transactional
-    public ReservationResponse cancelReservation(Long reservationId, User currentUser) {
-        Reservation reservation = reservationRepository.findByIdAndUser(reservationId, currentUser)
+    public ReservationResponse cancelReservation(Long reservationId, Long userId) {
+        Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
                 .orElseThrow(() -> new AccessDeniedException("해당 예약을 찾을 수 없거나 접근 권한이 없습니다."));
 
         // 이미 취소된 예약인지 확인
@@ -226,7 +349,27 @@ public class ReservationService {
         // 상태 변경
         reservation.setStatus(Reservation.ReservationStatus.CANCELED);
         Reservation updatedReservation = reservationRepository.save(reservation);
+        reservationSlotClaimRepository.deleteByReservationId(reservation.getId());
+        slotOccupancyIndex.releaseAfterCommit(reservation.getHospital().getId(),
+                reservation.getDepartment().getId(),
+                reservation.getDoctor() != null ? reservation.getDoctor().getId() : null,
+                reservation.getReservationDate(), reservation.getReservationTime());
+        notificationService.enqueue(updatedReservation, NotificationOutbox.EventType.CANCELED);
 
         return ReservationResponse.fromEntity(updatedReservation);
     }
+
+    /**
+     * 슬롯 선점 (유니크 제약 위반 시 다른 요청이 먼저 예약한 것으로 판단)
+     */
+    private void claimSlot(String slotKey, Long reservationId) {
+        try {
+            reservationSlotClaimRepository.saveAndFlush(ReservationSlotClaim.builder()
+                    .slotKey(slotKey)
+                    .reservationId(reservationId)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException(SLOT_TAKEN_MESSAGE);
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Reservation;
+import com.example.hospital.domain.ReservationSlotClaim;
+import com.example.hospital.repository.ReservationRepository;
+import com.example.hospital.repository.ReservationRepository.UnclaimedSlotView;
+import com.example.hospital.repository.ReservationSlotClaimRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 슬롯 선점 테이블 도입 전에 생성된 활성 예약의 선점 채우기
+ * - 선점이 없는 예약은 유니크 제약의 보호를 받지 못하므로 기동 시 한 번 채움 (이미 채워진 예약은 건너뜀)
+ * - 같은 슬롯에 활성 예약이 이미 여러 건이면 ID가 가장 작은 예약만 선점하고 나머지는 경고 로그로 남김
+ */
+@Component
+public class ReservationSlotClaimBackfill {
+    private static final Logger logger = LoggerFactory.getLogger(ReservationSlotClaimBackfill.class);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSlotClaimRepository reservationSlotClaimRepository;
+
+    @Value("${hospital.reservation.slot-claim-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hospital.reservation.slot-claim-backfill.batch-size:1000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            backfill();
+        }
+    }
+
+    /**
+     * 선점이 없는 활성 예약의 슬롯 선점 생성, 새로 선점한 예약 수 반환
+     */
+    public int backfill() {
+        int claimed = 0;
+        int duplicated = 0;
+        long afterId = 0L;
+
+        try {
+            while (true) {
+                List<UnclaimedSlotView> batch = reservationRepository.findUnclaimedSlotViews(afterId,
+                        Reservation.ReservationStatus.CANCELED, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                afterId = batch.get(batch.size() - 1).getId();
+
+                // ID 오름차순이므로 같은 슬롯은 먼저 나온 예약이 선점
+                Map<String, Long> slotOwners = new LinkedHashMap<>();
+                for (UnclaimedSlotView view : batch) {
+                    String slotKey = ReservationSlotClaim.slotKey(view.getHospitalId(), view.getDepartmentId(),
+                            view.getDoctorId(), view.getReservationDate(), view.getReservationTime());
+                    Long owner = slotOwners.putIfAbsent(slotKey, view.getId());
+                    if (owner != null) {
+                        duplicated++;
+                        logger.warn("Reservation {} shares slot {} with reservation {}, leaving it unclaimed",
+                                view.getId(), slotKey, owner);
+                    }
+                }
+
+                Set<String> alreadyClaimed = new HashSet<>(
+                        reservationSlotClaimRepository.findClaimedSlotKeys(slotOwners.keySet()));
+                List<ReservationSlotClaim> claims = new ArrayList<>();
+                for (Map.Entry<String, Long> entry : slotOwners.entrySet()) {
+                    if (alreadyClaimed.contains(entry.getKey())) {
+                        duplicated++;
+                        logger.warn("Reservation {} shares already claimed slot {}, leaving it unclaimed",
+                                entry.getValue(), entry.getKey());
+                        continue;
+                    }
+                    claims.add(ReservationSlotClaim.builder()
+                            .slotKey(entry.getKey())
+                            .reservationId(entry.getValue())
+                            .build());
+                }
+
+                reservationSlotClaimRepository.saveAll(claims);
+                claimed += claims.size();
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 채우는 중이거나 그 사이 새 예약이 슬롯을 선점함 -> 다음 기동 때 이어서 처리
+            logger.warn("Slot claim backfill stopped after {} claims: {}", claimed, e.getMessage());
+            return claimed;
+        }
+
+        if (claimed > 0 || duplicated > 0) {
+            logger.info("Slot claim backfill created {} claims, {} reservations share a claimed slot", claimed,
+                    duplicated);
+        }
+        return claimed;
+    }
+}
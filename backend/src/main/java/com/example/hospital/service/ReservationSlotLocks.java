@@ -0,0 +1,53 @@
+package com.example.hospital.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 슬롯 키 기준 스트라이프 락
+ * - 같은 슬롯을 노리는 예약 요청만 프로세스 내에서 직렬화하고, 서로 다른 슬롯은 경합하지 않음
+ * - 최종 중복 방지는 reservation_slot_claims 유니크 제약이 담당하며, 락은 DB 경합을 줄이기 위한 용도
+ */
+@Component
+public class ReservationSlotLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public ReservationSlotLocks(@Value("${hospital.reservation.slot-lock-stripes:256}") int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 슬롯 락을 획득하고 현재 트랜잭션이 끝날 때(커밋/롤백 후) 해제
+     * - 커밋이 끝난 뒤에 해제해야 대기 중인 요청이 선행 예약을 확인할 수 있음
+     */
+    public void lockUntilTransactionEnds(String slotKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("슬롯 락은 트랜잭션 안에서만 사용할 수 있습니다.");
+        }
+
+        ReentrantLock lock = lockFor(slotKey);
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private ReentrantLock lockFor(String slotKey) {
+        int hash = slotKey.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Hospital;
+import com.example.hospital.domain.Review;
+import com.example.hospital.dto.ReviewDto.ReviewListResponse;
+import com.example.hospital.dto.ReviewDto.ReviewRequest;
+import com.example.hospital.dto.ReviewDto.ReviewResponse;
+import com.example.hospital.repository.HospitalRepository;
+import com.example.hospital.repository.ReviewRepository;
+import com.example.hospital.repository.UserRepository;
+import com.example.hospital.util.CursorUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class ReviewService {
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RatingAggregateService ratingAggregateService;
+
+    @Value("${hospital.review.page-size.default:20}")
+    private int defaultPageSize;
+
+    @Value("${hospital.review.page-size.max:100}")
+    private int maxPageSize;
+
+    /**
+     * 병원 리뷰 목록 조회 (최신순, 커서 기반 페이지)
+     */
+    @Transactional(readOnly = true)
+    public ReviewListResponse getHospitalReviews(Long hospitalId, String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        long beforeId = Long.MAX_VALUE;
+        if (StringUtils.hasText(cursor)) {
+            try {
+                beforeId = Long.parseLong(CursorUtil.decode(cursor, 1)[0]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+            }
+        }
+
+        List<Review> fetched = reviewRepository.findPageByHospitalId(hospitalId, beforeId,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasNext = fetched.size() > pageSize;
+        List<Review> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+        return ReviewListResponse.builder()
+                .reviews(page.stream().map(ReviewResponse::fromEntity).collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? CursorUtil.encode(page.get(page.size() - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * 리뷰 작성
+     */
+    @Transactional
+    public ReviewResponse createReview(ReviewRequest request, Long userId) {
+        if (request.getHospitalId() == null) {
+            throw new IllegalArgumentException("병원을 선택해주세요.");
+        }
+        Hospital hospital = hospitalRepository.findById(request.getHospitalId())
+                .orElseThrow(() -> new IllegalArgumentException("해당 병원을 찾을 수 없습니다."));
+        int rating = validateRating(request.getRating());
+
+        Review review = Review.builder()
+                .user(userRepository.getReferenceById(userId))
+                .hospital(hospital)
+                .rating(rating)
+                .content(request.getContent())
+                .build();
+
+        Review savedReview = reviewRepository.save(review);
+        ratingAggregateService.reviewAdded(hospital.getId(), rating);
+
+        return ReviewResponse.fromEntity(savedReview);
+    }
+
+    /**
+     * 리뷰 수정 (작성자만 가능)
+     */
+    @Transactional
+    public ReviewResponse updateReview(Long reviewId, ReviewRequest request, Long userId) {
+        Review review = reviewRepository.findByIdAndUserId(reviewId, userId)
+                .orElseThrow(() -> new AccessDeniedException("해당 리뷰를 찾을 수 없거나 접근 권한이 없습니다."));
+
+        if (request.getRating() != null) {
+            int oldRating = review.getRating();
+            int newRating = validateRating(request.getRating());
+            review.setRating(newRating);
+            ratingAggregateService.reviewChanged(review.getHospital().getId(), oldRating, newRating);
+        }
+        if (request.getContent() != null) {
+            review.setContent(request.getContent());
+        }
+
+        return ReviewResponse.fromEntity(reviewRepository.save(review));
+    }
+
+    /**
+     * 리뷰 삭제 (작성자만 가능)
+     */
+    @Transactional
+    public void deleteReview(Long reviewId, Long userId) {
+        Review review = reviewRepository.findByIdAndUserId(reviewId, userId)
+                .orElseThrow(() -> new AccessDeniedException("해당 리뷰를 찾을 수 없거나 접근 권한이 없습니다."));
+
+        reviewRepository.delete(review);
+        ratingAggregateService.reviewRemoved(review.getHospital().getId(), review.getRating());
+    }
+
+    private int validateRating(Integer rating) {
+        if (rating == null || rating < 1 || rating > 5) {
+            throw new IllegalArgumentException("평점은 1점에서 5점 사이여야 합니다.");
+        }
+        return rating;
+    }
+}
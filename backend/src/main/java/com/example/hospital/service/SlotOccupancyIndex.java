@@ -0,0 +1,268 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Reservation;
+import com.example.hospital.repository.ReservationRepository;
+import com.example.hospital.repository.ReservationRepository.SlotView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 의사/진료과/날짜별 예약 슬롯 점유 인덱스
+ * - 하루를 분 단위 비트셋(1440비트)으로 표현해 "이 시간이 이미 예약되었는가"를 DB 조회 없이 판단
+ * - DB가 항상 원본이며, 인덱스가 답할 수 없는 경우(적재 전, 적재 이전 날짜, 불일치 감지)는 기존 쿼리로 대체
+ * - "비어 있음"만 인덱스로 바로 답하고 "예약됨"은 DB로 다시 확인 (다른 인스턴스의 취소를 놓쳐도 빈 슬롯을 거절하지 않음)
+ *   다른 인스턴스의 예약을 놓쳐 "비어 있음"으로 답한 경우는 reservation_slot_claims 유니크 제약이 막음
+ */
+@Component
+public class SlotOccupancyIndex {
+    private static final Logger logger = LoggerFactory.getLogger(SlotOccupancyIndex.class);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Value("${hospital.reservation.slot-index.enabled:true}")
+    private boolean enabled;
+
+    // 인덱스 결과를 매번 DB 결과와 비교하는 일관성 검사 모드
+    @Value("${hospital.reservation.slot-index.verify:false}")
+    private boolean verify;
+
+    private final ConcurrentHashMap<SlotDayKey, DaySlots> days = new ConcurrentHashMap<>();
+
+    // 인덱스로 답할 수 없어 DB 조회로 대체해야 하는 날짜 키
+    private final Set<SlotDayKey> coldDays = ConcurrentHashMap.newKeySet();
+
+    // 이 날짜 이후만 인덱스가 답할 수 있음 (null이면 적재 전)
+    private volatile LocalDate warmFrom;
+
+    private volatile boolean warming;
+
+    /**
+     * 애플리케이션 기동 후 오늘 이후의 예약으로 인덱스 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        warming = true;
+        try {
+            days.clear();
+            coldDays.clear();
+
+            List<SlotView> slots = reservationRepository.findSlotViewsFrom(today,
+                    Reservation.ReservationStatus.CANCELED);
+            for (SlotView slot : slots) {
+                apply(new SlotDayKey(slot.getHospitalId(), slot.getDepartmentId(), slot.getDoctorId(),
+                        slot.getReservationDate()), slot.getReservationTime(), true);
+            }
+
+            warmFrom = today;
+            logger.info("Slot occupancy index warmed with {} reservations ({} doctor-days)", slots.size(),
+                    days.size());
+        } catch (Exception e) {
+            warmFrom = null;
+            logger.error("Cannot warm slot occupancy index, falling back to database: {}", e.getMessage());
+        } finally {
+            warming = false;
+        }
+    }
+
+    /**
+     * 해당 슬롯이 이미 예약되었는지 확인 (취소 상태 제외)
+     */
+    public boolean isTaken(Long hospitalId, Long departmentId, Long doctorId, LocalDate date, LocalTime time) {
+        SlotDayKey key = new SlotDayKey(hospitalId, departmentId, doctorId, date);
+        Boolean indexed = lookup(key, time);
+        if (indexed == null) {
+            return existsInDatabase(key, time);
+        }
+
+        if (indexed) {
+            // 예약됨은 DB로 확인하고, 이미 풀린 슬롯(다른 인스턴스에서 취소 등)이면 인덱스도 비움
+            boolean stored = existsInDatabase(key, time);
+            if (!stored) {
+                logger.debug("Slot occupancy index had a released slot {} {}, clearing it", key, time);
+                apply(key, time, false);
+            }
+            return stored;
+        }
+
+        if (verify) {
+            boolean stored = existsInDatabase(key, time);
+            if (stored) {
+                logger.warn("Slot occupancy index mismatch for {} {}: index=false, database=true", key, time);
+                coldDays.add(key);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 매일 지난 날짜의 슬롯을 인덱스에서 제거 (지난 날짜 조회는 DB로 대체)
+     */
+    @Scheduled(cron = "${hospital.reservation.slot-index.evict-cron:0 5 0 * * *}")
+    public void evictPastDays() {
+        evictBefore(LocalDate.now());
+    }
+
+    void evictBefore(LocalDate date) {
+        LocalDate from = warmFrom;
+        if (from != null && from.isBefore(date)) {
+            warmFrom = date;
+        }
+        days.keySet().removeIf(key -> key.date().isBefore(date));
+        coldDays.removeIf(key -> key.date().isBefore(date));
+    }
+
+    int indexedDayCount() {
+        return days.size();
+    }
+
+    /**
+     * 트랜잭션 커밋 후 슬롯 점유 반영
+     */
+    public void occupyAfterCommit(Long hospitalId, Long departmentId, Long doctorId, LocalDate date,
+            LocalTime time) {
+        afterCommit(new SlotDayKey(hospitalId, departmentId, doctorId, date), time, true);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 슬롯 점유 해제
+     */
+    public void releaseAfterCommit(Long hospitalId, Long departmentId, Long doctorId, LocalDate date,
+            LocalTime time) {
+        afterCommit(new SlotDayKey(hospitalId, departmentId, doctorId, date), time, false);
+    }
+
+    private void afterCommit(SlotDayKey key, LocalTime time, boolean occupy) {
+        if (!enabled) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyCommitted(key, time, occupy);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyCommitted(key, time, occupy);
+            }
+        });
+    }
+
+    private void applyCommitted(SlotDayKey key, LocalTime time, boolean occupy) {
+        // 적재 중 발생한 변경은 스냅샷과의 순서를 보장할 수 없으므로 해당 날짜는 DB로 대체
+        if (warming) {
+            coldDays.add(key);
+            return;
+        }
+        apply(key, time, occupy);
+    }
+
+    private void apply(SlotDayKey key, LocalTime time, boolean occupy) {
+        Integer minute = toMinute(time);
+        if (minute == null) {
+            coldDays.add(key);
+            return;
+        }
+
+        if (occupy) {
+            days.computeIfAbsent(key, k -> new DaySlots()).occupy(minute);
+            return;
+        }
+
+        DaySlots slots = days.get(key);
+        if (slots != null && !slots.release(minute)) {
+            coldDays.add(key);
+        }
+    }
+
+    private Boolean lookup(SlotDayKey key, LocalTime time) {
+        LocalDate from = warmFrom;
+        if (!enabled || from == null || key.date().isBefore(from) || coldDays.contains(key)) {
+            return null;
+        }
+
+        Integer minute = toMinute(time);
+        if (minute == null) {
+            return null;
+        }
+
+        DaySlots slots = days.get(key);
+        return slots != null && slots.isOccupied(minute);
+    }
+
+    private boolean existsInDatabase(SlotDayKey key, LocalTime time) {
+        return reservationRepository
+                .existsByHospitalIdAndDepartmentIdAndDoctorIdAndReservationDateAndReservationTimeAndStatusNot(
+                        key.hospitalId(), key.departmentId(), key.doctorId(), key.date(), time,
+                        Reservation.ReservationStatus.CANCELED);
+    }
+
+    // 분 단위로 표현할 수 없는 시간(초 포함)은 인덱스 대상이 아님
+    private Integer toMinute(LocalTime time) {
+        if (time == null || time.getSecond() != 0 || time.getNano() != 0) {
+            return null;
+        }
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private record SlotDayKey(Long hospitalId, Long departmentId, Long doctorId, LocalDate date) {
+    }
+
+    /**
+     * 하루치 슬롯 점유 비트셋
+     * - 같은 슬롯에 이미 중복 예약이 있는 경우 해제 시 정확한 상태를 알 수 없으므로 별도로 표시
+     */
+    private static final class DaySlots {
+        private final BitSet occupied = new BitSet(MINUTES_PER_DAY);
+        private BitSet duplicated;
+
+        synchronized boolean isOccupied(int minute) {
+            return occupied.get(minute);
+        }
+
+        synchronized void occupy(int minute) {
+            if (occupied.get(minute)) {
+                if (duplicated == null) {
+                    duplicated = new BitSet(MINUTES_PER_DAY);
+                }
+                duplicated.set(minute);
+                return;
+            }
+            occupied.set(minute);
+        }
+
+        synchronized boolean release(int minute) {
+            if (duplicated != null && duplicated.get(minute)) {
+                return false;
+            }
+            occupied.clear(minute);
+            return true;
+        }
+    }
+}
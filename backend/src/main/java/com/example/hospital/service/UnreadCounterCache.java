@@ -0,0 +1,212 @@
+package com.example.hospital.service;
+
+import com.example.hospital.repository.NotificationRepository;
+import com.example.hospital.repository.NotificationRepository.UnreadCountView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 미읽음 알림 수 메모리 카운터
+ * - 처음 조회할 때 DB에서 세고, 이후에는 알림 저장/읽음 처리 시 증감만 반영
+ * - 카운터마다 변경 버전을 두고, 최초 적재와 주기적인 DB 보정은 집계 전에 읽은 버전이 그대로일 때만 덮어씀
+ *   (집계 도중 들어온 증감을 잃지 않도록 하며, 그런 카운터는 다음 보정 주기에 다시 맞춤)
+ * - 최대 크기에 이르면 일부를 비우고 다음 조회 때 다시 셈
+ */
+@Component
+public class UnreadCounterCache {
+    private static final Logger logger = LoggerFactory.getLogger(UnreadCounterCache.class);
+
+    // 보정 시 IN 절에 넣을 최대 사용자 수
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Value("${hospital.notification.unread-cache-size:100000}")
+    private int maxSize;
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 미읽음 알림 수 조회 (캐시에 없으면 DB에서 세어 적재)
+     */
+    public int get(Long userId) {
+        Counter counter = counters.get(userId);
+        Integer cached = counter != null ? counter.value() : null;
+        if (cached != null) {
+            return Math.max(cached, 0);
+        }
+
+        // 적재 중인 다른 조회가 있으면 DB 값만 반환
+        Counter loading = counter == null ? register(userId) : null;
+        long version = loading != null ? loading.version() : 0;
+        int count = (int) notificationRepository.countUnreadByUserId(userId);
+        if (loading != null) {
+            loading.replace(version, count);
+            if (loading.value() == null) {
+                // 집계 도중 증감이 들어와 어느 쪽이 반영된 값인지 알 수 없음 (다음 조회 때 다시 셈)
+                counters.remove(userId, loading);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 미읽음 수 증감 (캐시에 없는 사용자는 다음 조회 때 DB에서 세므로 무시)
+     */
+    public void adjust(Long userId, int delta) {
+        Counter counter = counters.get(userId);
+        if (counter != null) {
+            counter.add(delta);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 미읽음 수 증감
+     */
+    public void adjustAfterCommit(Long userId, int delta) {
+        afterCommit(() -> adjust(userId, delta));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 미읽음 수 0으로 설정
+     */
+    public void resetAfterCommit(Long userId) {
+        afterCommit(() -> {
+            Counter counter = counters.get(userId);
+            if (counter != null) {
+                counter.reset();
+            }
+        });
+    }
+
+    /**
+     * 캐시된 카운터를 DB 집계로 보정 (집계 전에 읽은 버전과 같을 때만 덮어씀)
+     */
+    @Scheduled(fixedDelayString = "${hospital.notification.unread-reconcile-ms:60000}")
+    public void reconcile() {
+        List<Long> userIds = new ArrayList<>(counters.keySet());
+        int corrected = 0;
+        int skipped = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size()));
+
+            Map<Long, CounterSnapshot> snapshots = new HashMap<>();
+            for (Long userId : batch) {
+                Counter counter = counters.get(userId);
+                if (counter != null) {
+                    snapshots.put(userId, new CounterSnapshot(counter, counter.version()));
+                }
+            }
+            if (snapshots.isEmpty()) {
+                continue;
+            }
+
+            Map<Long, Integer> stored = new HashMap<>();
+            for (UnreadCountView view : notificationRepository.countUnreadByUserIds(snapshots.keySet())) {
+                stored.put(view.getUserId(), view.getUnreadCount().intValue());
+            }
+
+            for (Map.Entry<Long, CounterSnapshot> entry : snapshots.entrySet()) {
+                CounterSnapshot snapshot = entry.getValue();
+                int actual = stored.getOrDefault(entry.getKey(), 0);
+                switch (snapshot.counter().replace(snapshot.version(), actual)) {
+                    case CHANGED -> corrected++;
+                    case STALE -> skipped++;
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        if (corrected > 0 || skipped > 0) {
+            logger.info("Reconciled {} unread notification counters ({} changed during the count, retried next run)",
+                    corrected, skipped);
+        }
+    }
+
+    // 적재용 빈 카운터 등록 (다른 조회가 먼저 등록했으면 null)
+    private Counter register(Long userId) {
+        if (counters.size() >= maxSize) {
+            Iterator<Long> iterator = counters.keySet().iterator();
+            while (counters.size() >= maxSize * 9 / 10 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        Counter created = new Counter();
+        return counters.putIfAbsent(userId, created) == null ? created : null;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private enum ReplaceResult {
+        UNCHANGED, CHANGED, STALE
+    }
+
+    private record CounterSnapshot(Counter counter, long version) {
+    }
+
+    /**
+     * 미읽음 수와 변경 버전 (증감/초기화마다 버전 증가, 적재 전에는 값 없음)
+     */
+    private static final class Counter {
+        private int value;
+        private long version;
+        private boolean loaded;
+
+        synchronized Integer value() {
+            return loaded ? value : null;
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        synchronized void add(int delta) {
+            value += delta;
+            version++;
+        }
+
+        synchronized void reset() {
+            value = 0;
+            version++;
+        }
+
+        synchronized ReplaceResult replace(long expectedVersion, int actual) {
+            if (version != expectedVersion) {
+                return ReplaceResult.STALE;
+            }
+            boolean changed = !loaded || value != actual;
+            value = actual;
+            loaded = true;
+            version++;
+            return changed ? ReplaceResult.CHANGED : ReplaceResult.UNCHANGED;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.hospital.service;
+
+import com.example.hospital.security.JwtUserPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이메일 기준 인증 주체 캐시 (크기 제한 + TTL)
+ * - 엔티티 대신 ID/이메일/역할만 담은 불변 주체를 보관 (분리된 엔티티의 지연 로딩 컬렉션을 다른 요청에 넘기지 않음)
+ * - 사용자 정보 수정 시 커밋 이후 무효화
+ */
+@Component
+public class UserCache {
+
+    @Value("${hospital.app.userCacheSize:10000}")
+    private int maxSize;
+
+    @Value("${hospital.app.userCacheTtlMs:300000}")
+    private long ttlMs;
+
+    private final ConcurrentHashMap<String, CachedUser> users = new ConcurrentHashMap<>();
+
+    public JwtUserPrincipal get(String email) {
+        CachedUser cached = users.get(email);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() <= System.currentTimeMillis()) {
+            users.remove(email, cached);
+            return null;
+        }
+        return cached.principal();
+    }
+
+    public void put(JwtUserPrincipal principal) {
+        long now = System.currentTimeMillis();
+        if (users.size() >= maxSize) {
+            // 만료된 항목부터 정리하고, 그래도 가득 차 있으면 일부를 비움
+            users.values().removeIf(entry -> entry.expiresAt() <= now);
+            Iterator<String> iterator = users.keySet().iterator();
+            while (users.size() >= maxSize * 9 / 10 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        users.put(principal.getEmail(), new CachedUser(principal, now + ttlMs));
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            users.remove(email);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 무효화 (트랜잭션 밖이면 즉시)
+     * - 커밋 전에 비우면 동시 요청이 아직 커밋되지 않은 이전 값을 다시 캐시함
+     */
+    public void evictAfterCommit(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(email);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(email);
+            }
+        });
+    }
+
+    private record CachedUser(JwtUserPrincipal principal, long expiresAt) {
+    }
+}
@@ -2,18 +2,23 @@ package com.example.hospital.service;
 
 import com.example.hospital.domain.User;
 import com.example.hospital.repository.UserRepository;
+import com.example.hospital.security.JwtUserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -22,4 +27,36 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return user;
     }
+
+    /**
+     * 요청 인증용 사용자 조회 (캐시 우선, 엔티티가 아닌 불변 주체 반환)
+     * - 로그인 시 비밀번호 검증은 항상 DB 값으로 하도록 loadUserByUsername과 분리
+     */
+    @Transactional(readOnly = true)
+    public JwtUserPrincipal loadCachedUserByUsername(String username) throws UsernameNotFoundException {
+        JwtUserPrincipal cached = userCache.get(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        User user = userRepository.findByEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        JwtUserPrincipal principal = new JwtUserPrincipal(user.getId(), user.getEmail(), user.getRole());
+        userCache.put(principal);
+        return principal;
+    }
+
+    /**
+     * 로그인 성공 시 BCrypt cost가 변경된 해시를 새 해시로 교체
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userDetails.getUsername()));
+
+        user.setPassword(newPassword);
+        userCache.evictAfterCommit(user.getEmail());
+        return userRepository.save(user);
+    }
 }
\ No newline at end of file
@@ -15,6 +15,9 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     /**
      * 사용자 정보 조회
      */
@@ -39,6 +42,10 @@ public class UserService {
             throw new RuntimeException("이미 사용 중인 이메일입니다!");
         }
 
+        // 캐시된 사용자 정보 무효화 (변경 전/후 이메일 모두, 커밋 후)
+        userCache.evictAfterCommit(email);
+        userCache.evictAfterCommit(updateRequest.getEmail());
+
         // User 엔티티 필드 업데이트
         updateUserFields(user, updateRequest);
 
@@ -0,0 +1,44 @@
+package com.example.hospital.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 인코딩/디코딩
+ * - 마지막 항목의 정렬 키 값들을 ':'로 이어 URL-safe Base64로 감싼 불투명 토큰
+ */
+public class CursorUtil {
+
+    private static final String SEPARATOR = ":";
+
+    private CursorUtil() {
+    }
+
+    public static String encode(Object... values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(SEPARATOR);
+            }
+            builder.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 정렬 키 값 배열로 복원 (형식이 잘못되면 IllegalArgumentException)
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.hospital.util;
+
+/**
+ * 의사 진료 시간표 슬롯 템플릿 인코딩
+ * - 하루를 5분 단위 288비트(36바이트)로 나누고, 슬롯이 시작하는 단위에 비트를 켬
+ * - 주간 템플릿은 월~일 7일치(252바이트), 예외일은 하루치(36바이트)를 그대로 저장
+ */
+public final class SlotTemplateUtil {
+
+    public static final int UNIT_MINUTES = 5;
+    public static final int UNITS_PER_DAY = 24 * 60 / UNIT_MINUTES;
+    public static final int BYTES_PER_DAY = UNITS_PER_DAY / 8;
+    public static final int DAYS_PER_WEEK = 7;
+
+    private SlotTemplateUtil() {
+    }
+
+    public static byte[] emptyWeek() {
+        return new byte[BYTES_PER_DAY * DAYS_PER_WEEK];
+    }
+
+    public static byte[] emptyDay() {
+        return new byte[BYTES_PER_DAY];
+    }
+
+    /**
+     * [startMinute, endMinute) 구간에 slotMinutes 길이 슬롯의 시작 비트를 켬 (구간을 넘는 마지막 슬롯은 제외)
+     */
+    public static void addRange(byte[] template, int day, int startMinute, int endMinute, int slotMinutes) {
+        if (slotMinutes <= 0 || slotMinutes % UNIT_MINUTES != 0) {
+            throw new IllegalArgumentException("슬롯 길이는 " + UNIT_MINUTES + "분 단위여야 합니다.");
+        }
+        if (startMinute % UNIT_MINUTES != 0 || endMinute % UNIT_MINUTES != 0) {
+            throw new IllegalArgumentException("진료 시간은 " + UNIT_MINUTES + "분 단위여야 합니다.");
+        }
+        if (startMinute < 0 || endMinute > 24 * 60 || startMinute >= endMinute) {
+            throw new IllegalArgumentException("진료 시작 시간은 종료 시간보다 빨라야 합니다.");
+        }
+
+        for (int minute = startMinute; minute + slotMinutes <= endMinute; minute += slotMinutes) {
+            int bit = day * UNITS_PER_DAY + minute / UNIT_MINUTES;
+            template[bit >>> 3] |= (byte) (1 << (bit & 7));
+        }
+    }
+
+    /**
+     * 해당 시각(자정 기준 분)에 슬롯이 시작하는지 확인
+     */
+    public static boolean isSlotStart(byte[] template, int day, int minute) {
+        if (minute < 0 || minute >= 24 * 60 || minute % UNIT_MINUTES != 0) {
+            return false;
+        }
+        int bit = day * UNITS_PER_DAY + minute / UNIT_MINUTES;
+        return (template[bit >>> 3] & (1 << (bit & 7))) != 0;
+    }
+
+    /**
+     * fromMinute 이후(포함) 첫 슬롯 시작 시각(자정 기준 분), 없으면 -1
+     * 비어 있는 바이트는 한 번에 건너뛰므로 객체 생성 없이 하루치를 순회할 수 있음
+     */
+    public static int nextSlotStart(byte[] template, int day, int fromMinute) {
+        int base = day * UNITS_PER_DAY;
+        for (int unit = (Math.max(fromMinute, 0) + UNIT_MINUTES - 1) / UNIT_MINUTES; unit < UNITS_PER_DAY; unit++) {
+            int bit = base + unit;
+            int value = template[bit >>> 3];
+            if (value == 0 && (bit & 7) == 0) {
+                unit += 7;
+                continue;
+            }
+            if ((value & (1 << (bit & 7))) != 0) {
+                return unit * UNIT_MINUTES;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.hospital.auth.kakao;
+
+import com.example.hospital.domain.User;
+import com.example.hospital.repository.UserRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 OAuth 서버로 카카오 로그인 전체 흐름 확인
+ * - 사용자 조회 5xx 재시도, 연속 장애 시 회로 차단, 같은 이메일 재로그인 시 사용자 upsert
+ * - 토큰 요청이 전송된 뒤 응답 대기 시간을 넘기면 인가 코드를 다시 보내지 않음
+ * - 콜백의 state가 로그인 시작 때 남긴 쿠키와 다르면 카카오를 호출하지 않고 거부
+ * (테스트 컨텍스트를 공유하도록 스텁 주소와 회로 차단기는 빈 필드를 바꿔 주입)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class KakaoLoginStubServerTest {
+
+    @Autowired
+    private KakaoService kakaoService;
+
+    @Autowired
+    private KakaoController kakaoController;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private HttpServer server;
+    private final AtomicInteger tokenCalls = new AtomicInteger();
+    private final AtomicInteger userCalls = new AtomicInteger();
+    private final ConcurrentLinkedDeque<Integer> tokenStatuses = new ConcurrentLinkedDeque<>();
+    private final ConcurrentLinkedDeque<Integer> userStatuses = new ConcurrentLinkedDeque<>();
+    private final AtomicLong tokenDelayMs = new AtomicLong();
+    private ExecutorService serverExecutor;
+    private String email;
+
+    private Map<String, Object> originals;
+    private KakaoCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        email = "kakao-" + System.nanoTime() + "@test.com";
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // 느린 응답 중에도 재시도 요청이 도착하면 바로 셀 수 있도록 요청마다 스레드 사용
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/oauth/token", exchange -> {
+            tokenCalls.incrementAndGet();
+            sleep(tokenDelayMs.get());
+            respond(exchange, next(tokenStatuses), "{\"access_token\":\"stub-access-token\"}");
+        });
+        server.createContext("/v2/user/me", exchange -> {
+            userCalls.incrementAndGet();
+            respond(exchange, next(userStatuses), "{\"id\":42,\"kakao_account\":{\"email\":\"" + email + "\"," +
+                    "\"is_email_verified\":true,\"profile\":{\"nickname\":\"스텁 사용자\"}}}");
+        });
+        server.start();
+
+        circuitBreaker = new KakaoCircuitBreaker();
+        ReflectionTestUtils.setField(circuitBreaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(circuitBreaker, "openDurationMs", 60_000L);
+
+        originals = Map.of(
+                "authBaseUrl", ReflectionTestUtils.getField(kakaoService, "authBaseUrl"),
+                "apiBaseUrl", ReflectionTestUtils.getField(kakaoService, "apiBaseUrl"),
+                "retryBackoffMs", ReflectionTestUtils.getField(kakaoService, "retryBackoffMs"),
+                "circuitBreaker", ReflectionTestUtils.getField(kakaoService, "circuitBreaker"),
+                "kakaoWebClient", ReflectionTestUtils.getField(kakaoService, "kakaoWebClient"));
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        ReflectionTestUtils.setField(kakaoService, "authBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(kakaoService, "apiBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(kakaoService, "retryBackoffMs", 10L);
+        ReflectionTestUtils.setField(kakaoService, "circuitBreaker", circuitBreaker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        originals.forEach((field, value) -> ReflectionTestUtils.setField(kakaoService, field, value));
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void transientUserLookupFailureIsRetriedAndTheUserIsUpserted() {
+        userStatuses.add(503);
+
+        String token = kakaoService.login("code-1").block();
+
+        assertThat(token).isNotBlank();
+        assertThat(tokenCalls).hasValue(1);
+        assertThat(userCalls).hasValue(2);
+        User user = userRepository.findByEmail(email).orElseThrow();
+        assertThat(user.getRole()).isEqualTo(User.UserRole.PATIENT);
+        assertThat(user.getName()).isEqualTo("스텁 사용자");
+        assertThat(user.getPassword()).startsWith("{kakao}");
+
+        // 같은 이메일로 다시 로그인하면 기존 사용자와 연결
+        kakaoService.login("code-2").block();
+        assertThat(userRepository.findByEmail(email).orElseThrow().getId()).isEqualTo(user.getId());
+        assertThat(userRepository.findAll()).filteredOn(u -> u.getEmail().equals(email)).hasSize(1);
+    }
+
+    @Test
+    void consecutiveServerErrorsOpenTheCircuit() {
+        for (int i = 0; i < 3; i++) {
+            String code = "code-" + i;
+            tokenStatuses.add(503);
+            assertThatThrownBy(() -> kakaoService.login(code).block())
+                    .isNotInstanceOf(KakaoUnavailableException.class);
+        }
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        int callsBeforeOpen = tokenCalls.get();
+
+        assertThatThrownBy(() -> kakaoService.login("code-open").block())
+                .isInstanceOf(KakaoUnavailableException.class);
+        assertThat(tokenCalls).hasValue(callsBeforeOpen);
+        assertThat(userCalls).hasValue(0);
+        assertThat(userRepository.findByEmail(email)).isEmpty();
+    }
+
+    @Test
+    void tokenResponseTimeoutIsNotRetried() {
+        HttpClient httpClient = HttpClient.create().responseTimeout(Duration.ofMillis(200));
+        ReflectionTestUtils.setField(kakaoService, "kakaoWebClient", WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build());
+        tokenDelayMs.set(1000);
+
+        assertThatThrownBy(() -> kakaoService.login("code-slow").block())
+                .isInstanceOf(WebClientRequestException.class);
+        // 재시도했다면 백오프(10ms) 뒤 두 번째 요청이 응답 대기 시간 안에 도착함
+        sleep(500);
+        assertThat(tokenCalls).hasValue(1);
+        assertThat(userCalls).hasValue(0);
+    }
+
+    @Test
+    void callbackRequiresTheStateIssuedToThisBrowser() {
+        ResponseEntity<Void> start = kakaoController.kakaoLogin();
+        String cookie = start.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+        assertThat(cookie).startsWith(KakaoController.STATE_COOKIE + "=").contains("HttpOnly", "SameSite=Lax");
+        String state = UriComponentsBuilder.fromUri(start.getHeaders().getLocation()).build()
+                .getQueryParams().getFirst("state");
+        assertThat(cookie).startsWith(KakaoController.STATE_COOKIE + "=" + state + ";");
+
+        assertThat(callback(state, null)).contains("error=kakao_state");
+        assertThat(callback(state, "other-state")).contains("error=kakao_state");
+        assertThat(callback(null, state)).contains("error=kakao_state");
+        assertThat(tokenCalls).hasValue(0);
+
+        assertThat(callback(state, state)).contains("#token=");
+        assertThat(tokenCalls).hasValue(1);
+    }
+
+    private String callback(String state, String cookieState) {
+        ResponseEntity<Void> response = kakaoController.kakaoCallback("code", null, state, cookieState).block();
+        // state 쿠키는 결과와 관계없이 삭제
+        assertThat(response.getHeaders().getFirst(HttpHeaders.SET_COOKIE)).contains("Max-Age=0");
+        return response.getHeaders().getLocation().toString();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int next(ConcurrentLinkedDeque<Integer> statuses) {
+        Integer status = statuses.poll();
+        return status != null ? status : 200;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = status == 200 ? json.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.hospital.config;
+
+import com.example.hospital.domain.User;
+import com.example.hospital.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청별 SQL 예산 검사 확인 (테스트 프로필은 fail-on-violation)
+ * - 사용자를 한 명씩 조회하는 N+1 엔드포인트는 SqlBudgetExceededException으로 요청이 실패
+ * - 한 번에 조회하는 엔드포인트는 예산 안에서 통과
+ * (테스트 컨텍스트를 공유하도록 웹 환경 없이 컨텍스트의 필터 빈을 standalone MockMvc에 연결)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class SqlBudgetFilterTest {
+
+    private static final int USERS = 6;
+
+    @Autowired
+    private SqlBudgetFilter sqlBudgetFilter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private MockMvc mockMvc;
+    private String userIds;
+
+    @BeforeEach
+    void setUp() {
+        List<String> ids = new ArrayList<>();
+        long suffix = System.nanoTime();
+        for (int i = 0; i < USERS; i++) {
+            ids.add(userRepository.save(User.builder()
+                    .email("sql-budget-" + suffix + "-" + i + "@test.com")
+                    .password("password")
+                    .name("예산" + i)
+                    .role(User.UserRole.PATIENT)
+                    .build()).getId().toString());
+        }
+        userIds = String.join(",", ids);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserNameController(userRepository))
+                .addFilters(sqlBudgetFilter)
+                .build();
+    }
+
+    @Test
+    void repeatedLookupPerRowFailsTheRequest() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/test/user-names/one-by-one").param("ids", userIds)))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("GET /test/user-names/one-by-one")
+                .hasMessageContaining(USERS + "x [repeated]");
+    }
+
+    @Test
+    void batchedLookupStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/test/user-names/batched").param("ids", userIds))
+                .andExpect(status().isOk());
+    }
+
+    @RestController
+    static class UserNameController {
+        private final UserRepository userRepository;
+
+        UserNameController(UserRepository userRepository) {
+            this.userRepository = userRepository;
+        }
+
+        @GetMapping("/test/user-names/one-by-one")
+        public List<String> oneByOne(@RequestParam List<Long> ids) {
+            List<String> names = new ArrayList<>();
+            for (Long id : ids) {
+                userRepository.findById(id).ifPresent(user -> names.add(user.getName()));
+            }
+            return names;
+        }
+
+        @GetMapping("/test/user-names/batched")
+        public List<String> batched(@RequestParam List<Long> ids) {
+            return userRepository.findAllById(ids).stream().map(User::getName).toList();
+        }
+    }
+}
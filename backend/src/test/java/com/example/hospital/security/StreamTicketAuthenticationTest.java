@@ -0,0 +1,83 @@
+package com.example.hospital.security;
+
+import com.example.hospital.domain.User;
+import com.example.hospital.domain.User.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 스트림 티켓 인증 확인
+ * - 티켓은 알림 스트림 경로에서 한 번만 통하고, 액세스 토큰은 쿼리 파라미터로 받지 않으며, 티켓은 Bearer 토큰으로 쓸 수 없음
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class StreamTicketAuthenticationTest {
+
+    private static final String STREAM_PATH = "/api/notifications/stream";
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private final JwtUserPrincipal user = new JwtUserPrincipal(7L, "stream-ticket@test.com", UserRole.PATIENT);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void ticketAuthenticatesTheStreamOnlyOnce() throws Exception {
+        String ticket = jwtUtils.generateStreamTicket(user);
+
+        Authentication first = authenticate(STREAM_PATH, "ticket", ticket, null);
+        assertThat(first).isNotNull();
+        assertThat(((AuthenticatedUser) first.getPrincipal()).getId()).isEqualTo(7L);
+
+        assertThat(authenticate(STREAM_PATH, "ticket", ticket, null)).isNull();
+    }
+
+    @Test
+    void ticketIsRejectedOutsideTheStreamAndAsBearerToken() throws Exception {
+        assertThat(authenticate("/api/notifications", "ticket", jwtUtils.generateStreamTicket(user), null)).isNull();
+        assertThat(authenticate("/api/notifications", null, null, jwtUtils.generateStreamTicket(user))).isNull();
+    }
+
+    @Test
+    void accessTokenIsNotAcceptedInTheQueryString() throws Exception {
+        String accessToken = jwtUtils.generateJwtToken(User.builder()
+                .id(7L).email(user.getEmail()).role(UserRole.PATIENT).build());
+
+        assertThat(authenticate(STREAM_PATH, "access_token", accessToken, null)).isNull();
+        assertThat(authenticate(STREAM_PATH, "ticket", accessToken, null)).isNull();
+        assertThat(authenticate(STREAM_PATH, null, null, accessToken)).isNotNull();
+    }
+
+    private Authentication authenticate(String path, String parameter, String value, String bearer) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (parameter != null) {
+            request.setParameter(parameter, value);
+        }
+        if (bearer != null) {
+            request.addHeader("Authorization", "Bearer " + bearer);
+        }
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> authentication.set(SecurityContextHolder.getContext().getAuthentication()));
+        return authentication.get();
+    }
+}
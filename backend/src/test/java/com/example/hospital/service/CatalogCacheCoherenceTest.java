@@ -0,0 +1,238 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Department;
+import com.example.hospital.domain.Hospital;
+import com.example.hospital.domain.HospitalDepartment;
+import com.example.hospital.dto.HospitalDto.HospitalResponse;
+import com.example.hospital.dto.HospitalDto.NearbyRequest;
+import com.example.hospital.dto.HospitalDto.SearchRequest;
+import com.example.hospital.dto.ScheduleDto.OverrideRequest;
+import com.example.hospital.dto.ScheduleDto.OverrideResponse;
+import com.example.hospital.dto.ScheduleDto.ScheduleResponse;
+import com.example.hospital.dto.ScheduleDto.TimeRange;
+import com.example.hospital.dto.ScheduleDto.WeeklyScheduleRequest;
+import com.example.hospital.dto.ScheduleDto.WorkingHours;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 참조 데이터 2차 캐시 일관성 확인
+ * - 읽기 스레드가 캐시를 계속 채우는 중에 JPA/서비스로 수정하고, 커밋이 끝난 세대보다 이전 값이 읽히면 stale로 기록
+ * - 진료 시간표는 DoctorScheduleService로, 병원-진료과 연결은 (수정 서비스가 없으므로) 엔티티 저장으로 수정
+ * - DB를 직접 수정한 병원은 캐시 비우기 후 검색/위치 검색 색인에도 보이는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class CatalogCacheCoherenceTest {
+
+    private static final int GENERATIONS = 20;
+    private static final int READERS = 4;
+
+    @Autowired
+    private DoctorScheduleService doctorScheduleService;
+
+    @Autowired
+    private CatalogCacheService catalogCacheService;
+
+    @Autowired
+    private HospitalService hospitalService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void scheduleEditsAreVisibleToConcurrentReaders() throws Exception {
+        Long doctorId = seedDoctor("캐시 일관성 시간표 병원");
+        LocalDate overrideDate = LocalDate.now().plusDays(10);
+        doctorScheduleService.saveSchedule(doctorId, weeklySchedule(0));
+        doctorScheduleService.saveOverride(doctorId, override(overrideDate, 0));
+
+        List<String> stale = runWithReaders(generation -> {
+            doctorScheduleService.saveSchedule(doctorId, weeklySchedule(generation));
+            doctorScheduleService.saveOverride(doctorId, override(overrideDate, generation));
+        }, () -> {
+            ScheduleResponse schedule = doctorScheduleService.getSchedule(doctorId);
+            return Math.min(weeklyGeneration(schedule), overrideGeneration(schedule, overrideDate));
+        });
+
+        assertThat(stale).isEmpty();
+        ScheduleResponse last = doctorScheduleService.getSchedule(doctorId);
+        assertThat(weeklyGeneration(last)).isEqualTo(GENERATIONS);
+        assertThat(overrideGeneration(last, overrideDate)).isEqualTo(GENERATIONS);
+    }
+
+    @Test
+    void departmentLinksAreVisibleThroughTheCachedHospitalCollection() throws Exception {
+        Long hospitalId = seedHospital("캐시 일관성 진료과 병원");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<String> stale = runWithReaders(generation -> transaction.executeWithoutResult(status -> {
+            Department department = Department.builder().name("캐시 일관성 진료과 " + hospitalId + "-" + generation)
+                    .build();
+            entityManager.persist(department);
+            entityManager.persist(HospitalDepartment.builder()
+                    .hospital(entityManager.getReference(Hospital.class, hospitalId))
+                    .department(department)
+                    .build());
+        }), () -> readOnly.execute(status ->
+                entityManager.find(Hospital.class, hospitalId).getHospitalDepartments().size()));
+
+        assertThat(stale).isEmpty();
+        Integer departments = readOnly.execute(status ->
+                entityManager.find(Hospital.class, hospitalId).getHospitalDepartments().size());
+        assertThat(departments).isEqualTo(GENERATIONS);
+    }
+
+    @Test
+    void hospitalsEditedBySqlAreSearchableAfterEviction() {
+        Long renamedId = seedHospital("캐시 비우기 전 병원");
+        Long movedId = seedHospital("한곳 비우기 전 병원");
+
+        jdbcTemplate.update("UPDATE hospitals SET name = ? WHERE id = ?", "전체비우기 새이름 병원", renamedId);
+        catalogCacheService.evictAll();
+        assertThat(searchIds("전체비우기 새이름")).containsExactly(renamedId);
+
+        jdbcTemplate.update("UPDATE hospitals SET name = ?, latitude = ?, longitude = ? WHERE id = ?",
+                "한곳비우기 새이름 병원", 37.0042, 127.9931, movedId);
+        catalogCacheService.evictHospital(movedId);
+        assertThat(searchIds("한곳비우기 새이름")).containsExactly(movedId);
+        assertThat(searchIds("한곳 비우기 전")).isEmpty();
+        assertThat(hospitalService.findNearby(NearbyRequest.builder()
+                .latitude(37.0042).longitude(127.9931).radiusKm(0.5).build())
+                .getHospitals()).extracting(HospitalResponse::getId).containsExactly(movedId);
+    }
+
+    /**
+     * 세대 1..GENERATIONS를 차례로 커밋하는 동안 읽기 스레드가 읽은 세대가 읽기 시작 전 커밋된 세대보다 작으면 기록
+     */
+    private List<String> runWithReaders(GenerationWriter writer, IntSupplier reader) throws Exception {
+        AtomicInteger committed = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<String> stale = new ConcurrentLinkedQueue<>();
+        AtomicInteger reads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                readers.add(executor.submit(() -> {
+                    while (running.get()) {
+                        int floor = committed.get();
+                        int seen = reader.getAsInt();
+                        reads.incrementAndGet();
+                        if (seen < floor) {
+                            stale.add("read generation " + seen + " after " + floor + " was committed");
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            for (int generation = 1; generation <= GENERATIONS; generation++) {
+                writer.write(generation);
+                committed.set(generation);
+                // 커밋 직후 같은 스레드에서도 새 값이 보여야 함
+                int seen = reader.getAsInt();
+                if (seen < generation) {
+                    stale.add("writer read generation " + seen + " right after committing " + generation);
+                }
+            }
+
+            running.set(false);
+            for (Future<?> future : readers) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+        assertThat(reads.get()).isPositive();
+        return new ArrayList<>(stale);
+    }
+
+    // 평일 진료 종료 시각에 세대를 표시 (09:00 + 세대 x 30분)
+    private WeeklyScheduleRequest weeklySchedule(int generation) {
+        String end = LocalTime.of(9, 30).plusMinutes(30L * generation).toString();
+        List<WorkingHours> hours = new ArrayList<>();
+        for (String day : List.of("MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY")) {
+            hours.add(WorkingHours.builder().dayOfWeek(day).start("09:00").end(end).build());
+        }
+        return WeeklyScheduleRequest.builder().slotMinutes(30).hours(hours).build();
+    }
+
+    private int weeklyGeneration(ScheduleResponse schedule) {
+        LocalTime end = LocalTime.parse(schedule.getHours().get(0).getEnd());
+        return (end.toSecondOfDay() / 60 - (9 * 60 + 30)) / 30;
+    }
+
+    private List<Long> searchIds(String name) {
+        return hospitalService.searchHospitals(SearchRequest.builder().name(name).build()).getHospitals().stream()
+                .map(HospitalResponse::getId)
+                .toList();
+    }
+
+    private OverrideRequest override(LocalDate date, int generation) {
+        return OverrideRequest.builder()
+                .date(date.toString())
+                .hours(List.of(TimeRange.builder().start("10:00").end("12:00").build()))
+                .reason("gen-" + generation)
+                .build();
+    }
+
+    private int overrideGeneration(ScheduleResponse schedule, LocalDate date) {
+        for (OverrideResponse override : schedule.getOverrides()) {
+            if (override.getDate().equals(date.toString())) {
+                return Integer.parseInt(override.getReason().substring("gen-".length()));
+            }
+        }
+        return -1;
+    }
+
+    private Long seedHospital(String name) {
+        jdbcTemplate.update("INSERT INTO hospitals (name, address, phone) VALUES (?, ?, ?)",
+                name, "서울특별시 중구", "02-0000-0000");
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM hospitals", Long.class);
+    }
+
+    private Long seedDoctor(String hospitalName) {
+        Long hospitalId = seedHospital(hospitalName);
+        jdbcTemplate.update("INSERT INTO departments (name) VALUES (?)", hospitalName + " 내과");
+        Long departmentId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM departments", Long.class);
+        jdbcTemplate.update("INSERT INTO doctors (hospital_id, department_id, name) VALUES (?, ?, ?)",
+                hospitalId, departmentId, "일관성 의사");
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM doctors", Long.class);
+    }
+
+    @FunctionalInterface
+    private interface GenerationWriter {
+        void write(int generation);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.hospital.service;
+
+import com.example.hospital.dto.HospitalDto.HospitalResponse;
+import com.example.hospital.dto.HospitalDto.NearbyRequest;
+import com.example.hospital.dto.HospitalDto.SearchRequest;
+import com.example.hospital.repository.HospitalRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카탈로그 버전을 인스턴스끼리 DB로 공유하는지, 다른 인스턴스의 변경을 확인하면 2차 캐시를 비우고 검색/좌표 색인을 다시 구성하는지, gzip 응답 여부가 Accept-Encoding q 값을 따르는지 확인
+ * (두 번째 인스턴스는 같은 DB를 쓰는 CatalogVersion 빈을 하나 더 만들어 흉내냄)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class CatalogVersionTest {
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalService hospitalService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void bumpOnAnotherInstanceChangesThisInstancesEtag() {
+        CatalogVersion otherInstance = beanFactory.createBean(CatalogVersion.class);
+        ReflectionTestUtils.setField(catalogVersion, "refreshMs", 0L);
+        try {
+            long before = catalogVersion.current();
+            String etag = catalogVersion.etag(before, "list", false);
+            assertThat(otherInstance.etag(otherInstance.current(), "list", false)).isEqualTo(etag);
+
+            otherInstance.bump();
+
+            long after = catalogVersion.current();
+            assertThat(after).isGreaterThan(before);
+            assertThat(catalogVersion.matches(etag, catalogVersion.etag(after, "list", false))).isFalse();
+        } finally {
+            ReflectionTestUtils.setField(catalogVersion, "refreshMs", 1000L);
+        }
+    }
+
+    @Test
+    void bumpOnAnotherInstanceEvictsThisInstancesSecondLevelCache() {
+        // 기동 시 버전 행을 만드는 네이티브 쿼리가 2차 캐시를 모두 비우므로 병원을 캐시에 올리기 전에 생성
+        CatalogVersion otherInstance = beanFactory.createBean(CatalogVersion.class);
+        jdbcTemplate.update("INSERT INTO hospitals (name, address, phone) VALUES (?, ?, ?)",
+                "버전 공유 병원", "서울특별시 중구", "02-0000-0000");
+        Long hospitalId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM hospitals", Long.class);
+        assertThat(hospitalRepository.findById(hospitalId).orElseThrow().getName()).isEqualTo("버전 공유 병원");
+
+        // 다른 인스턴스가 수정하고 버전을 올림 (이 인스턴스의 2차 캐시에는 이전 이름이 남아 있음)
+        jdbcTemplate.update("UPDATE hospitals SET name = ? WHERE id = ?", "버전 공유 병원 본원", hospitalId);
+        otherInstance.bump();
+
+        ReflectionTestUtils.setField(catalogVersion, "refreshMs", 0L);
+        try {
+            catalogVersion.current();
+        } finally {
+            ReflectionTestUtils.setField(catalogVersion, "refreshMs", 1000L);
+        }
+        assertThat(hospitalRepository.findById(hospitalId).orElseThrow().getName()).isEqualTo("버전 공유 병원 본원");
+    }
+
+    @Test
+    void hospitalAddedOnAnotherInstanceIsFoundByNameSearch() {
+        CatalogVersion otherInstance = beanFactory.createBean(CatalogVersion.class);
+        jdbcTemplate.update("INSERT INTO hospitals (name, address, phone) VALUES (?, ?, ?)",
+                "다른인스턴스 병원", "서울특별시 종로구", "02-0000-0000");
+        Long hospitalId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM hospitals", Long.class);
+        otherInstance.bump();
+
+        ReflectionTestUtils.setField(catalogVersion, "refreshMs", 0L);
+        try {
+            assertThat(hospitalService.searchHospitals(SearchRequest.builder().name("다른인스턴스").build())
+                    .getHospitals()).extracting(HospitalResponse::getId).containsExactly(hospitalId);
+        } finally {
+            ReflectionTestUtils.setField(catalogVersion, "refreshMs", 1000L);
+        }
+    }
+
+    @Test
+    void hospitalMovedOnAnotherInstanceIsFoundNearby() {
+        CatalogVersion otherInstance = beanFactory.createBean(CatalogVersion.class);
+        jdbcTemplate.update("INSERT INTO hospitals (name, address, phone) VALUES (?, ?, ?)",
+                "좌표 이전 병원", "강원특별자치도 인제군", "033-000-0000");
+        Long hospitalId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM hospitals", Long.class);
+        jdbcTemplate.update("UPDATE hospitals SET latitude = ?, longitude = ? WHERE id = ?", 38.0691, 128.1705,
+                hospitalId);
+        otherInstance.bump();
+
+        ReflectionTestUtils.setField(catalogVersion, "refreshMs", 0L);
+        try {
+            assertThat(hospitalService.findNearby(NearbyRequest.builder()
+                    .latitude(38.0691).longitude(128.1705).radiusKm(0.5).build())
+                    .getHospitals()).extracting(HospitalResponse::getId).containsExactly(hospitalId);
+        } finally {
+            ReflectionTestUtils.setField(catalogVersion, "refreshMs", 1000L);
+        }
+    }
+
+    @Test
+    void gzipIsChosenOnlyWithPositiveQuality() {
+        assertThat(CatalogResponseCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(CatalogResponseCache.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(CatalogResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(CatalogResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(CatalogResponseCache.acceptsGzip("gzip; q=0.000, identity")).isFalse();
+        assertThat(CatalogResponseCache.acceptsGzip("*;q=1, gzip;q=0")).isFalse();
+        assertThat(CatalogResponseCache.acceptsGzip("br, deflate")).isFalse();
+        assertThat(CatalogResponseCache.acceptsGzip("nogzip")).isFalse();
+        assertThat(CatalogResponseCache.acceptsGzip(null)).isFalse();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.hospital.service;
+
+import com.example.hospital.dto.HospitalDto.HospitalListResponse;
+import com.example.hospital.dto.HospitalDto.SearchRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 병원 목록/검색 응답의 SQL 수가 병원 수와 무관하게 고정인지 확인 (병원 1,000개, 병원당 진료과 3개)
+ * - 페이지 조회 1 + 진료과 일괄 조회 1 + 평점 집계 일괄 조회 1
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class HospitalListQueryCountTest {
+
+    private static final int HOSPITALS = 1000;
+    private static final int DEPARTMENTS_PER_HOSPITAL = 3;
+    private static final int PAGE_SIZE = 200;
+
+    @Autowired
+    private HospitalService hospitalService;
+
+    @Autowired
+    private HospitalSearchIndex hospitalSearchIndex;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private RatingAggregateService ratingAggregateService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private static boolean seeded;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        if (!seeded) {
+            seed();
+            ratingAggregateService.createMissingSummaries();
+            hospitalSearchIndex.rebuild();
+            seeded = true;
+        }
+    }
+
+    @Test
+    void listPageUsesThreeStatements() {
+        HospitalListResponse response = count(3, () -> hospitalService.getAllHospitals(null, PAGE_SIZE, false, null));
+
+        assertThat(response.getHospitals()).hasSize(PAGE_SIZE);
+        assertThat(response.getHospitals())
+                .filteredOn(hospital -> hospital.getName().startsWith("집계 병원"))
+                .allSatisfy(hospital -> assertThat(hospital.getDepartments()).hasSize(DEPARTMENTS_PER_HOSPITAL));
+    }
+
+    @Test
+    void walkingTheWholeCatalogCostsThreeStatementsPerPage() {
+        String cursor = null;
+        int pages = 0;
+        List<Long> ids = new ArrayList<>();
+        do {
+            String current = cursor;
+            HospitalListResponse response = count(3,
+                    () -> hospitalService.getAllHospitals(current, PAGE_SIZE, false, null));
+            response.getHospitals().forEach(hospital -> ids.add(hospital.getId()));
+            cursor = response.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(ids).doesNotHaveDuplicates().hasSizeGreaterThanOrEqualTo(HOSPITALS);
+        assertThat(pages).isGreaterThanOrEqualTo(HOSPITALS / PAGE_SIZE);
+    }
+
+    @Test
+    void countAddsOneStatement() {
+        count(4, () -> hospitalService.getAllHospitals(null, PAGE_SIZE, true, null));
+    }
+
+    @Test
+    void departmentSearchReturnsEachHospitalOnceInThreeStatements() {
+        HospitalListResponse response = count(3, () -> hospitalService.searchHospitals(SearchRequest.builder()
+                .departmentName("집계 내과").size(PAGE_SIZE).build()));
+
+        assertThat(response.getHospitals()).hasSize(PAGE_SIZE);
+        assertThat(response.getHospitals().stream().map(hospital -> hospital.getId())).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void indexedNameSearchWithDepartmentUsesFourStatements() {
+        // 진료과 병원 ID 조회 1 + ID로 병원 조회 1 + 진료과 일괄 조회 1 + 평점 집계 1
+        HospitalListResponse response = count(4, () -> hospitalService.searchHospitals(SearchRequest.builder()
+                .name("집계").departmentName("집계 외과").size(PAGE_SIZE).build()));
+
+        assertThat(response.getHospitals()).isNotEmpty();
+    }
+
+    @Test
+    void ratingSortUsesThreeStatements() {
+        count(3, () -> hospitalService.searchHospitals(SearchRequest.builder()
+                .sort("rating").size(PAGE_SIZE).build()));
+    }
+
+    // 측정 중에는 카탈로그 버전을 다시 읽지 않고, 앞선 테스트의 버전 변경에 따른 색인 재구성은 미리 끝냄
+    private <T> T count(long expected, Supplier<T> call) {
+        hospitalSearchIndex.isReady();
+        ReflectionTestUtils.setField(catalogVersion, "refreshMs", Long.MAX_VALUE);
+        try {
+            statistics.clear();
+            T result = call.get();
+            assertThat(statistics.getPrepareStatementCount()).as("SQL statements").isEqualTo(expected);
+            return result;
+        } finally {
+            ReflectionTestUtils.setField(catalogVersion, "refreshMs", 1000L);
+        }
+    }
+
+    private void seed() {
+        String[] departments = {"집계 내과", "집계 외과", "집계 안과", "집계 치과"};
+        List<Long> departmentIds = new ArrayList<>();
+        for (String department : departments) {
+            jdbcTemplate.update("INSERT INTO departments (name) VALUES (?)", department);
+            departmentIds.add(jdbcTemplate.queryForObject("SELECT MAX(id) FROM departments", Long.class));
+        }
+
+        for (int i = 0; i < HOSPITALS; i++) {
+            jdbcTemplate.update("INSERT INTO hospitals (name, address, phone) VALUES (?, ?, ?)",
+                    "집계 병원 " + i, "서울특별시 강남구 " + i + "번길", "02-0000-" + (1000 + i));
+            Long hospitalId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM hospitals", Long.class);
+            for (int d = 0; d < DEPARTMENTS_PER_HOSPITAL; d++) {
+                jdbcTemplate.update("INSERT INTO hospital_departments (hospital_id, department_id) VALUES (?, ?)",
+                        hospitalId, departmentIds.get((i + d) % departmentIds.size()));
+            }
+        }
+    }
+}
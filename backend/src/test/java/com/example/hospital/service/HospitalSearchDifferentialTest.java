@@ -0,0 +1,156 @@
+package com.example.hospital.service;
+
+import com.example.hospital.dto.HospitalDto.HospitalListResponse;
+import com.example.hospital.dto.HospitalDto.HospitalResponse;
+import com.example.hospital.dto.HospitalDto.SearchRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * n-gram 색인 검색과 DB LIKE 검색(색인 비활성)의 결과 비교
+ * - 무작위 병원명/주소 부분 문자열, 대소문자 변형, LIKE 와일드카드 문자, 흔한 gram으로 조건 조합별 전체 페이지와 건수 비교
+ * - 테스트 DB(H2)는 대소문자만 무시하므로 악센트/전각 문자 접기는 HospitalSearchIndexTest에서 따로 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class HospitalSearchDifferentialTest {
+
+    private static final String[] REGIONS = {
+            "서울특별시 강남구", "서울특별시 마포구", "부산광역시 해운대구", "대구광역시 수성구", "경기도 성남시 분당구"
+    };
+    private static final String[] WORDS = {
+            "연합병원", "내과의원", "365의원", "Seoul Medical", "GOOD doctor", "튼튼 Clinic", "100%치과", "a_b 의원"
+    };
+    private static final String[] DEPARTMENTS = {"차분 내과", "차분 외과", "차분 안과"};
+    private static final int HOSPITALS = 400;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private HospitalService hospitalService;
+
+    @Autowired
+    private HospitalSearchIndex hospitalSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void indexMatchesDatabaseLikeForEveryFilterCombination() {
+        Random random = new Random(7);
+        List<String[]> seeded = seed(random);
+        HospitalSearchIndex index = AopTestUtils.getTargetObject(hospitalSearchIndex);
+        index.rebuild();
+
+        List<String> queries = new ArrayList<>(List.of("병원", "의원", "%", "_", "a_b", "100%", "SEOUL", "medical",
+                "Doctor", "구", "강남", "없는병원"));
+        for (int i = 0; i < 60; i++) {
+            String[] hospital = seeded.get(random.nextInt(seeded.size()));
+            queries.add(randomCase(substring(hospital[random.nextInt(2)], random), random));
+        }
+
+        int compared = 0;
+        for (String query : queries) {
+            String other = queries.get(random.nextInt(queries.size()));
+            String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+            compared += compare(index, SearchRequest.builder().name(query).build());
+            compared += compare(index, SearchRequest.builder().address(query).build());
+            compared += compare(index, SearchRequest.builder().name(query).address(other).build());
+            compared += compare(index, SearchRequest.builder().name(query).departmentName(department).build());
+            compared += compare(index, SearchRequest.builder().address(query).departmentName(department).build());
+        }
+
+        assertThat(compared).isPositive();
+    }
+
+    private int compare(HospitalSearchIndex index, SearchRequest request) {
+        ReflectionTestUtils.setField(index, "enabled", true);
+        Result indexed = collect(request);
+        ReflectionTestUtils.setField(index, "enabled", false);
+        Result stored = collect(request);
+        ReflectionTestUtils.setField(index, "enabled", true);
+
+        assertThat(indexed.ids).as("ids for %s", request).isEqualTo(stored.ids);
+        assertThat(indexed.matchedCount).as("count for %s", request).isEqualTo(stored.matchedCount);
+        return stored.ids.size();
+    }
+
+    // 커서를 따라 모든 페이지를 모으고 첫 페이지의 전체 건수를 함께 반환
+    private Result collect(SearchRequest request) {
+        Result result = new Result();
+        String cursor = null;
+        boolean first = true;
+        do {
+            HospitalListResponse page = hospitalService.searchHospitals(SearchRequest.builder()
+                    .name(request.getName())
+                    .address(request.getAddress())
+                    .departmentName(request.getDepartmentName())
+                    .cursor(cursor)
+                    .size(PAGE_SIZE)
+                    .includeCount(first)
+                    .build());
+            if (first) {
+                result.matchedCount = page.getMatchedCount();
+                first = false;
+            }
+            for (HospitalResponse hospital : page.getHospitals()) {
+                result.ids.add(hospital.getId());
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return result;
+    }
+
+    private List<String[]> seed(Random random) {
+        for (String department : DEPARTMENTS) {
+            jdbcTemplate.update("INSERT INTO departments (name) VALUES (?)", department);
+        }
+        List<Long> departmentIds = jdbcTemplate.queryForList(
+                "SELECT id FROM departments WHERE name LIKE '차분 %' ORDER BY id", Long.class);
+
+        List<String[]> seeded = new ArrayList<>();
+        for (int i = 0; i < HOSPITALS; i++) {
+            String region = REGIONS[random.nextInt(REGIONS.length)];
+            String name = region.substring(region.lastIndexOf(' ') + 1) + " " +
+                    WORDS[random.nextInt(WORDS.length)] + " " + i;
+            String address = region + " " + (i % 50 + 1) + "번길";
+            jdbcTemplate.update("INSERT INTO hospitals (name, address, phone) VALUES (?, ?, ?)", name, address,
+                    "02-1234-" + (1000 + i));
+            Long hospitalId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM hospitals", Long.class);
+            jdbcTemplate.update("INSERT INTO hospital_departments (hospital_id, department_id) VALUES (?, ?)",
+                    hospitalId, departmentIds.get(random.nextInt(departmentIds.size())));
+            seeded.add(new String[]{name, address});
+        }
+        return seeded;
+    }
+
+    private String substring(String value, Random random) {
+        int[] codePoints = value.codePoints().toArray();
+        int length = 1 + random.nextInt(Math.min(4, codePoints.length));
+        int start = random.nextInt(codePoints.length - length + 1);
+        String result = new String(codePoints, start, length);
+        return result.isBlank() ? new String(codePoints, 0, 1) : result;
+    }
+
+    private String randomCase(String value, Random random) {
+        StringBuilder builder = new StringBuilder();
+        value.codePoints().forEach(cp -> builder.appendCodePoint(random.nextBoolean()
+                ? Character.toUpperCase(cp) : Character.toLowerCase(cp)));
+        return builder.toString();
+    }
+
+    private static final class Result {
+        private final List<Long> ids = new ArrayList<>();
+        private Long matchedCount;
+    }
+}
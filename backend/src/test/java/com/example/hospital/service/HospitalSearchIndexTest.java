@@ -0,0 +1,118 @@
+package com.example.hospital.service;
+
+import com.example.hospital.event.ExternalCatalogChangeEvent;
+import com.example.hospital.repository.HospitalRepository;
+import com.example.hospital.repository.HospitalRepository.HospitalTextView;
+import com.example.hospital.service.HospitalSearchIndex.SearchPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HospitalSearchIndexTest {
+
+    @Test
+    void foldsCaseAccentsAndWidthLikeMysqlCollation() {
+        HospitalSearchIndex index = indexOf(List.of(
+                new Text(1L, "Café Clinic", "서울특별시 강남구"),
+                new Text(2L, "ＡＢＣ 의원", "서울특별시 마포구"),
+                new Text(3L, "Naïve 병원", "부산광역시 해운대구")));
+
+        assertThat(ids(index.search("cafe", null, null, 0L, 10, false))).containsExactly(1L);
+        assertThat(ids(index.search("CAFÉ", null, null, 0L, 10, false))).containsExactly(1L);
+        assertThat(ids(index.search("abc", null, null, 0L, 10, false))).containsExactly(2L);
+        assertThat(ids(index.search("ａｂｃ", null, null, 0L, 10, false))).containsExactly(2L);
+        assertThat(ids(index.search("naive", null, null, 0L, 10, false))).containsExactly(3L);
+        assertThat(ids(index.search("병", null, null, 0L, 10, false))).containsExactly(3L);
+        assertThat(ids(index.search(null, "강남", null, 0L, 10, false))).containsExactly(1L);
+    }
+
+    @Test
+    void commonGramPagesInIdOrderWithoutCollectingEveryMatch() {
+        List<Text> texts = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            texts.add(new Text(id, "연합병원 " + id, id % 2 == 0 ? "서울특별시 강남구" : "부산광역시 해운대구"));
+        }
+        HospitalSearchIndex index = indexOf(texts);
+
+        SearchPage first = index.search("병원", null, null, 0L, 3, false);
+        assertThat(first.ids()).containsExactly(1L, 2L, 3L);
+        assertThat(first.matchedCount()).isNull();
+
+        SearchPage next = index.search("병원", "강남", null, 3L, 3, false);
+        assertThat(next.ids()).containsExactly(4L, 6L, 8L);
+
+        SearchPage counted = index.search("병원", "강남", null, 3L, 3, true);
+        assertThat(counted.ids()).containsExactly(4L, 6L, 8L);
+        assertThat(counted.matchedCount()).isEqualTo(500L);
+
+        SearchPage within = index.search("병원", null, Set.of(10L, 20L, 999L), 10L, 5, false);
+        assertThat(within.ids()).containsExactly(20L, 999L);
+    }
+
+    @Test
+    void unknownGramMatchesNothing() {
+        HospitalSearchIndex index = indexOf(List.of(new Text(1L, "연합병원", "서울특별시 강남구")));
+
+        SearchPage page = index.search("치과", null, null, 0L, 10, true);
+        assertThat(page.ids()).isEmpty();
+        assertThat(page.matchedCount()).isZero();
+    }
+
+    @Test
+    void changeSeenThroughTheCatalogVersionRebuildsBeforeTheNextSearch() {
+        HospitalSearchIndex index = indexOf(List.of(new Text(1L, "연합병원", "서울특별시 강남구")));
+        HospitalRepository repository = (HospitalRepository) ReflectionTestUtils.getField(index, "hospitalRepository");
+        when(repository.findAllTextViews()).thenReturn(new ArrayList<>(List.of(
+                new Text(1L, "연합의원", "서울특별시 강남구"),
+                new Text(2L, "중앙병원", "부산광역시 해운대구"))));
+
+        // 다른 인스턴스의 변경은 이벤트로 오지 않으므로 버전이 바뀌기 전까지는 기존 색인 사용
+        assertThat(index.isReady()).isTrue();
+        assertThat(ids(index.search("병원", null, null, 0L, 10, false))).containsExactly(1L);
+
+        index.onExternalCatalogChange(new ExternalCatalogChangeEvent(7L));
+        assertThat(index.isReady()).isTrue();
+        assertThat(ids(index.search("병원", null, null, 0L, 10, false))).containsExactly(2L);
+        assertThat(ids(index.search("의원", null, null, 0L, 10, false))).containsExactly(1L);
+    }
+
+    private HospitalSearchIndex indexOf(List<? extends HospitalTextView> texts) {
+        HospitalRepository repository = mock(HospitalRepository.class);
+        when(repository.findAllTextViews()).thenReturn(new ArrayList<>(texts));
+
+        HospitalSearchIndex index = new HospitalSearchIndex();
+        ReflectionTestUtils.setField(index, "hospitalRepository", repository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.rebuild();
+        return index;
+    }
+
+    private List<Long> ids(SearchPage page) {
+        return page.ids();
+    }
+
+    private record Text(Long id, String name, String address) implements HospitalTextView {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getAddress() {
+            return address;
+        }
+    }
+}
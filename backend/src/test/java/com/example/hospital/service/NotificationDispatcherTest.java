@@ -0,0 +1,186 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Department;
+import com.example.hospital.domain.Hospital;
+import com.example.hospital.domain.User;
+import com.example.hospital.dto.NotificationDto.NotificationEvent;
+import com.example.hospital.dto.ReservationDto.ReservationRequest;
+import com.example.hospital.repository.DepartmentRepository;
+import com.example.hospital.repository.HospitalRepository;
+import com.example.hospital.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 예약 변경이 아웃박스를 거쳐 알림으로 정확히 한 번 저장되는지 확인 (H2에서는 잠금 구문이 FOR UPDATE로 바뀜)
+ * - 커밋 후 깨운 발송 작업과 테스트가 직접 부르는 배치가 겹쳐도 같은 행을 두 번 발송하지 않아야 함
+ * - 알림 저장이 실패한 배치는 롤백되어 아웃박스 행이 미발송으로 남고, 다음 배치에서 발송됨
+ * - 다른 인스턴스가 발송한 알림도 이 인스턴스에 연결된 사용자에게 한 번만 전달됨
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class NotificationDispatcherTest {
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long hospitalId;
+    private Long departmentId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        hospitalId = hospitalRepository.save(Hospital.builder()
+                .name("알림 병원").address("서울특별시 서초구").phone("02-0000-0000").build()).getId();
+        departmentId = departmentRepository.save(Department.builder().name("알림 내과").build()).getId();
+        userId = userRepository.save(User.builder()
+                .email("dispatch-" + hospitalId + "@test.com")
+                .password("password")
+                .name("알림 환자")
+                .role(User.UserRole.PATIENT)
+                .build()).getId();
+    }
+
+    @Test
+    void eachOutboxEventBecomesExactlyOneNotification() {
+        Long reservationId = reservationService.createReservation(request(LocalTime.of(9, 0)), userId).getId();
+        reservationService.createReservation(request(LocalTime.of(9, 30)), userId);
+        reservationService.cancelReservation(reservationId, userId);
+
+        drain();
+        // 다시 실행해도 이미 발송 표시한 행은 건너뜀
+        assertThat(notificationDispatcher.dispatchBatch()).isZero();
+
+        assertThat(outboxRows()).isEqualTo(3);
+        assertThat(undispatchedRows()).isZero();
+        assertThat(notifications()).isEqualTo(3);
+    }
+
+    @Test
+    void failedBatchLeavesRowsForTheNextBatch() {
+        JdbcTemplate failing = spy(jdbcTemplate);
+        doThrow(new DataAccessResourceFailureException("notifications unavailable"))
+                .when(failing).batchUpdate(anyString(), anyCollection(), anyInt(),
+                        any(ParameterizedPreparedStatementSetter.class));
+        ReflectionTestUtils.setField(notificationDispatcher, "jdbcTemplate", failing);
+        try {
+            // 커밋 후 깨운 발송 작업도 같은 이유로 실패함
+            reservationService.createReservation(request(LocalTime.of(10, 0)), userId);
+            assertThatThrownBy(() -> notificationDispatcher.dispatchBatch())
+                    .isInstanceOf(DataAccessResourceFailureException.class);
+
+            assertThat(undispatchedRows()).isEqualTo(1);
+            assertThat(notifications()).isZero();
+        } finally {
+            ReflectionTestUtils.setField(notificationDispatcher, "jdbcTemplate", jdbcTemplate);
+        }
+
+        drain();
+
+        assertThat(undispatchedRows()).isZero();
+        assertThat(notifications()).isEqualTo(1);
+    }
+
+    @Test
+    void notificationsDispatchedElsewhereReachThisInstancesSubscribersOnce() {
+        NotificationStreamHub hub = mock(NotificationStreamHub.class);
+        when(hub.getConnectionCount()).thenReturn(1);
+        when(hub.hasSubscribers(userId)).thenReturn(true);
+        Object localHub = ReflectionTestUtils.getField(notificationDispatcher, "notificationStreamHub");
+        ReflectionTestUtils.setField(notificationDispatcher, "notificationStreamHub", hub);
+        try {
+            // 이 인스턴스가 발송한 알림은 발송 직후 한 번 전달
+            reservationService.createReservation(request(LocalTime.of(11, 0)), userId);
+            drain();
+            notificationDispatcher.relayDispatchedElsewhere();
+            verify(hub, times(1)).publish(eq(userId), any(NotificationEvent.class));
+
+            // 다른 인스턴스가 발송한 행은 주기적으로 읽어 한 번만 전달
+            Long reservationId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM reservations WHERE user_id = ?",
+                    Long.class, userId);
+            jdbcTemplate.update("INSERT INTO notification_outbox (user_id, reservation_id, event_type, " +
+                    "reservation_date, reservation_time, created_at, dispatched_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    userId, reservationId, "UPDATED", LocalDate.of(2034, 5, 1), LocalTime.of(11, 0),
+                    LocalDateTime.now(), LocalDateTime.now());
+            notificationDispatcher.relayDispatchedElsewhere();
+            notificationDispatcher.relayDispatchedElsewhere();
+            verify(hub, times(1)).publish(eq(userId), argThat(event -> "UPDATED".equals(event.getType())));
+            verify(hub, times(2)).publish(eq(userId), any(NotificationEvent.class));
+        } finally {
+            ReflectionTestUtils.setField(notificationDispatcher, "notificationStreamHub", localHub);
+        }
+    }
+
+    // 다른 테스트가 남긴 행도 함께 발송될 수 있으므로 남은 행이 없을 때까지 반복
+    private void drain() {
+        while (notificationDispatcher.dispatchBatch() > 0) {
+            // 다음 배치
+        }
+    }
+
+    private ReservationRequest request(LocalTime time) {
+        return ReservationRequest.builder()
+                .hospitalId(hospitalId)
+                .departmentId(departmentId)
+                .reservationDate(LocalDate.of(2034, 5, 1).toString())
+                .reservationTime(String.format("%02d:%02d", time.getHour(), time.getMinute()))
+                .reason("알림 테스트")
+                .build();
+    }
+
+    private long outboxRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_outbox WHERE user_id = ?",
+                Long.class, userId);
+    }
+
+    private long undispatchedRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_outbox WHERE user_id = ? " +
+                "AND dispatched_at IS NULL", Long.class, userId);
+    }
+
+    private long notifications() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE user_id = ?",
+                Long.class, userId);
+    }
+}
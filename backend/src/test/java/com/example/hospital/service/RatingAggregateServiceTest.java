@@ -0,0 +1,250 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Hospital;
+import com.example.hospital.domain.User;
+import com.example.hospital.dto.HospitalDto.HospitalListResponse;
+import com.example.hospital.dto.HospitalDto.HospitalResponse;
+import com.example.hospital.dto.HospitalDto.SearchRequest;
+import com.example.hospital.dto.ReviewDto.ReviewRequest;
+import com.example.hospital.repository.HospitalRepository;
+import com.example.hospital.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 평점 집계 재계산과 평점순 검색 확인
+ * - 리뷰 작성이 계속 들어오는 중에 재계산 보정을 반복해도 커밋된 증감분을 잃지 않는지
+ *   (보정 대상을 고르는 스트리밍 조회는 MySQL 전용 fetch size 힌트를 쓰므로 H2에서는 보정 단계만 반복)
+ * - 평점순 검색이 ID순 검색과 같이 LIKE 와일드카드를 문자 그대로 비교하는지
+ * - 리뷰가 없는 병원(JPA로 추가, SQL로 적재)도 0건 집계 행으로 평점순 검색에 나오고 같은 평점을 커서로 넘기는지
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class RatingAggregateServiceTest {
+
+    private static final int WRITERS = 8;
+    private static final int REVIEWS_PER_WRITER = 25;
+
+    @Autowired
+    private RatingAggregateService ratingAggregateService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private HospitalService hospitalService;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private CatalogCacheService catalogCacheService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        userIds = new ArrayList<>();
+        long suffix = System.nanoTime();
+        for (int i = 0; i < WRITERS; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .email("rating-" + suffix + "-" + i + "@test.com")
+                    .password("password")
+                    .name("리뷰어" + i)
+                    .role(User.UserRole.PATIENT)
+                    .build()).getId());
+        }
+    }
+
+    @Test
+    void correctionUnderReviewTrafficKeepsEveryDelta() throws Exception {
+        Long hospitalId = saveHospital("평점 동시성 병원");
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        int[] corrections = new int[1];
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                Long userId = userIds.get(w);
+                Random random = new Random(w);
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < REVIEWS_PER_WRITER; i++) {
+                        try {
+                            reviewService.createReview(ReviewRequest.builder()
+                                    .hospitalId(hospitalId).rating(1 + random.nextInt(5)).content("리뷰").build(),
+                                    userId);
+                        } catch (RuntimeException e) {
+                            errors.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            // 집계를 망가뜨린 뒤 보정 (마지막 동작은 항상 보정)
+            Future<?> rebuilder = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    corrupt(hospitalId);
+                    transactionally(() -> ratingAggregateService.correct(hospitalId));
+                    corrections[0]++;
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(2, TimeUnit.MINUTES);
+            }
+            writing.set(false);
+            rebuilder.get(2, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(errors).isEmpty();
+        assertThat(corrections[0]).isPositive();
+        assertThat(storedAggregate(hospitalId)).isEqualTo(actualAggregate(hospitalId));
+        assertThat(storedAggregate(hospitalId).get("review_count")).isEqualTo((long) WRITERS * REVIEWS_PER_WRITER);
+    }
+
+    @Test
+    void correctRecountsUnderLockInsteadOfUsingTheStreamedValue() {
+        Long hospitalId = saveHospital("평점 보정 병원");
+        reviewService.createReview(ReviewRequest.builder().hospitalId(hospitalId).rating(4).build(), userIds.get(0));
+        corrupt(hospitalId);
+
+        // 재계산 스트리밍 이후에 커밋된 리뷰
+        reviewService.createReview(ReviewRequest.builder().hospitalId(hospitalId).rating(2).build(), userIds.get(1));
+
+        Boolean corrected = transactionally(() -> ratingAggregateService.correct(hospitalId));
+
+        assertThat(corrected).isTrue();
+        assertThat(storedAggregate(hospitalId)).isEqualTo(actualAggregate(hospitalId));
+        assertThat(storedAggregate(hospitalId).get("review_count")).isEqualTo(2L);
+        assertThat(transactionally(() -> ratingAggregateService.correct(hospitalId))).isFalse();
+    }
+
+    @Test
+    void ratingSortTreatsLikeWildcardsLiterally() {
+        Long percent = saveHospital("평점정렬 100%병원");
+        Long underscore = saveHospital("평점정렬 a_b병원");
+        saveHospital("평점정렬 100x병원");
+        saveHospital("평점정렬 aXb병원");
+        reviewService.createReview(ReviewRequest.builder().hospitalId(underscore).rating(5).build(), userIds.get(0));
+
+        assertThat(ratingSortedIds("평점정렬 100%")).containsExactly(percent);
+        assertThat(ratingSortedIds("평점정렬 a_b")).containsExactly(underscore);
+        assertThat(ratingSortedIds("평점정렬")).hasSize(4).first().isEqualTo(underscore);
+
+        HospitalListResponse counted = hospitalService.searchHospitals(SearchRequest.builder()
+                .name("평점정렬").sort("rating").size(1).includeCount(true).build());
+        assertThat(counted.getMatchedCount()).isEqualTo(4L);
+        HospitalListResponse next = hospitalService.searchHospitals(SearchRequest.builder()
+                .name("평점정렬").sort("rating").size(10).cursor(counted.getNextCursor()).build());
+        assertThat(next.getHospitals()).hasSize(3).extracting(HospitalResponse::getId).doesNotContain(underscore);
+    }
+
+    @Test
+    void ratingSortIncludesHospitalsWithoutReviewsAndPagesThroughTies() {
+        Long first = saveHospital("평점동점 병원 1");
+        Long second = saveHospital("평점동점 병원 2");
+        jdbcTemplate.update("INSERT INTO hospitals (name, address, phone) VALUES (?, ?, ?)",
+                "평점동점 적재 병원", "서울특별시 종로구", "02-0000-0000");
+        Long loaded = jdbcTemplate.queryForObject("SELECT MAX(id) FROM hospitals", Long.class);
+        Long rated = saveHospital("평점동점 리뷰 병원");
+        reviewService.createReview(ReviewRequest.builder().hospitalId(rated).rating(3).build(), userIds.get(0));
+
+        // JPA로 추가한 병원은 같은 트랜잭션에서 0건 집계 행이 생기고, 같은 평점은 ID 내림차순
+        assertThat(summaryCount(first, second, loaded)).isEqualTo(2);
+        assertThat(ratingSortedIds("평점동점")).containsExactly(rated, second, first);
+
+        // SQL로 직접 넣은 병원은 캐시를 비울 때 집계 행이 생겨 검색에 나옴
+        catalogCacheService.evictAll();
+        assertThat(summaryCount(first, second, loaded)).isEqualTo(3);
+        assertThat(ratingSortedIds("평점동점")).containsExactly(rated, loaded, second, first);
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            HospitalListResponse page = hospitalService.searchHospitals(SearchRequest.builder()
+                    .name("평점동점").sort("rating").size(1).cursor(cursor).build());
+            page.getHospitals().forEach(hospital -> walked.add(hospital.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(walked).containsExactly(rated, loaded, second, first);
+    }
+
+    private Integer summaryCount(Long... hospitalIds) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM hospital_rating_summaries " +
+                "WHERE hospital_id IN (?, ?, ?)", Integer.class, (Object[]) hospitalIds);
+    }
+
+    private List<Long> ratingSortedIds(String name) {
+        return hospitalService.searchHospitals(SearchRequest.builder().name(name).sort("rating").size(50).build())
+                .getHospitals().stream().map(HospitalResponse::getId).collect(Collectors.toList());
+    }
+
+    private Long saveHospital(String name) {
+        return hospitalRepository.save(Hospital.builder()
+                .name(name).address("서울특별시 종로구").phone("02-0000-0000").build()).getId();
+    }
+
+    private void corrupt(Long hospitalId) {
+        jdbcTemplate.update("UPDATE hospital_rating_summaries SET review_count = review_count - 1000 " +
+                "WHERE hospital_id = ?", hospitalId);
+    }
+
+    private Map<String, Object> storedAggregate(Long hospitalId) {
+        return jdbcTemplate.queryForMap("SELECT review_count, rating_sum, rating1_count, rating2_count, " +
+                "rating3_count, rating4_count, rating5_count FROM hospital_rating_summaries WHERE hospital_id = ?",
+                hospitalId);
+    }
+
+    private Map<String, Object> actualAggregate(Long hospitalId) {
+        return jdbcTemplate.queryForMap("SELECT COUNT(*) AS review_count, SUM(rating) AS rating_sum, " +
+                "SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END) AS rating1_count, " +
+                "SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END) AS rating2_count, " +
+                "SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END) AS rating3_count, " +
+                "SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END) AS rating4_count, " +
+                "SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END) AS rating5_count " +
+                "FROM reviews WHERE hospital_id = ?", hospitalId);
+    }
+
+    private <T> T transactionally(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Department;
+import com.example.hospital.domain.Hospital;
+import com.example.hospital.domain.ReservationSlotClaim;
+import com.example.hospital.domain.User;
+import com.example.hospital.dto.ReservationDto.ReservationRequest;
+import com.example.hospital.repository.DepartmentRepository;
+import com.example.hospital.repository.HospitalRepository;
+import com.example.hospital.repository.ReservationSlotClaimRepository;
+import com.example.hospital.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 슬롯/서로 다른 슬롯에 동시 예약을 몰아 중복 예약이 없는지와 처리량 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class ReservationConcurrencyTest {
+    private static final Logger logger = LoggerFactory.getLogger(ReservationConcurrencyTest.class);
+
+    private static final int THREADS = 64;
+    private static final int ATTEMPTS = 2000;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationSlotClaimBackfill reservationSlotClaimBackfill;
+
+    @Autowired
+    private ReservationSlotClaimRepository reservationSlotClaimRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long hospitalId;
+    private Long departmentId;
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        hospitalId = hospitalRepository.save(Hospital.builder()
+                .name("동시성 병원").address("서울특별시 강남구").phone("02-0000-0000").build()).getId();
+        departmentId = departmentRepository.save(Department.builder().name("동시성 내과").build()).getId();
+
+        userIds = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .email("concurrency-" + hospitalId + "-" + i + "@test.com")
+                    .password("password")
+                    .name("환자" + i)
+                    .role(User.UserRole.PATIENT)
+                    .build()).getId());
+        }
+    }
+
+    @Test
+    void onlyOneBookingWinsTheSameSlot() throws Exception {
+        List<ReservationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            requests.add(request(LocalDate.of(2030, 1, 7), LocalTime.of(10, 0)));
+        }
+
+        Outcome outcome = book(requests);
+
+        assertThat(outcome.unexpected).isEmpty();
+        assertThat(outcome.succeeded.get()).isEqualTo(1);
+        assertThat(outcome.rejected.get()).isEqualTo(ATTEMPTS - 1);
+        assertThat(activeBookingsPerSlot()).allSatisfy(count -> assertThat(count).isEqualTo(1L));
+    }
+
+    @Test
+    void differentSlotsDoNotBlockEachOther() throws Exception {
+        int slots = 500;
+        List<ReservationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            int slot = i % slots;
+            requests.add(request(LocalDate.of(2031, 1, 1).plusDays(slot / 20),
+                    LocalTime.of(9, 0).plusMinutes(15L * (slot % 20))));
+        }
+        Collections.shuffle(requests);
+
+        Outcome outcome = book(requests);
+
+        assertThat(outcome.unexpected).isEmpty();
+        assertThat(outcome.succeeded.get()).isEqualTo(slots);
+        assertThat(outcome.rejected.get()).isEqualTo(ATTEMPTS - slots);
+        assertThat(activeBookingsPerSlot()).hasSize(slots)
+                .allSatisfy(count -> assertThat(count).isEqualTo(1L));
+    }
+
+    @Test
+    void uniqueClaimRejectsSecondReservationWithoutLocks() {
+        String slotKey = ReservationSlotClaim.slotKey(hospitalId, departmentId, null,
+                LocalDate.of(2032, 1, 1), LocalTime.of(9, 0));
+        reservationSlotClaimRepository.saveAndFlush(ReservationSlotClaim.builder()
+                .slotKey(slotKey).reservationId(1L).build());
+
+        assertThatThrownBy(() -> reservationSlotClaimRepository.saveAndFlush(ReservationSlotClaim.builder()
+                .slotKey(slotKey).reservationId(2L).build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void backfillClaimsExistingActiveReservations() {
+        LocalDate date = LocalDate.of(2033, 3, 3);
+        long first = insertReservation(date, LocalTime.of(9, 0), "REQUESTED");
+        long duplicate = insertReservation(date, LocalTime.of(9, 0), "APPROVED");
+        long other = insertReservation(date, LocalTime.of(9, 30), "APPROVED");
+        long canceled = insertReservation(date, LocalTime.of(10, 0), "CANCELED");
+
+        reservationSlotClaimBackfill.backfill();
+
+        assertThat(claimOwner(date, LocalTime.of(9, 0))).isEqualTo(first);
+        assertThat(claimOwner(date, LocalTime.of(9, 30))).isEqualTo(other);
+        assertThat(claimOwner(date, LocalTime.of(10, 0))).isNull();
+        assertThat(claimCount(duplicate)).isZero();
+        assertThat(claimCount(canceled)).isZero();
+
+        // 채운 뒤에는 기존 예약 슬롯에 새 예약이 들어갈 수 없음
+        assertThatThrownBy(() -> reservationService.createReservation(request(date, LocalTime.of(9, 30)),
+                userIds.get(0)))
+                .isInstanceOf(IllegalStateException.class);
+
+        // 다시 실행해도 이미 채운 예약은 건너뜀
+        assertThat(reservationSlotClaimBackfill.backfill()).isZero();
+    }
+
+    private Outcome book(List<ReservationRequest> requests) throws InterruptedException {
+        Outcome outcome = new Outcome();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < requests.size(); i++) {
+                ReservationRequest request = requests.get(i);
+                Long userId = userIds.get(i % userIds.size());
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        reservationService.createReservation(request, userId);
+                        outcome.succeeded.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        outcome.rejected.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        outcome.unexpected.add(e);
+                    }
+                    return null;
+                });
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+            logger.info("{} bookings on {} threads in {} s ({} bookings/s): {} succeeded, {} rejected",
+                    requests.size(), THREADS, String.format("%.2f", seconds),
+                    String.format("%.0f", requests.size() / seconds), outcome.succeeded.get(), outcome.rejected.get());
+            return outcome;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ReservationRequest request(LocalDate date, LocalTime time) {
+        return ReservationRequest.builder()
+                .hospitalId(hospitalId)
+                .departmentId(departmentId)
+                .reservationDate(date.toString())
+                .reservationTime(String.format("%02d:%02d", time.getHour(), time.getMinute()))
+                .reason("동시성 테스트")
+                .build();
+    }
+
+    private List<Long> activeBookingsPerSlot() {
+        return jdbcTemplate.queryForList("SELECT COUNT(*) FROM reservations WHERE hospital_id = ? " +
+                        "AND department_id = ? AND status <> 'CANCELED' GROUP BY reservation_date, reservation_time",
+                Long.class, hospitalId, departmentId);
+    }
+
+    private long insertReservation(LocalDate date, LocalTime time, String status) {
+        jdbcTemplate.update("INSERT INTO reservations (user_id, hospital_id, department_id, reservation_date, " +
+                "reservation_time, status) VALUES (?, ?, ?, ?, ?, ?)", userIds.get(0), hospitalId, departmentId,
+                date, time, status);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM reservations", Long.class);
+    }
+
+    private Long claimOwner(LocalDate date, LocalTime time) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT reservation_id FROM reservation_slot_claims WHERE slot_key = ?",
+                ReservationSlotClaim.slotKey(hospitalId, departmentId, null, date, time));
+        return rows.isEmpty() ? null : ((Number) rows.get(0).get("reservation_id")).longValue();
+    }
+
+    private long claimCount(long reservationId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation_slot_claims WHERE reservation_id = ?",
+                Long.class, reservationId);
+    }
+
+    private static final class Outcome {
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger rejected = new AtomicInteger();
+        private final ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.hospital.service;
+
+import com.example.hospital.domain.Reservation;
+import com.example.hospital.repository.ReservationRepository;
+import com.example.hospital.repository.ReservationRepository.SlotView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlotOccupancyIndexTest {
+
+    private static final LocalDate DATE = LocalDate.now().plusDays(3);
+    private static final LocalTime TIME = LocalTime.of(10, 30);
+
+    private ReservationRepository reservationRepository;
+    private SlotOccupancyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        index = new SlotOccupancyIndex();
+        ReflectionTestUtils.setField(index, "reservationRepository", reservationRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "verify", false);
+
+        when(reservationRepository.findSlotViewsFrom(any(), eq(Reservation.ReservationStatus.CANCELED)))
+                .thenReturn(List.of(new Slot(1L, 2L, 3L, DATE, TIME)));
+        index.warmUp();
+    }
+
+    @Test
+    void freeSlotIsAnsweredWithoutDatabase() {
+        assertThat(index.isTaken(1L, 2L, 3L, DATE, LocalTime.of(11, 0))).isFalse();
+
+        verify(reservationRepository, never())
+                .existsByHospitalIdAndDepartmentIdAndDoctorIdAndReservationDateAndReservationTimeAndStatusNot(
+                        any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void takenSlotIsConfirmedAgainstDatabase() {
+        givenStored(true);
+
+        assertThat(index.isTaken(1L, 2L, 3L, DATE, TIME)).isTrue();
+
+        verifyStoredChecked(1);
+    }
+
+    @Test
+    void slotReleasedElsewhereIsClearedFromIndex() {
+        // 다른 인스턴스에서 취소되어 DB에는 없는 슬롯
+        givenStored(false);
+
+        assertThat(index.isTaken(1L, 2L, 3L, DATE, TIME)).isFalse();
+        assertThat(index.isTaken(1L, 2L, 3L, DATE, TIME)).isFalse();
+
+        // 두 번째 조회는 비워진 인덱스가 DB 없이 답함
+        verifyStoredChecked(1);
+    }
+
+    @Test
+    void verifyModeFallsBackWhenIndexMissedBooking() {
+        ReflectionTestUtils.setField(index, "verify", true);
+        givenStored(true);
+
+        assertThat(index.isTaken(1L, 2L, 3L, DATE, LocalTime.of(11, 0))).isTrue();
+    }
+
+    @Test
+    void pastDaysAreEvicted() {
+        index.occupyAfterCommit(1L, 2L, 3L, DATE.plusDays(1), TIME);
+        assertThat(index.indexedDayCount()).isEqualTo(2);
+
+        index.evictBefore(DATE.plusDays(1));
+
+        assertThat(index.indexedDayCount()).isEqualTo(1);
+
+        // 정리된 날짜는 DB로 대체
+        givenStored(false);
+        assertThat(index.isTaken(1L, 2L, 3L, DATE, LocalTime.of(11, 0))).isFalse();
+        verifyStoredChecked(1);
+    }
+
+    private void givenStored(boolean stored) {
+        when(reservationRepository
+                .existsByHospitalIdAndDepartmentIdAndDoctorIdAndReservationDateAndReservationTimeAndStatusNot(
+                        any(), any(), any(), any(), any(), any()))
+                .thenReturn(stored);
+    }
+
+    private void verifyStoredChecked(int times) {
+        verify(reservationRepository, times(times))
+                .existsByHospitalIdAndDepartmentIdAndDoctorIdAndReservationDateAndReservationTimeAndStatusNot(
+                        any(), any(), any(), any(), any(), any());
+    }
+
+    private record Slot(Long hospitalId, Long departmentId, Long doctorId, LocalDate reservationDate,
+            LocalTime reservationTime) implements SlotView {
+
+        @Override
+        public Long getHospitalId() {
+            return hospitalId;
+        }
+
+        @Override
+        public Long getDepartmentId() {
+            return departmentId;
+        }
+
+        @Override
+        public Long getDoctorId() {
+            return doctorId;
+        }
+
+        @Override
+        public LocalDate getReservationDate() {
+            return reservationDate;
+        }
+
+        @Override
+        public LocalTime getReservationTime() {
+            return reservationTime;
+        }
+    }
+}
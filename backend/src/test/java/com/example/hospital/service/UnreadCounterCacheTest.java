@@ -0,0 +1,109 @@
+package com.example.hospital.service;
+
+import com.example.hospital.repository.NotificationRepository;
+import com.example.hospital.repository.NotificationRepository.UnreadCountView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 미읽음 카운터 적재/보정 중에 들어온 증감을 잃지 않는지, 카운터 수가 최대 크기를 넘지 않는지 확인
+ * (DB 집계 도중 증감이 들어오는 순서를 만들기 위해 저장소를 목으로 대체)
+ */
+class UnreadCounterCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private UnreadCounterCache cache;
+    private NotificationRepository notificationRepository;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        cache = new UnreadCounterCache();
+        ReflectionTestUtils.setField(cache, "notificationRepository", notificationRepository);
+        ReflectionTestUtils.setField(cache, "maxSize", 10);
+    }
+
+    @Test
+    void adjustDuringFirstCountIsNotOverwrittenByTheStaleCount() {
+        // 집계가 새 알림 커밋 전에 끝나고, 커밋 후 증감이 집계 반환 전에 들어온 경우
+        when(notificationRepository.countUnreadByUserId(USER_ID))
+                .thenAnswer(invocation -> {
+                    cache.adjust(USER_ID, 1);
+                    return 5L;
+                })
+                .thenReturn(6L);
+
+        assertThat(cache.get(USER_ID)).isEqualTo(5);
+        assertThat(cache.get(USER_ID)).isEqualTo(6);
+        assertThat(cache.get(USER_ID)).isEqualTo(6);
+    }
+
+    @Test
+    void reconcileKeepsAdjustmentsThatLandDuringTheGroupedCount() {
+        when(notificationRepository.countUnreadByUserId(USER_ID)).thenReturn(3L);
+        assertThat(cache.get(USER_ID)).isEqualTo(3);
+
+        when(notificationRepository.countUnreadByUserIds(any()))
+                .thenAnswer(invocation -> {
+                    cache.adjust(USER_ID, 1);
+                    return List.of(view(USER_ID, 3L));
+                })
+                .thenReturn(List.of(view(USER_ID, 4L)));
+
+        cache.reconcile();
+        assertThat(cache.get(USER_ID)).isEqualTo(4);
+
+        cache.reconcile();
+        assertThat(cache.get(USER_ID)).isEqualTo(4);
+    }
+
+    @Test
+    void reconcileCorrectsDriftWhenNothingChangedDuringTheCount() {
+        when(notificationRepository.countUnreadByUserId(USER_ID)).thenReturn(3L);
+        cache.get(USER_ID);
+        cache.adjust(USER_ID, 5);
+        when(notificationRepository.countUnreadByUserIds(any())).thenReturn(List.of());
+
+        cache.reconcile();
+
+        assertThat(cache.get(USER_ID)).isZero();
+    }
+
+    @Test
+    void counterCountStaysBounded() {
+        when(notificationRepository.countUnreadByUserId(anyLong())).thenReturn(1L);
+
+        for (long userId = 1; userId <= 100; userId++) {
+            cache.get(userId);
+        }
+
+        Map<?, ?> counters = (Map<?, ?>) ReflectionTestUtils.getField(cache, "counters");
+        assertThat(counters).hasSizeLessThanOrEqualTo(10);
+        assertThat(cache.get(100L)).isEqualTo(1);
+    }
+
+    private UnreadCountView view(Long userId, Long unreadCount) {
+        return new UnreadCountView() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getUnreadCount() {
+                return unreadCount;
+            }
+        };
+    }
+}